@@ -34,5 +34,12 @@ public final class Constants {
         private Page() {}
     }
 
+    public static final class Cache {
+        public static final String DEFAULT_SPEC = "default";
+        public static final String RECIPE_DETAIL = "recipeDetail";
+
+        private Cache() {}
+    }
+
     private Constants() {}
 }
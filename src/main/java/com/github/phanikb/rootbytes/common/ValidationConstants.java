@@ -17,6 +17,8 @@ public final class ValidationConstants {
     public static final int MAX_SUBSCRIBED_EVENTS = 10;
     public static final int MAX_INGREDIENTS = 20;
     public static final int MAX_INSTRUCTIONS = 30;
+    public static final int MAX_BROADCAST_RECIPIENTS = 10_000;
+    public static final int MAX_DEDUP_KEY_LENGTH = 100;
 
     private ValidationConstants() {}
 
@@ -35,6 +37,7 @@ public final class ValidationConstants {
         public static final String TYPE_REQUIRED = "Type" + REQUIRED;
         public static final String ACTION_REQUIRED = "Action" + REQUIRED;
         public static final String USER_REQUIRED = "User" + REQUIRED;
+        public static final String RECIPIENTS_REQUIRED = "Recipients are required";
 
         public static final String TITLE_TOO_LONG = "Title must not exceed " + SIZE_M + CHARS;
         public static final String NAME_TOO_LONG = "Name must not exceed " + SIZE_M + CHARS;
@@ -49,6 +52,9 @@ public final class ValidationConstants {
         public static final String DATA_TOO_LONG = "Data must not exceed " + SIZE_XL + CHARS;
         public static final String CONFIG_VALUE_TOO_LONG = "Value must not exceed " + SIZE_M + CHARS;
         public static final String ABBREVIATION_TOO_LONG = "Abbreviation must not exceed " + SIZE_XS + CHARS;
+        public static final String TOO_MANY_RECIPIENTS =
+                "Recipients must not exceed " + MAX_BROADCAST_RECIPIENTS + " users";
+        public static final String DEDUP_KEY_TOO_LONG = "Dedup key must not exceed " + MAX_DEDUP_KEY_LENGTH + CHARS;
 
         public static final String MUST_BE_POSITIVE = " must be positive";
         public static final String MUST_BE_POSITIVE_OR_ZERO = " must be zero or positive";
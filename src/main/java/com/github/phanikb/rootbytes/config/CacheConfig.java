@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.config;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import com.github.phanikb.rootbytes.common.Constants;
+
+/**
+ * Builds one Caffeine cache per entry in {@code rootbytes.cache.specs}. The manager is transaction-aware, so a
+ * {@code @CacheEvict} inside a transaction takes effect only after commit; a reader racing the write can no longer
+ * reload the old row into the cache before the new one is visible.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(CacheSpecProperties cacheSpecProperties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setTransactionAware(true);
+        cacheSpecProperties.getSpecs().forEach((name, spec) -> {
+            if (Constants.Cache.DEFAULT_SPEC.equals(name)) {
+                cacheManager.setCacheSpecification(spec);
+            } else {
+                cacheManager.registerCustomCache(name, Caffeine.from(spec).build());
+            }
+        });
+        return cacheManager;
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import lombok.Data;
+
+/** Caffeine specifications by cache name; the {@code default} entry applies to caches without their own spec. */
+@Data
+@Component
+@ConfigurationProperties(prefix = "rootbytes.cache")
+@Validated
+public class CacheSpecProperties {
+
+    private Map<String, String> specs = new LinkedHashMap<>();
+}
@@ -28,4 +28,30 @@ public class NotificationArchiveProperties {
     @Min(7)
     @Max(90)
     private int deleteAfterDays = 90;
+
+    @Min(1)
+    @Max(90)
+    private int queueRetentionDays = 7;
+
+    @Min(7)
+    @Max(3650)
+    private int queueHistoryDays = 180;
+
+    private boolean janitorEnabled = true;
+
+    @Min(5)
+    @Max(1440)
+    private int janitorIntervalMinutes = 60;
+
+    @Min(100)
+    @Max(50000)
+    private int chunkSize = 5000;
+
+    @Min(0)
+    @Max(60000)
+    private long chunkPauseMillis = 200;
+
+    @Min(1)
+    @Max(10000)
+    private int maxChunksPerRun = 200;
 }
@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "rootbytes.notification.counts")
+@Validated
+public class NotificationCountProperties {
+
+    private boolean cacheEnabled = true;
+
+    @Min(100)
+    @Max(1_000_000)
+    private long maximumSize = 100_000;
+
+    @Min(1)
+    @Max(1440)
+    private int expireAfterAccessMinutes = 30;
+
+    @Min(1)
+    @Max(1440)
+    private int reconcileIntervalMinutes = 5;
+
+    @Min(10)
+    @Max(1000)
+    private int reconcileBatchSize = 500;
+
+    @Min(1)
+    @Max(1440)
+    private int streamTimeoutMinutes = 30;
+
+    @Min(5)
+    @Max(300)
+    private int streamHeartbeatSeconds = 25;
+
+    @Min(1)
+    @Max(20)
+    private int maxStreamsPerUser = 5;
+}
@@ -0,0 +1,39 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.config;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.github.phanikb.rootbytes.service.delivery.SmsGateway;
+import com.github.phanikb.rootbytes.service.delivery.SmtpSinkServer;
+import com.github.phanikb.rootbytes.service.delivery.StubSmsGateway;
+
+@Slf4j
+@Configuration
+public class NotificationDeliveryConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(SmsGateway.class)
+    public SmsGateway stubSmsGateway(NotificationSmsProperties smsProperties) {
+        log.info("No SMS provider configured; using stub SMS gateway");
+        return new StubSmsGateway(Duration.ofMillis(smsProperties.getStubLatencyMillis()));
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(value = "rootbytes.notification.email.sink-enabled", havingValue = "true")
+    public SmtpSinkServer smtpSinkServer(NotificationEmailProperties emailProperties) throws IOException {
+        return new SmtpSinkServer(emailProperties.getPort());
+    }
+}
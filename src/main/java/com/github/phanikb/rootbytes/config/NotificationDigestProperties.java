@@ -43,6 +43,18 @@ public class NotificationDigestProperties {
     @Max(23)
     private int monthlyHour = 6;
 
+    @Min(0)
+    @Max(720)
+    private int windowMinutes = 120;
+
+    @Min(2)
+    @Max(200)
+    private int maxItemsPerDigest = 50;
+
+    @Min(50)
+    @Max(5000)
+    private int coalesceBatchSize = 1000;
+
     public static final class DigestDefaults {
         public static final int HOUR = 8;
         public static final int MINUTE = 0;
@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "rootbytes.notification.email")
+@Validated
+public class NotificationEmailProperties {
+
+    private boolean enabled = false;
+
+    @NotBlank
+    private String fromAddress = "no-reply@rootbytes.local";
+
+    @NotBlank
+    private String host = "localhost";
+
+    @Min(1)
+    @Max(65_535)
+    private int port = 1025;
+
+    private boolean pipelining = true;
+
+    @Min(1)
+    @Max(32)
+    private int maxConnections = 4;
+
+    @Min(100)
+    @Max(60_000)
+    private int timeoutMillis = 10_000;
+
+    private boolean sinkEnabled = false;
+
+    @Min(0)
+    @Max(100_000)
+    private int ratePerSecond = 0;
+
+    @Min(1)
+    @Max(100_000)
+    private int burst = 50;
+
+    @Min(0)
+    @Max(10_000)
+    private int domainRatePerSecond = 0;
+
+    @Min(1)
+    @Max(10_000)
+    private int domainBurst = 10;
+}
@@ -6,8 +6,11 @@
 
 package com.github.phanikb.rootbytes.config;
 
+import java.lang.management.ManagementFactory;
+
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
@@ -31,6 +34,18 @@ public class NotificationQueueProperties {
     @Max(60)
     private int retryIntervalMinutes = 5;
 
+    @Min(2)
+    @Max(10)
+    private int retryBackoffMultiplier = 2;
+
+    @Min(5)
+    @Max(1440)
+    private int retryMaxIntervalMinutes = 360;
+
+    @Min(0)
+    @Max(100)
+    private int retryJitterPercent = 50;
+
     @Min(1)
     @Max(10)
     private int maxAttempts = 3;
@@ -39,7 +54,106 @@ public class NotificationQueueProperties {
     @Max(100)
     private int maxPerUser = 50;
 
+    private boolean queueInApp = false;
+
     @Min(5)
     @Max(60)
     private int processingIntervalMinutes = 15;
+
+    @Min(5)
+    @Max(3600)
+    private int maintenanceIntervalSeconds = 60;
+
+    @Min(1)
+    @Max(300)
+    private int shutdownDrainSeconds = 20;
+
+    @Min(1)
+    @Max(16)
+    private int workerThreads = 2;
+
+    @Min(30)
+    @Max(3600)
+    private int leaseSeconds = 300;
+
+    @Min(1)
+    @Max(1000)
+    private int maxBatchesPerRun = 100;
+
+    private boolean adaptiveBatching = true;
+
+    @Min(2)
+    @Max(1000)
+    private int maxBatchSize = 200;
+
+    @Min(1)
+    @Max(100)
+    private int batchIncreaseStep = 2;
+
+    @Min(10)
+    @Max(60_000)
+    private long batchTargetLatencyMillis = 2000;
+
+    @Min(0)
+    @Max(100)
+    private int batchMaxFailurePercent = 20;
+
+    @Min(100)
+    @Max(60_000)
+    private long throttleDeferMillis = 1000;
+
+    private boolean dispatchOnEnqueue = true;
+
+    @Min(100)
+    @Max(60_000)
+    private long wheelTickMillis = 1000;
+
+    @Min(16)
+    @Max(8192)
+    private int wheelSize = 512;
+
+    @Min(5)
+    @Max(1440)
+    private int wheelHorizonMinutes = 60;
+
+    @Min(0)
+    @Max(1_000_000)
+    private int dedupCacheSize = 10_000;
+
+    @Min(1)
+    @Max(1440)
+    private int dedupWindowMinutes = 60;
+
+    @Min(1)
+    @Max(100)
+    private int criticalLaneWeight = 8;
+
+    @Min(1)
+    @Max(100)
+    private int highLaneWeight = 4;
+
+    @Min(1)
+    @Max(100)
+    private int mediumLaneWeight = 2;
+
+    @Min(1)
+    @Max(100)
+    private int lowLaneWeight = 1;
+
+    @Min(1)
+    @Max(1440)
+    private int laneStarvationWarnMinutes = 15;
+
+    private boolean quotaCountersEnabled = true;
+
+    @Min(1)
+    @Max(1440)
+    private int quotaReconcileMinutes = 10;
+
+    @Min(1)
+    @Max(3600)
+    private int metricsRefreshSeconds = 120;
+
+    @NotBlank
+    private String nodeId = ManagementFactory.getRuntimeMXBean().getName();
 }
@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "rootbytes.notification.sms")
+@Validated
+public class NotificationSmsProperties {
+
+    private boolean enabled = false;
+
+    @Min(1)
+    @Max(256)
+    private int maxConcurrency = 8;
+
+    @Min(0)
+    @Max(30_000)
+    private int stubLatencyMillis = 0;
+
+    @Min(0)
+    @Max(10_000)
+    private int ratePerSecond = 0;
+
+    @Min(1)
+    @Max(10_000)
+    private int burst = 20;
+}
@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "rootbytes.outbox")
+@Validated
+public class OutboxProperties {
+
+    private boolean enabled = true;
+
+    private boolean relayOnCommit = true;
+
+    @Min(10)
+    @Max(1000)
+    private int batchSize = 200;
+
+    @Min(1)
+    @Max(1000)
+    private int maxBatchesPerRun = 50;
+
+    @Min(500)
+    @Max(60_000)
+    private long pollIntervalMillis = 5000;
+
+    @Min(1)
+    @Max(720)
+    private int retentionHours = 72;
+
+    @Min(1)
+    @Max(100)
+    private int maxAttempts = 5;
+}
@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "rootbytes.pagination")
+@Validated
+public class PaginationProperties {
+
+    @Min(0)
+    private int defaultPageNumber = 0;
+
+    @Min(1)
+    @Max(500)
+    private int defaultPageSize = 20;
+
+    @Min(1)
+    @Max(500)
+    private int maxPageSize = 50;
+
+    @Min(1)
+    @Max(3600)
+    private int totalCacheSeconds = 60;
+
+    @Min(10)
+    @Max(100_000)
+    private long totalCacheMaximumSize = 1000;
+
+    public int clampPageSize(int requested) {
+        return requested < 1 ? defaultPageSize : Math.min(requested, maxPageSize);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.config;
+
+import java.lang.management.ManagementFactory;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "rootbytes.scheduler.lock")
+@Validated
+public class SchedulerLockProperties {
+
+    private boolean enabled = true;
+
+    @Min(10)
+    @Max(3600)
+    private int leaseSeconds = 120;
+
+    @Min(1)
+    @Max(1200)
+    private int heartbeatSeconds = 30;
+
+    @NotBlank
+    private String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+
+    @AssertTrue(message = "heartbeat-seconds must be less than lease-seconds, or a lease can lapse between heartbeats")
+    public boolean isHeartbeatWithinLease() {
+        return heartbeatSeconds < leaseSeconds;
+    }
+}
@@ -8,12 +8,14 @@ package com.github.phanikb.rootbytes.controller.v1;
 
 import java.util.UUID;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import lombok.RequiredArgsConstructor;
 
@@ -32,6 +34,11 @@ public class NotificationController {
         return ResponseEntity.ok(notificationService.getNotificationCounts(userId));
     }
 
+    @GetMapping(path = "/{userId}/counts/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotificationCounts(@PathVariable UUID userId) {
+        return notificationService.streamNotificationCounts(userId);
+    }
+
     @PostMapping("/{userId}/read")
     public ResponseEntity<NotificationCountResponse> markAllAsRead(@PathVariable UUID userId) {
         return ResponseEntity.ok(notificationService.markAllAsRead(userId));
@@ -23,12 +23,16 @@ import org.springframework.web.bind.annotation.RestController;
 
 import lombok.RequiredArgsConstructor;
 
+import com.github.phanikb.rootbytes.dto.v1.request.BroadcastRequest;
 import com.github.phanikb.rootbytes.dto.v1.request.NotificationQueueRequest;
+import com.github.phanikb.rootbytes.dto.v1.response.BroadcastResponse;
 import com.github.phanikb.rootbytes.dto.v1.response.NotificationQueueResponse;
+import com.github.phanikb.rootbytes.dto.v1.response.QueueLaneResponse;
 import com.github.phanikb.rootbytes.dto.v1.response.RbApiResponse;
 import com.github.phanikb.rootbytes.enums.notification.NotificationChannel;
 import com.github.phanikb.rootbytes.enums.notification.QueueStatus;
 import com.github.phanikb.rootbytes.service.NotificationQueueService;
+import com.github.phanikb.rootbytes.service.NotificationService;
 
 @RestController
 @RequestMapping("/notification-queue")
@@ -36,6 +40,7 @@ import com.github.phanikb.rootbytes.service.NotificationQueueService;
 public class NotificationQueueController {
 
     private final NotificationQueueService queueService;
+    private final NotificationService notificationService;
 
     @PostMapping
     public ResponseEntity<RbApiResponse<NotificationQueueResponse>> enqueue(
@@ -44,6 +49,12 @@ public class NotificationQueueController {
         return ResponseEntity.status(HttpStatus.CREATED).body(RbApiResponse.success("Notification queued", response));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<RbApiResponse<BroadcastResponse>> broadcast(@Valid @RequestBody BroadcastRequest request) {
+        BroadcastResponse response = notificationService.createNotifications(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(RbApiResponse.success("Notifications created", response));
+    }
+
     @GetMapping("/user/{userId}")
     public ResponseEntity<RbApiResponse<List<NotificationQueueResponse>>> getQueueForUser(
             @PathVariable UUID userId, @RequestParam(value = "status", required = false) QueueStatus status) {
@@ -57,4 +68,9 @@ public class NotificationQueueController {
         List<NotificationQueueResponse> due = queueService.getDueNotifications(channel);
         return ResponseEntity.ok(RbApiResponse.success(due));
     }
+
+    @GetMapping("/lanes")
+    public ResponseEntity<RbApiResponse<List<QueueLaneResponse>>> getLaneStats() {
+        return ResponseEntity.ok(RbApiResponse.success(queueService.getLaneStats()));
+    }
 }
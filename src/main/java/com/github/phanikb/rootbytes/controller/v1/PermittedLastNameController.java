@@ -30,6 +30,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import lombok.RequiredArgsConstructor;
 
@@ -40,7 +41,9 @@ import com.github.phanikb.rootbytes.dto.v1.response.PermittedLastNameResponse;
 import com.github.phanikb.rootbytes.dto.v1.response.RbApiResponse;
 import com.github.phanikb.rootbytes.entity.PermittedLastName;
 import com.github.phanikb.rootbytes.mapper.PermittedLastNameMapper;
+import com.github.phanikb.rootbytes.repository.CatalogVersion;
 import com.github.phanikb.rootbytes.service.PermittedLastNameService;
+import com.github.phanikb.rootbytes.util.HttpCaching;
 
 @RestController
 @RequestMapping("/permitted-lastnames")
@@ -51,12 +54,15 @@ public class PermittedLastNameController {
     private final PermittedLastNameMapper mapper;
 
     @GetMapping
-    public ResponseEntity<RbApiResponse<List<PermittedLastNameResponse>>> getAllActiveLastNames() {
+    public ResponseEntity<RbApiResponse<List<PermittedLastNameResponse>>> getAllActiveLastNames(WebRequest request) {
+        if (request.checkNotModified(catalogEtag("/"))) {
+            return HttpCaching.notModified();
+        }
         List<PermittedLastNameResponse> lastNames = validLastNameService.getAllActiveLastNames().stream()
                 .map(mapper::toResponse)
                 .toList();
 
-        return ResponseEntity.ok(RbApiResponse.success(lastNames));
+        return HttpCaching.ok(RbApiResponse.success(lastNames));
     }
 
     @GetMapping("/paginated")
@@ -94,19 +100,25 @@ public class PermittedLastNameController {
     }
 
     @GetMapping("/category/{category}")
-    public ResponseEntity<RbApiResponse<List<PermittedLastNameResponse>>> getByCategory(@PathVariable String category) {
-
+    public ResponseEntity<RbApiResponse<List<PermittedLastNameResponse>>> getByCategory(
+            @PathVariable String category, WebRequest request) {
+        if (request.checkNotModified(catalogEtag("/category/" + category))) {
+            return HttpCaching.notModified();
+        }
         List<PermittedLastNameResponse> lastNames = validLastNameService.getByCategory(category).stream()
                 .map(mapper::toResponse)
                 .toList();
 
-        return ResponseEntity.ok(RbApiResponse.success(lastNames));
+        return HttpCaching.ok(RbApiResponse.success(lastNames));
     }
 
     @GetMapping("/categories")
-    public ResponseEntity<RbApiResponse<List<String>>> getAllCategories() {
+    public ResponseEntity<RbApiResponse<List<String>>> getAllCategories(WebRequest request) {
+        if (request.checkNotModified(catalogEtag("/categories"))) {
+            return HttpCaching.notModified();
+        }
         List<String> categories = validLastNameService.getAllCategories();
-        return ResponseEntity.ok(RbApiResponse.success(categories));
+        return HttpCaching.ok(RbApiResponse.success(categories));
     }
 
     @GetMapping("/validation-status")
@@ -163,4 +175,10 @@ public class PermittedLastNameController {
         validLastNameService.deleteLastName(id);
         return ResponseEntity.ok(RbApiResponse.success("Last name deleted successfully"));
     }
+
+    /** Tagged per endpoint with the catalog version; see {@link UnitController} for why there is no Last-Modified. */
+    private String catalogEtag(String endpoint) {
+        CatalogVersion version = validLastNameService.getCatalogVersion();
+        return HttpCaching.etag("permitted-lastnames", endpoint, version.getCount(), version.getLastModified());
+    }
 }
@@ -10,6 +10,7 @@ import java.util.UUID;
 
 import jakarta.validation.Valid;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -21,21 +22,28 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import com.github.phanikb.rootbytes.dto.v1.request.RecipeRequest;
+import com.github.phanikb.rootbytes.dto.v1.response.CursorPageResponse;
 import com.github.phanikb.rootbytes.dto.v1.response.PagedResponse;
 import com.github.phanikb.rootbytes.dto.v1.response.RbApiResponse;
 import com.github.phanikb.rootbytes.dto.v1.response.RecipeDetailResponse;
 import com.github.phanikb.rootbytes.dto.v1.response.RecipeResponse;
+import com.github.phanikb.rootbytes.dto.v1.response.RecipeSummaryResponse;
 import com.github.phanikb.rootbytes.entity.Recipe;
 import com.github.phanikb.rootbytes.entity.UserEntity;
 import com.github.phanikb.rootbytes.mapper.RecipeMapper;
+import com.github.phanikb.rootbytes.repository.RecipeRepository.RecipeSummary;
 import com.github.phanikb.rootbytes.security.RbCurrentUser;
+import com.github.phanikb.rootbytes.service.RecipeDetailCache;
 import com.github.phanikb.rootbytes.service.RecipeService;
+import com.github.phanikb.rootbytes.util.HttpCaching;
 
 @Slf4j
 @RestController
@@ -45,16 +53,17 @@ public class RecipeController {
 
     private final RecipeService recipeService;
     private final RecipeMapper recipeMapper;
+    private final RecipeDetailCache recipeDetailCache;
 
     @GetMapping
-    public ResponseEntity<RbApiResponse<PagedResponse<RecipeResponse>>> getAllRecipes(
+    public ResponseEntity<RbApiResponse<PagedResponse<RecipeSummaryResponse>>> getAllRecipes(
             @RbCurrentUser UserEntity user, Pageable pageable) {
         log.debug("Fetching all recipes");
 
-        Page<Recipe> recipes = recipeService.getPublishedRecipes(user, pageable);
-        Page<RecipeResponse> responsePage = recipes.map(recipeMapper::toResponse);
+        Page<RecipeSummary> recipes = recipeService.getPublishedRecipeSummaries(user, pageable);
+        Page<RecipeSummaryResponse> responsePage = recipes.map(recipeMapper::toSummaryResponse);
 
-        PagedResponse<RecipeResponse> pagedResponse = PagedResponse.of(
+        PagedResponse<RecipeSummaryResponse> pagedResponse = PagedResponse.of(
                 responsePage.getContent(),
                 responsePage.getNumber(),
                 responsePage.getSize(),
@@ -64,14 +73,48 @@ public class RecipeController {
         return ResponseEntity.ok(RbApiResponse.success("Recipes retrieved successfully", pagedResponse));
     }
 
+    @GetMapping("/feed")
+    public ResponseEntity<RbApiResponse<CursorPageResponse<RecipeSummaryResponse>>> getRecipeFeed(
+            @RbCurrentUser UserEntity user,
+            @RequestParam(required = false) @Nullable String after,
+            @RequestParam(defaultValue = "#{${rb.pagination.default-page-size:20}}") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        log.debug("Fetching recipe feed");
+
+        CursorPageResponse<RecipeSummaryResponse> feed = recipeService
+                .getPublishedRecipeFeed(user, after, size, withTotal)
+                .map(recipeMapper::toSummaryResponse);
+
+        return ResponseEntity.ok(RbApiResponse.success("Recipes retrieved successfully", feed));
+    }
+
+    @GetMapping("/family/{lastName}")
+    public ResponseEntity<RbApiResponse<CursorPageResponse<RecipeSummaryResponse>>> getFamilyRecipeFeed(
+            @PathVariable String lastName,
+            @RequestParam(required = false) @Nullable String after,
+            @RequestParam(defaultValue = "#{${rb.pagination.default-page-size:20}}") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        log.debug("Fetching family recipe feed");
+
+        CursorPageResponse<RecipeSummaryResponse> feed = recipeService
+                .getFamilyRecipeFeed(lastName, after, size, withTotal)
+                .map(recipeMapper::toSummaryResponse);
+
+        return ResponseEntity.ok(RbApiResponse.success("Recipes retrieved successfully", feed));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<RbApiResponse<RecipeDetailResponse>> getRecipeById(@PathVariable UUID id) {
+    public ResponseEntity<RbApiResponse<RecipeDetailResponse>> getRecipeById(
+            @PathVariable UUID id, WebRequest request) {
         log.debug("Fetching recipe with id: {}", id);
 
-        Recipe recipe = recipeService.getRecipeById(id);
-        RecipeDetailResponse response = recipeMapper.toDetailResponse(recipe);
+        RecipeDetailResponse response = recipeDetailCache.getRecipeDetail(id);
+        String etag = HttpCaching.etag(response.getId(), response.getVersion(), response.getUpdatedAt());
+        if (request.checkNotModified(etag, HttpCaching.lastModified(response.getUpdatedAt()))) {
+            return HttpCaching.notModified();
+        }
 
-        return ResponseEntity.ok(RbApiResponse.success("Recipe retrieved successfully", response));
+        return HttpCaching.ok(RbApiResponse.success("Recipe retrieved successfully", response));
     }
 
     @PostMapping
@@ -21,6 +21,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import lombok.RequiredArgsConstructor;
 
@@ -31,7 +32,9 @@ import com.github.phanikb.rootbytes.dto.v1.response.UnitResponse;
 import com.github.phanikb.rootbytes.entity.Unit;
 import com.github.phanikb.rootbytes.enums.UnitType;
 import com.github.phanikb.rootbytes.mapper.UnitMapper;
+import com.github.phanikb.rootbytes.repository.CatalogVersion;
 import com.github.phanikb.rootbytes.service.UnitService;
+import com.github.phanikb.rootbytes.util.HttpCaching;
 
 @RestController
 @RequestMapping("/units")
@@ -42,23 +45,34 @@ public class UnitController {
     private final UnitMapper mapper;
 
     @GetMapping
-    public ResponseEntity<RbApiResponse<List<UnitResponse>>> getAllActiveUnits() {
+    public ResponseEntity<RbApiResponse<List<UnitResponse>>> getAllActiveUnits(WebRequest request) {
+        if (request.checkNotModified(catalogEtag("/"))) {
+            return HttpCaching.notModified();
+        }
         List<UnitResponse> units =
                 service.getAllActiveUnits().stream().map(mapper::toResponse).toList();
-        return ResponseEntity.ok(RbApiResponse.success(units));
+        return HttpCaching.ok(RbApiResponse.success(units));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<RbApiResponse<UnitResponse>> getUnitById(@PathVariable UUID id) {
+    public ResponseEntity<RbApiResponse<UnitResponse>> getUnitById(@PathVariable UUID id, WebRequest request) {
         Unit unit = service.getUnitById(id);
-        return ResponseEntity.ok(RbApiResponse.success(mapper.toResponse(unit)));
+        if (request.checkNotModified(
+                HttpCaching.etag(unit.getId(), unit.getUpdatedAt()), HttpCaching.lastModified(unit.getUpdatedAt()))) {
+            return HttpCaching.notModified();
+        }
+        return HttpCaching.ok(RbApiResponse.success(mapper.toResponse(unit)));
     }
 
     @GetMapping("/type/{type}")
-    public ResponseEntity<RbApiResponse<List<UnitResponse>>> getUnitsByType(@PathVariable UnitType type) {
+    public ResponseEntity<RbApiResponse<List<UnitResponse>>> getUnitsByType(
+            @PathVariable UnitType type, WebRequest request) {
+        if (request.checkNotModified(catalogEtag("/type/" + type))) {
+            return HttpCaching.notModified();
+        }
         List<UnitResponse> units =
                 service.getUnitsByType(type).stream().map(mapper::toResponse).toList();
-        return ResponseEntity.ok(RbApiResponse.success(units));
+        return HttpCaching.ok(RbApiResponse.success(units));
     }
 
     @PostMapping
@@ -90,4 +104,14 @@ public class UnitController {
         service.activateUnit(id);
         return ResponseEntity.ok(RbApiResponse.success("Unit activated successfully"));
     }
+
+    /**
+     * List responses are tagged with the catalog version plus the endpoint and its path variable, so a tag from one
+     * list is never accepted by another. No Last-Modified: a hard delete can move the newest {@code updated_at}
+     * backwards, which the date comparison would miss.
+     */
+    private String catalogEtag(String endpoint) {
+        CatalogVersion version = service.getCatalogVersion();
+        return HttpCaching.etag("units", endpoint, version.getCount(), version.getLastModified());
+    }
 }
@@ -19,10 +19,13 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import com.github.phanikb.rootbytes.enums.notification.NotificationChannel;
+import com.github.phanikb.rootbytes.enums.notification.NotificationFrequency;
 import com.github.phanikb.rootbytes.enums.notification.NotificationPriority;
 import com.github.phanikb.rootbytes.enums.notification.NotificationType;
 
+import static com.github.phanikb.rootbytes.common.ValidationConstants.MAX_DEDUP_KEY_LENGTH;
 import static com.github.phanikb.rootbytes.common.ValidationConstants.Messages.DATA_TOO_LONG;
+import static com.github.phanikb.rootbytes.common.ValidationConstants.Messages.DEDUP_KEY_TOO_LONG;
 import static com.github.phanikb.rootbytes.common.ValidationConstants.Messages.MESSAGE_REQUIRED;
 import static com.github.phanikb.rootbytes.common.ValidationConstants.Messages.MESSAGE_TOO_LONG;
 import static com.github.phanikb.rootbytes.common.ValidationConstants.Messages.REQUIRED;
@@ -65,4 +68,9 @@ public class NotificationQueueRequest {
     private NotificationChannel channel;
 
     private Instant scheduledFor;
+
+    private NotificationFrequency digestFrequency;
+
+    @Size(max = MAX_DEDUP_KEY_LENGTH, message = DEDUP_KEY_TOO_LONG)
+    private String dedupKey;
 }
@@ -0,0 +1,21 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.dto.v1.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class BroadcastResponse {
+    int requested;
+    int unknownUsers;
+    int optedOut;
+    int created;
+    int queued;
+    int overQuota;
+}
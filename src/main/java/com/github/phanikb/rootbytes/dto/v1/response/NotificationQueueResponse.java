@@ -33,4 +33,5 @@ public class NotificationQueueResponse {
     Instant scheduledFor;
     Instant createdAt;
     Instant processedAt;
+    Instant nextAttemptAt;
 }
@@ -0,0 +1,24 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.dto.v1.response;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Value;
+
+import com.github.phanikb.rootbytes.enums.notification.NotificationPriority;
+
+@Value
+@Builder
+public class QueueLaneResponse {
+    NotificationPriority priority;
+    int weight;
+    long depth;
+    Instant oldestScheduledFor;
+    long oldestAgeSeconds;
+}
@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.dto.v1.response;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Recipe card served by the list and feed endpoints. It carries only the columns those endpoints read; the
+ * description, story, ingredients and instructions come from {@code GET /recipes/{id}}.
+ */
+@Builder
+@Getter
+@Setter
+public class RecipeSummaryResponse {
+    private UUID id;
+    private UUID authorId;
+    private String authorName;
+    private String title;
+    private Integer version;
+    private String status;
+    private Boolean isCurrentVersion;
+    private Boolean isPrivate;
+    private Integer prepTimeMinutes;
+    private Integer cookTimeMinutes;
+    private Integer servings;
+    private String difficulty;
+    private String cuisine;
+    private String category;
+    private Instant createdAt;
+    private Instant updatedAt;
+    private Instant publishedAt;
+}
@@ -32,6 +32,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import com.github.phanikb.rootbytes.enums.notification.NotificationChannel;
+import com.github.phanikb.rootbytes.enums.notification.NotificationFrequency;
 import com.github.phanikb.rootbytes.enums.notification.NotificationPriority;
 import com.github.phanikb.rootbytes.enums.notification.NotificationType;
 import com.github.phanikb.rootbytes.enums.notification.QueueStatus;
@@ -98,6 +99,10 @@ public class NotificationQueue {
     @Nullable
     private Instant lastAttemptAt;
 
+    @Column(name = "next_attempt_at")
+    @Nullable
+    private Instant nextAttemptAt;
+
     @Column(name = "error_message", columnDefinition = "TEXT")
     @Nullable
     private String errorMessage;
@@ -110,13 +115,56 @@ public class NotificationQueue {
     @Nullable
     private Instant processedAt;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "digest_frequency", length = 20)
+    @Nullable
+    private NotificationFrequency digestFrequency;
+
+    @Column(name = "coalesced_into")
+    @Nullable
+    private UUID coalescedInto;
+
+    @Column(name = "dedup_key", length = 100)
+    @Nullable
+    private String dedupKey;
+
+    @Column(name = "lease_owner", length = 100)
+    @Nullable
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    @Nullable
+    private Instant leaseExpiresAt;
+
     @SuppressWarnings("PMD.NullAssignment")
     public void resetLastAttemptAt() {
         this.lastAttemptAt = null;
     }
 
+    @SuppressWarnings("PMD.NullAssignment")
+    public void resetNextAttemptAt() {
+        this.nextAttemptAt = null;
+    }
+
+    /** A dead-lettered row gives up its dedup key, so the caller can queue the same notification again. */
+    @SuppressWarnings("PMD.NullAssignment")
+    public void releaseDedupKey() {
+        this.dedupKey = null;
+    }
+
     @SuppressWarnings("PMD.NullAssignment")
     public void resetErrorMessage() {
         this.errorMessage = null;
     }
+
+    @SuppressWarnings("PMD.NullAssignment")
+    public void resetDigestFrequency() {
+        this.digestFrequency = null;
+    }
+
+    @SuppressWarnings("PMD.NullAssignment")
+    public void releaseLease() {
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
+    }
 }
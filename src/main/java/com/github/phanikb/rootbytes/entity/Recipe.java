@@ -25,11 +25,17 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.OrderBy;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -45,8 +51,21 @@ import lombok.ToString;
 import com.github.phanikb.rootbytes.enums.RecipeDifficulty;
 import com.github.phanikb.rootbytes.enums.RecipeStatus;
 
+/**
+ * Entity graph for the detail read: {@code Recipe.detail} joins the to-one associations and ingredients with their
+ * units. Both collections are lists, so only one of them can be joined per query; instructions are loaded in batches
+ * instead. List pages read {@code RecipeRepository.RecipeSummary} projections and need no graph.
+ */
 @Entity
 @Table(name = "recipes")
+@NamedEntityGraph(
+        name = Recipe.DETAIL_GRAPH,
+        attributeNodes = {
+            @NamedAttributeNode("author"),
+            @NamedAttributeNode("dietaryInfo"),
+            @NamedAttributeNode(value = "ingredients", subgraph = "ingredientUnits")
+        },
+        subgraphs = @NamedSubgraph(name = "ingredientUnits", attributeNodes = @NamedAttributeNode("unit")))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -56,6 +75,9 @@ import com.github.phanikb.rootbytes.enums.RecipeStatus;
 @ToString(exclude = {"ingredients", "instructions", "author"})
 public class Recipe {
 
+    public static final String DETAIL_GRAPH = "Recipe.detail";
+    private static final int COLLECTION_BATCH_SIZE = 50;
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     @EqualsAndHashCode.Include
@@ -119,11 +141,13 @@ public class Recipe {
     private String category;
 
     @OneToMany(mappedBy = "recipe", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @Builder.Default
     private List<Ingredient> ingredients = new ArrayList<>();
 
     @OneToMany(mappedBy = "recipe", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("stepNumber")
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @Builder.Default
     private List<Instruction> instructions = new ArrayList<>();
 
@@ -141,6 +165,15 @@ public class Recipe {
     @Column(name = "published_at")
     private Instant publishedAt;
 
+    /** Published recipes always carry a publish time, which orders the keyset feeds. */
+    @PrePersist
+    @PreUpdate
+    void stampPublishedAt() {
+        if (status == RecipeStatus.PUBLISHED && publishedAt == null) {
+            publishedAt = Instant.now();
+        }
+    }
+
     public void addIngredient(Ingredient ingredient) {
         ingredients.add(ingredient);
         ingredient.setRecipe(this);
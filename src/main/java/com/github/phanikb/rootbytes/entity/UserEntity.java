@@ -110,6 +110,10 @@ public class UserEntity {
      * @return the formatted display name for the author
      */
     public String getAuthorDisplay() {
+        return authorDisplay(publicName, uniqueName);
+    }
+
+    public static String authorDisplay(@Nullable String publicName, String uniqueName) {
         if (publicName != null && !publicName.trim().isEmpty()) {
             return publicName + " (@" + uniqueName + ")";
         }
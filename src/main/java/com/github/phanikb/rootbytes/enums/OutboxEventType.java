@@ -0,0 +1,22 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum OutboxEventType {
+    RECIPE_UPDATED("RECIPE"),
+    REVIEW_SUBMITTED("RECIPE"),
+    APPROVAL_RECORDED("RECIPE");
+
+    private final String aggregateType;
+
+    OutboxEventType(String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+}
@@ -14,6 +14,8 @@ public enum QueueStatus {
     PROCESSING,
     SENT,
     FAILED,
+    DEAD_LETTER,
+    COALESCED,
     CANCELLED;
 
     public static Set<QueueStatus> retryableStatuses() {
@@ -23,4 +25,8 @@ public enum QueueStatus {
     public static Set<QueueStatus> activeQueueStatuses() {
         return EnumSet.of(PENDING, PROCESSING);
     }
+
+    public static Set<QueueStatus> compactableStatuses() {
+        return EnumSet.of(SENT, COALESCED, CANCELLED);
+    }
 }
@@ -0,0 +1,24 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.event;
+
+import java.util.UUID;
+
+/**
+ * Published inside the transaction that changes a user's unread notifications or active queue entries. Deltas are
+ * applied to the cached counts only after that transaction commits.
+ */
+public record NotificationCountChangedEvent(UUID userId, long unreadDelta, long pendingDelta) {
+
+    public static NotificationCountChangedEvent unread(UUID userId, long delta) {
+        return new NotificationCountChangedEvent(userId, delta, 0);
+    }
+
+    public static NotificationCountChangedEvent pending(UUID userId, long delta) {
+        return new NotificationCountChangedEvent(userId, 0, delta);
+    }
+}
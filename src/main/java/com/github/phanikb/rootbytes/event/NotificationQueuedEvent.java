@@ -0,0 +1,14 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.github.phanikb.rootbytes.enums.notification.NotificationChannel;
+
+public record NotificationQueuedEvent(UUID queueId, NotificationChannel channel, Instant scheduledFor) {}
@@ -0,0 +1,13 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.event;
+
+import java.util.UUID;
+
+import com.github.phanikb.rootbytes.enums.OutboxEventType;
+
+public record OutboxRecordedEvent(UUID outboxId, OutboxEventType eventType) {}
@@ -31,6 +31,7 @@ public class NotificationQueueMapper {
                 .scheduledFor(entity.getScheduledFor())
                 .createdAt(entity.getCreatedAt())
                 .processedAt(entity.getProcessedAt())
+                .nextAttemptAt(entity.getNextAttemptAt())
                 .build();
     }
 }
@@ -23,15 +23,19 @@ import com.github.phanikb.rootbytes.dto.v1.response.InstructionResponse;
 import com.github.phanikb.rootbytes.dto.v1.response.RecipeDetailResponse;
 import com.github.phanikb.rootbytes.dto.v1.response.RecipeDietaryInfoResponse;
 import com.github.phanikb.rootbytes.dto.v1.response.RecipeResponse;
+import com.github.phanikb.rootbytes.dto.v1.response.RecipeSummaryResponse;
 import com.github.phanikb.rootbytes.entity.Ingredient;
 import com.github.phanikb.rootbytes.entity.Instruction;
 import com.github.phanikb.rootbytes.entity.Recipe;
 import com.github.phanikb.rootbytes.entity.RecipeDietaryInfo;
+import com.github.phanikb.rootbytes.entity.UserEntity;
+import com.github.phanikb.rootbytes.repository.RecipeRepository.RecipeSummary;
 
 @Mapper(
         componentModel = MappingConstants.ComponentModel.SPRING,
         unmappedTargetPolicy = ReportingPolicy.WARN,
-        uses = {IngredientMapper.class, InstructionMapper.class})
+        uses = {IngredientMapper.class, InstructionMapper.class},
+        imports = UserEntity.class)
 public interface RecipeMapper {
     @IterableMapping(qualifiedByName = "toIngredientResponse")
     List<IngredientResponse> mapIngredients(List<Ingredient> ingredients);
@@ -50,6 +54,11 @@ public interface RecipeMapper {
     @Mapping(target = "isMarkedFavorite", ignore = true)
     RecipeResponse toResponse(Recipe recipe);
 
+    @Mapping(
+            target = "authorName",
+            expression = "java(UserEntity.authorDisplay(summary.getAuthorPublicName(), summary.getAuthorUniqueName()))")
+    RecipeSummaryResponse toSummaryResponse(RecipeSummary summary);
+
     @Mapping(target = "authorId", ignore = true)
     @Mapping(target = "authorName", ignore = true)
     @Mapping(target = "averageRating", ignore = true)
@@ -0,0 +1,22 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.repository;
+
+import java.time.Instant;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Cheap fingerprint of a small reference table: row count plus the newest {@code updated_at}. Any insert, update or
+ * delete changes at least one of the two, so it can stand in for the full list when answering conditional requests.
+ */
+public interface CatalogVersion {
+    long getCount();
+
+    @Nullable
+    Instant getLastModified();
+}
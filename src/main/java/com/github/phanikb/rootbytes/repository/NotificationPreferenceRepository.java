@@ -6,6 +6,7 @@
 
 package com.github.phanikb.rootbytes.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,5 +22,7 @@ public interface NotificationPreferenceRepository extends JpaRepository<Notifica
 
     Optional<NotificationPreference> findByUserId(UUID userId);
 
+    List<NotificationPreference> findByUserIdIn(Collection<UUID> userIds);
+
     List<NotificationPreference> findByFrequencyAndEmailEnabled(NotificationFrequency frequency, Boolean emailEnabled);
 }
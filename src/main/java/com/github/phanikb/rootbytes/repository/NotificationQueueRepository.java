@@ -9,42 +9,227 @@ package com.github.phanikb.rootbytes.repository;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.github.phanikb.rootbytes.entity.NotificationQueue;
 import com.github.phanikb.rootbytes.enums.notification.NotificationChannel;
+import com.github.phanikb.rootbytes.enums.notification.NotificationPriority;
 import com.github.phanikb.rootbytes.enums.notification.QueueStatus;
+import com.github.phanikb.rootbytes.repository.NotificationRepository.KeysetRow;
 
 @Repository
 public interface NotificationQueueRepository extends JpaRepository<NotificationQueue, UUID> {
 
     long countByStatusAndChannel(QueueStatus status, NotificationChannel channel);
 
-    @Query("SELECT nq FROM NotificationQueue nq WHERE nq.status = :status "
+    @Query("SELECT nq.status AS status, nq.channel AS channel, COUNT(nq) AS count FROM NotificationQueue nq "
+            + "GROUP BY nq.status, nq.channel")
+    List<StatusChannelCount> countGroupedByStatusAndChannel();
+
+    @Query("SELECT nq FROM NotificationQueue nq WHERE nq.status = :status AND nq.priority = :priority "
             + "AND nq.scheduledFor <= :cutoff ORDER BY nq.scheduledFor ASC")
     List<NotificationQueue> findDueNotifications(
-            @Param("status") QueueStatus status, @Param("cutoff") Instant cutoff, Pageable pageable);
+            @Param("status") QueueStatus status,
+            @Param("priority") NotificationPriority priority,
+            @Param("cutoff") Instant cutoff,
+            Pageable pageable);
 
-    @Query("SELECT nq FROM NotificationQueue nq WHERE nq.status = :status "
+    @Query("SELECT nq FROM NotificationQueue nq WHERE nq.status = :status AND nq.priority = :priority "
             + "AND nq.scheduledFor <= :cutoff AND nq.channel = :channel ORDER BY nq.scheduledFor ASC")
     List<NotificationQueue> findDueNotificationsByChannel(
+            @Param("status") QueueStatus status,
+            @Param("priority") NotificationPriority priority,
+            @Param("cutoff") Instant cutoff,
+            @Param("channel") NotificationChannel channel,
+            Pageable pageable);
+
+    /**
+     * Locks due rows of one priority lane for claiming. A lock timeout of {@code -2} is rendered as
+     * {@code FOR UPDATE SKIP LOCKED} by dialects that support it, so concurrent workers receive disjoint rows instead
+     * of blocking on each other.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT nq FROM NotificationQueue nq WHERE nq.status = :status AND nq.priority = :priority "
+            + "AND nq.scheduledFor <= :cutoff AND nq.channel = :channel AND nq.digestFrequency IS NULL "
+            + "ORDER BY nq.scheduledFor ASC")
+    List<NotificationQueue> lockDueNotifications(
+            @Param("status") QueueStatus status,
+            @Param("priority") NotificationPriority priority,
+            @Param("cutoff") Instant cutoff,
+            @Param("channel") NotificationChannel channel,
+            Pageable pageable);
+
+    @Query("SELECT nq.priority AS priority, COUNT(nq) AS depth, MIN(nq.scheduledFor) AS oldestScheduledFor "
+            + "FROM NotificationQueue nq WHERE nq.status = :status AND nq.scheduledFor <= :cutoff "
+            + "GROUP BY nq.priority")
+    List<LaneDepth> countDueByPriority(@Param("status") QueueStatus status, @Param("cutoff") Instant cutoff);
+
+    /**
+     * Locks due digest items for coalescing, skipping rows held by another assembler. Rows come back grouped by user
+     * and digest frequency so a page splits at most one digest.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT nq FROM NotificationQueue nq WHERE nq.status = :status AND nq.scheduledFor <= :cutoff "
+            + "AND nq.channel = :channel AND nq.digestFrequency IS NOT NULL "
+            + "ORDER BY nq.user.id ASC, nq.digestFrequency ASC, nq.scheduledFor ASC")
+    List<NotificationQueue> lockDueDigestItems(
             @Param("status") QueueStatus status,
             @Param("cutoff") Instant cutoff,
             @Param("channel") NotificationChannel channel,
             Pageable pageable);
 
+    @Query("SELECT DISTINCT nq.scheduledFor FROM NotificationQueue nq WHERE nq.status = :status "
+            + "AND nq.scheduledFor > :from AND nq.scheduledFor <= :to ORDER BY nq.scheduledFor")
+    List<Instant> findUpcomingScheduleTimes(
+            @Param("status") QueueStatus status,
+            @Param("from") Instant from,
+            @Param("to") Instant to,
+            Pageable pageable);
+
+    List<NotificationQueue> findByIdInAndStatusAndLeaseOwner(
+            Collection<UUID> ids, QueueStatus status, String leaseOwner);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE NotificationQueue nq SET nq.status = :releasedStatus, nq.leaseOwner = NULL, "
+            + "nq.leaseExpiresAt = NULL WHERE nq.status = :leasedStatus AND nq.leaseExpiresAt < :now")
+    int releaseExpiredLeases(
+            @Param("leasedStatus") QueueStatus leasedStatus,
+            @Param("releasedStatus") QueueStatus releasedStatus,
+            @Param("now") Instant now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE NotificationQueue nq SET nq.status = :releasedStatus, nq.leaseOwner = NULL, "
+            + "nq.leaseExpiresAt = NULL WHERE nq.status = :leasedStatus AND nq.leaseOwner IN :leaseOwners")
+    int releaseLeasesHeldBy(
+            @Param("leaseOwners") Collection<String> leaseOwners,
+            @Param("leasedStatus") QueueStatus leasedStatus,
+            @Param("releasedStatus") QueueStatus releasedStatus);
+
+    /**
+     * Dead-letters one leased row with a bulk update that bypasses the entity, for rows whose delivery result cannot
+     * be saved through the normal path.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE NotificationQueue nq SET nq.status = :deadLetterStatus, nq.errorMessage = :errorMessage, "
+            + "nq.leaseOwner = NULL, nq.leaseExpiresAt = NULL, nq.nextAttemptAt = NULL, nq.dedupKey = NULL "
+            + "WHERE nq.id = :id AND nq.status = :leasedStatus AND nq.leaseOwner = :leaseOwner")
+    int deadLetterLeased(
+            @Param("id") UUID id,
+            @Param("leaseOwner") String leaseOwner,
+            @Param("leasedStatus") QueueStatus leasedStatus,
+            @Param("deadLetterStatus") QueueStatus deadLetterStatus,
+            @Param("errorMessage") String errorMessage);
+
+    @Query("SELECT nq.user.id FROM NotificationQueue nq WHERE nq.id = :id")
+    Optional<UUID> findUserIdById(@Param("id") UUID id);
+
     List<NotificationQueue> findByUserIdOrderByScheduledForDesc(UUID userId);
 
     List<NotificationQueue> findByUserIdAndStatusOrderByScheduledForDesc(UUID userId, QueueStatus status);
 
-    List<NotificationQueue> findByStatusAndLastAttemptAtBefore(
-            QueueStatus status, Instant retryAfter, Pageable pageable);
+    @Query("SELECT q FROM NotificationQueue q WHERE q.status = :status AND q.nextAttemptAt <= :now "
+            + "ORDER BY q.nextAttemptAt ASC")
+    List<NotificationQueue> findRetryDue(
+            @Param("status") QueueStatus status, @Param("now") Instant now, Pageable pageable);
+
+    Optional<NotificationQueue> findByUserIdAndDedupKey(UUID userId, String dedupKey);
+
+    @Query("SELECT q.user.id AS userId, q.dedupKey AS dedupKey FROM NotificationQueue q "
+            + "WHERE q.user.id IN :userIds AND q.dedupKey IN :dedupKeys")
+    List<DedupKeyRow> findDedupKeys(
+            @Param("userIds") Collection<UUID> userIds, @Param("dedupKeys") Collection<String> dedupKeys);
+
+    /**
+     * Inserts the row unless one with the same {@code (user_id, dedup_key)} already exists. The conflict is resolved by
+     * the unique index inside the statement, so concurrent duplicates neither fail the transaction nor race a
+     * check-then-insert. Returns the number of rows inserted.
+     */
+    @Modifying
+    @Query(
+            value = "INSERT INTO notification_queue (id, user_id, notification_type, title, message, data, action_url, "
+                    + "priority, channel, scheduled_for, status, attempts, max_attempts, created_at, digest_frequency, "
+                    + "dedup_key) VALUES (:#{#queue.id}, :#{#queue.user.id}, :#{#queue.notificationType.name()}, "
+                    + ":#{#queue.title}, :#{#queue.message}, :#{#queue.data}, :#{#queue.actionUrl}, "
+                    + ":#{#queue.priority.name()}, :#{#queue.channel.name()}, :#{#queue.scheduledFor}, "
+                    + ":#{#queue.status.name()}, :#{#queue.attempts}, :#{#queue.maxAttempts}, :#{#queue.createdAt}, "
+                    + ":#{#queue.digestFrequency?.name()}, :#{#queue.dedupKey}) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int insertIgnoringDuplicate(@Param("queue") NotificationQueue queue);
 
     long countByUserIdAndStatusIn(UUID userId, Collection<QueueStatus> statuses);
+
+    @Query("SELECT q.user.id AS userId, COUNT(q) AS count FROM NotificationQueue q "
+            + "WHERE q.status IN :statuses GROUP BY q.user.id")
+    List<UserCount> countActiveByUser(@Param("statuses") Collection<QueueStatus> statuses);
+
+    @Query("SELECT q.user.id AS userId, COUNT(q) AS count FROM NotificationQueue q "
+            + "WHERE q.user.id IN :userIds AND q.status IN :statuses GROUP BY q.user.id")
+    List<UserCount> countByUserIdInAndStatusIn(
+            @Param("userIds") Collection<UUID> userIds, @Param("statuses") Collection<QueueStatus> statuses);
+
+    @Query("SELECT nq.id AS id, nq.scheduledFor AS position FROM NotificationQueue nq WHERE nq.status = :status "
+            + "AND nq.scheduledFor >= :from AND nq.scheduledFor <= :cutoff "
+            + "AND (nq.processedAt IS NULL OR nq.processedAt <= :cutoff) ORDER BY nq.scheduledFor ASC")
+    List<KeysetRow> findCompactableChunk(
+            @Param("status") QueueStatus status,
+            @Param("from") Instant from,
+            @Param("cutoff") Instant cutoff,
+            Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query(
+            value = "INSERT INTO notification_queue_history (id, user_id, notification_type, channel, priority, "
+                    + "status, attempts, coalesced_into, created_at, scheduled_for, processed_at, archived_at) "
+                    + "SELECT id, user_id, notification_type, channel, priority, status, attempts, coalesced_into, "
+                    + "created_at, scheduled_for, processed_at, :archivedAt FROM notification_queue WHERE id IN (:ids)",
+            nativeQuery = true)
+    int copyToHistory(@Param("ids") Collection<UUID> ids, @Param("archivedAt") Instant archivedAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM NotificationQueue nq WHERE nq.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query(
+            value = "DELETE FROM notification_queue_history WHERE id IN (SELECT id FROM notification_queue_history "
+                    + "WHERE archived_at < :cutoff ORDER BY archived_at LIMIT :limit)",
+            nativeQuery = true)
+    int purgeHistoryBefore(@Param("cutoff") Instant cutoff, @Param("limit") int limit);
+
+    interface LaneDepth {
+        NotificationPriority getPriority();
+
+        long getDepth();
+
+        Instant getOldestScheduledFor();
+    }
+
+    interface StatusChannelCount {
+        QueueStatus getStatus();
+
+        NotificationChannel getChannel();
+
+        long getCount();
+    }
+
+    interface DedupKeyRow {
+        UUID getUserId();
+
+        String getDedupKey();
+    }
 }
@@ -7,6 +7,7 @@
 package com.github.phanikb.rootbytes.repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -33,6 +34,11 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
 
     long countByUserIdAndStatus(UUID userId, NotificationStatus status);
 
+    @Query("SELECT n.user.id AS userId, COUNT(n) AS count FROM Notification n "
+            + "WHERE n.user.id IN :userIds AND n.status = :status GROUP BY n.user.id")
+    List<UserCount> countByUserIdInAndStatus(
+            @Param("userIds") Collection<UUID> userIds, @Param("status") NotificationStatus status);
+
     @Modifying(clearAutomatically = true)
     @Query(
             "UPDATE Notification n SET n.status = 'READ', n.readAt = :readAt WHERE n.user.id = :userId AND n.status = 'UNREAD'")
@@ -41,12 +47,33 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
     List<Notification> findByUserIdAndStatusAndTypeIn(
             UUID userId, NotificationStatus status, List<NotificationType> types);
 
+    @Query("SELECT n.id AS id, n.readAt AS position FROM Notification n "
+            + "WHERE n.status = 'READ' AND n.readAt >= :from AND n.readAt <= :readCutoff ORDER BY n.readAt ASC")
+    List<KeysetRow> findArchivableChunk(
+            @Param("from") Instant from, @Param("readCutoff") Instant readCutoff, Pageable pageable);
+
+    @Query("SELECT n.id AS id, n.archivedAt AS position FROM Notification n WHERE n.status = 'ARCHIVED' "
+            + "AND n.archivedAt >= :from AND n.archivedAt <= :archiveCutoff ORDER BY n.archivedAt ASC")
+    List<KeysetRow> findDeletableChunk(
+            @Param("from") Instant from, @Param("archiveCutoff") Instant archiveCutoff, Pageable pageable);
+
+    @Query("SELECT n.id AS id, n.expiresAt AS position FROM Notification n "
+            + "WHERE n.expiresAt >= :from AND n.expiresAt <= :now ORDER BY n.expiresAt ASC")
+    List<KeysetRow> findExpiredChunk(@Param("from") Instant from, @Param("now") Instant now, Pageable pageable);
+
     @Modifying(clearAutomatically = true)
     @Query("UPDATE Notification n SET n.status = 'ARCHIVED', n.archivedAt = :archivedAt "
-            + "WHERE n.status = 'READ' AND n.readAt <= :readCutoff")
-    int archiveReadNotifications(@Param("readCutoff") Instant readCutoff, @Param("archivedAt") Instant archivedAt);
+            + "WHERE n.id IN :ids AND n.status = 'READ'")
+    int archiveByIds(@Param("ids") Collection<UUID> ids, @Param("archivedAt") Instant archivedAt);
 
     @Modifying(clearAutomatically = true)
-    @Query("DELETE FROM Notification n WHERE n.status = 'ARCHIVED' AND n.archivedAt <= :archiveCutoff")
-    int deleteArchivedNotifications(@Param("archiveCutoff") Instant archiveCutoff);
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
+
+    /** Row of a keyset-ordered maintenance chunk; {@code position} is the indexed column the chunk is ordered by. */
+    interface KeysetRow {
+        UUID getId();
+
+        Instant getPosition();
+    }
 }
@@ -34,6 +34,9 @@ public interface PermittedLastNameRepository extends JpaRepository<PermittedLast
             + "FROM PermittedLastName p WHERE LOWER(p.lastName) = LOWER(:lastName) AND p.isActive = true")
     boolean existsActiveByLastNameIgnoreCase(@Param("lastName") String lastName);
 
+    @Query("SELECT COUNT(p) AS count, MAX(p.updatedAt) AS lastModified FROM PermittedLastName p")
+    CatalogVersion findCatalogVersion();
+
     List<PermittedLastName> findByIsActiveTrue();
 
     Page<PermittedLastName> findByIsActiveTrue(Pageable pageable);
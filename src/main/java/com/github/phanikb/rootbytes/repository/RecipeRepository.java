@@ -6,12 +6,15 @@
 
 package com.github.phanikb.rootbytes.repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -19,36 +22,174 @@ import org.springframework.stereotype.Repository;
 
 import com.github.phanikb.rootbytes.entity.Recipe;
 import com.github.phanikb.rootbytes.entity.UserEntity;
+import com.github.phanikb.rootbytes.enums.RecipeDifficulty;
 import com.github.phanikb.rootbytes.enums.RecipeStatus;
 
 @Repository
 public interface RecipeRepository extends JpaRepository<Recipe, UUID> {
 
+    /** Scalar columns of a recipe card; list reads select only these, never the text columns or collections. */
+    String SELECT_SUMMARY = """
+            SELECT r.id AS id, a.id AS authorId, a.publicName AS authorPublicName, a.uniqueName AS authorUniqueName,
+            r.title AS title, r.version AS version, r.status AS status, r.isCurrentVersion AS isCurrentVersion,
+            r.isPrivate AS isPrivate, r.prepTimeMinutes AS prepTimeMinutes, r.cookTimeMinutes AS cookTimeMinutes,
+            r.servings AS servings, r.difficulty AS difficulty, r.cuisine AS cuisine, r.category AS category,
+            r.createdAt AS createdAt, r.updatedAt AS updatedAt, r.publishedAt AS publishedAt
+            FROM Recipe r JOIN r.author a
+            """;
+
     Optional<Recipe> findByAuthorAndTitleAndIsCurrentVersionTrue(UserEntity author, String title);
 
     List<Recipe> findByAuthorAndIsCurrentVersionTrue(UserEntity author);
 
+    @EntityGraph(Recipe.DETAIL_GRAPH)
+    Optional<Recipe> findDetailById(UUID id);
+
+    @Query("SELECT r.version AS version, r.updatedAt AS updatedAt FROM Recipe r WHERE r.id = :id")
+    Optional<RecipeVersion> findVersionById(@Param("id") UUID id);
+
     Page<Recipe> findByStatusAndIsCurrentVersionTrue(RecipeStatus status, Pageable pageable);
 
-    @Query("""
-            SELECT r FROM Recipe r
+    @Query(
+            value = SELECT_SUMMARY + """
+                    WHERE r.status = :status
+                    AND r.isCurrentVersion = true
+                    AND (r.isPrivate = false OR a = :user)
+                    """,
+            countQuery = """
+                    SELECT COUNT(r) FROM Recipe r
+                    WHERE r.status = :status
+                    AND r.isCurrentVersion = true
+                    AND (r.isPrivate = false OR r.author = :user)
+                    """)
+    Page<RecipeSummary> findPublishedSummaries(
+            @Param("status") RecipeStatus status, @Param("user") UserEntity user, Pageable pageable);
+
+    @Query(SELECT_SUMMARY + """
             WHERE r.status = :status
             AND r.isCurrentVersion = true
-            AND (r.isPrivate = false OR r.author = :user)
+            AND r.publishedAt IS NOT NULL
+            AND (r.isPrivate = false OR a = :user)
+            ORDER BY r.publishedAt DESC, r.id DESC
             """)
-    Page<Recipe> findPublishedRecipes(
+    List<RecipeSummary> findPublishedFeed(
             @Param("status") RecipeStatus status, @Param("user") UserEntity user, Pageable pageable);
 
+    @Query(SELECT_SUMMARY + """
+            WHERE r.status = :status
+            AND r.isCurrentVersion = true
+            AND r.publishedAt IS NOT NULL
+            AND (r.isPrivate = false OR a = :user)
+            AND (r.publishedAt < :publishedAt OR (r.publishedAt = :publishedAt AND r.id < :id))
+            ORDER BY r.publishedAt DESC, r.id DESC
+            """)
+    List<RecipeSummary> findPublishedFeedAfter(
+            @Param("status") RecipeStatus status,
+            @Param("user") UserEntity user,
+            @Param("publishedAt") Instant publishedAt,
+            @Param("id") UUID id,
+            Pageable pageable);
+
+    @Query(SELECT_SUMMARY + """
+            WHERE a.lastName = :lastName
+            AND r.status = :status
+            AND r.isCurrentVersion = true
+            AND r.isPrivate = false
+            AND r.publishedAt IS NOT NULL
+            ORDER BY r.publishedAt DESC, r.id DESC
+            """)
+    List<RecipeSummary> findFamilyFeed(
+            @Param("status") RecipeStatus status, @Param("lastName") String lastName, Pageable pageable);
+
+    @Query(SELECT_SUMMARY + """
+            WHERE a.lastName = :lastName
+            AND r.status = :status
+            AND r.isCurrentVersion = true
+            AND r.isPrivate = false
+            AND r.publishedAt IS NOT NULL
+            AND (r.publishedAt < :publishedAt OR (r.publishedAt = :publishedAt AND r.id < :id))
+            ORDER BY r.publishedAt DESC, r.id DESC
+            """)
+    List<RecipeSummary> findFamilyFeedAfter(
+            @Param("status") RecipeStatus status,
+            @Param("lastName") String lastName,
+            @Param("publishedAt") Instant publishedAt,
+            @Param("id") UUID id,
+            Pageable pageable);
+
+    @Query("""
+            SELECT COUNT(r) FROM Recipe r
+            WHERE r.status = :status
+            AND r.isCurrentVersion = true
+            AND r.isPrivate = false
+            AND r.publishedAt IS NOT NULL
+            """)
+    long countPublicFeed(@Param("status") RecipeStatus status);
+
     @Query("""
-            SELECT r FROM Recipe r
+            SELECT COUNT(r) FROM Recipe r
             WHERE r.author.lastName = :lastName
-            AND r.status = 'PUBLISHED'
+            AND r.status = :status
             AND r.isCurrentVersion = true
             AND r.isPrivate = false
+            AND r.publishedAt IS NOT NULL
             """)
-    Page<Recipe> findByLastName(@Param("lastName") String lastName, Pageable pageable);
+    long countFamilyFeed(@Param("status") RecipeStatus status, @Param("lastName") String lastName);
 
     List<Recipe> findByAuthorId(UUID authorId);
 
     Page<Recipe> findByStatus(RecipeStatus status, Pageable pageable);
+
+    /** Freshness fingerprint of a recipe row: every write to the recipe moves {@code updatedAt}. */
+    interface RecipeVersion {
+        Integer getVersion();
+
+        Instant getUpdatedAt();
+    }
+
+    /** Read-only list row; {@code status} and {@code difficulty} stay enums so the mapper renders them as usual. */
+    interface RecipeSummary {
+        UUID getId();
+
+        UUID getAuthorId();
+
+        @Nullable
+        String getAuthorPublicName();
+
+        String getAuthorUniqueName();
+
+        String getTitle();
+
+        Integer getVersion();
+
+        RecipeStatus getStatus();
+
+        Boolean getIsCurrentVersion();
+
+        Boolean getIsPrivate();
+
+        @Nullable
+        Integer getPrepTimeMinutes();
+
+        @Nullable
+        Integer getCookTimeMinutes();
+
+        @Nullable
+        Integer getServings();
+
+        @Nullable
+        RecipeDifficulty getDifficulty();
+
+        @Nullable
+        String getCuisine();
+
+        @Nullable
+        String getCategory();
+
+        Instant getCreatedAt();
+
+        Instant getUpdatedAt();
+
+        Instant getPublishedAt();
+    }
 }
@@ -6,11 +6,14 @@
 
 package com.github.phanikb.rootbytes.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.github.phanikb.rootbytes.entity.Recipe;
@@ -30,4 +33,13 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
     long countByRecipeAndStatus(Recipe recipe, ModerationStatus status);
 
     boolean existsByRecipeAndReviewer(Recipe recipe, UserEntity reviewer);
+
+    @Query("SELECT r.recipe.id AS recipeId, r.reviewer.id AS reviewerId FROM Review r WHERE r.recipe.id IN :recipeIds")
+    List<RecipeReviewer> findReviewersByRecipeIdIn(@Param("recipeIds") Collection<UUID> recipeIds);
+
+    interface RecipeReviewer {
+        UUID getRecipeId();
+
+        UUID getReviewerId();
+    }
 }
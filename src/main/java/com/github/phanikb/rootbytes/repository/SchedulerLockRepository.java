@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.repository;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.github.phanikb.rootbytes.entity.SchedulerLock;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    @Modifying
+    @Query(
+            value = "INSERT INTO scheduler_locks (lock_name, lease_until, fencing_token) "
+                    + "VALUES (:name, :leaseUntil, 0) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name, @Param("leaseUntil") Instant leaseUntil);
+
+    /** Takes over the lock when its lease has lapsed, bumping the token so the lapsed holder's lease stops matching. */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SchedulerLock l SET l.owner = :owner, l.leaseUntil = :leaseUntil, "
+            + "l.fencingToken = l.fencingToken + 1, l.acquiredAt = :now, l.heartbeatAt = :now "
+            + "WHERE l.name = :name AND l.leaseUntil <= :now")
+    int acquire(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("now") Instant now,
+            @Param("leaseUntil") Instant leaseUntil);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SchedulerLock l SET l.leaseUntil = :leaseUntil, l.heartbeatAt = :now WHERE l.name = :name "
+            + "AND l.owner = :owner AND l.fencingToken = :token AND l.leaseUntil > :now")
+    int extend(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("token") long token,
+            @Param("now") Instant now,
+            @Param("leaseUntil") Instant leaseUntil);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SchedulerLock l SET l.leaseUntil = :leaseUntil "
+            + "WHERE l.name = :name AND l.owner = :owner AND l.fencingToken = :token")
+    int release(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("token") long token,
+            @Param("leaseUntil") Instant leaseUntil);
+}
@@ -30,6 +30,9 @@ public interface UnitRepository extends JpaRepository<Unit, UUID> {
 
     List<Unit> findByUnitTypeAndIsActiveTrue(UnitType type);
 
+    @Query("SELECT COUNT(u) AS count, MAX(u.updatedAt) AS lastModified FROM Unit u")
+    CatalogVersion findCatalogVersion();
+
     boolean existsByName(String name);
 
     boolean existsByAbbreviation(String abbreviation);
@@ -0,0 +1,17 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.repository;
+
+import java.util.UUID;
+
+/** Projection for per-user {@code COUNT ... GROUP BY user} queries. */
+public interface UserCount {
+
+    UUID getUserId();
+
+    long getCount();
+}
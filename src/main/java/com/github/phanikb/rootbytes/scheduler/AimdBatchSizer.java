@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.scheduler;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Additive-increase, multiplicative-decrease controller for the claim batch size of one channel lane. A full batch that
+ * finishes under the latency target with an acceptable failure ratio grows the next batch by a fixed step; a slow or
+ * failing batch halves it. The size converges on what the provider sustains and backs off quickly when it pushes back.
+ */
+final class AimdBatchSizer {
+
+    private final int minSize;
+    private final int maxSize;
+    private final int increaseStep;
+    private final long targetLatencyNanos;
+    private final double maxFailureRatio;
+    private final AtomicInteger current;
+
+    AimdBatchSizer(
+            int initialSize,
+            int minSize,
+            int maxSize,
+            int increaseStep,
+            long targetLatencyNanos,
+            double maxFailureRatio) {
+        this.minSize = Math.max(minSize, 1);
+        this.maxSize = Math.max(maxSize, this.minSize);
+        this.increaseStep = Math.max(increaseStep, 1);
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.maxFailureRatio = maxFailureRatio;
+        this.current = new AtomicInteger(Math.clamp(initialSize, this.minSize, this.maxSize));
+    }
+
+    int current() {
+        return current.get();
+    }
+
+    int record(int batchSize, long elapsedNanos, int failures) {
+        if (batchSize <= 0) {
+            return current.get();
+        }
+        boolean congested = elapsedNanos > targetLatencyNanos || failures > batchSize * maxFailureRatio;
+        return current.updateAndGet(size -> {
+            if (congested) {
+                return Math.max(minSize, size / 2);
+            }
+            return batchSize >= size ? Math.min(maxSize, size + increaseStep) : size;
+        });
+    }
+}
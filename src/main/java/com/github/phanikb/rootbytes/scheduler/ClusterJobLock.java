@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import jakarta.annotation.PreDestroy;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.github.phanikb.rootbytes.config.SchedulerLockProperties;
+
+/**
+ * Keeps {@code @Scheduled} jobs from running on more than one instance per interval. A job runs only while this node
+ * holds the job's lease from the {@link JobLockProvider}; a heartbeat extends the lease for as long as the job runs, so
+ * the lease can stay short enough for another node to take over soon after a holder dies. A run that completes keeps
+ * the lock for most of the job's interval, so nodes whose schedules fire a little apart do not repeat it.
+ *
+ * <p>A heartbeat that finds the lease taken over stops, and a job that works in chunks can ask whether the lease is
+ * still held (see {@link #runExclusively(String, Duration, Consumer)}) and stop between chunks once it is not. That
+ * narrows the overlap but is not fencing: the job's writes are not checked against the lease token, so a holder that
+ * stalls mid-chunk still finishes that chunk after the next node has taken over. Guarded jobs must therefore stay safe
+ * to overlap: idempotent, with every write valid on its own rather than relying on the lock for correctness.
+ *
+ * <p>With locking disabled every job simply runs, which is what a single-instance deployment wants.
+ */
+@Slf4j
+@Component
+public class ClusterJobLock {
+
+    private static final int HOLD_PERCENT_OF_INTERVAL = 90;
+
+    private final JobLockProvider jobLockProvider;
+    private final SchedulerLockProperties schedulerLockProperties;
+    private final ScheduledExecutorService heartbeats;
+
+    public ClusterJobLock(JobLockProvider jobLockProvider, SchedulerLockProperties schedulerLockProperties) {
+        this.jobLockProvider = jobLockProvider;
+        this.schedulerLockProperties = schedulerLockProperties;
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofVirtual().name("rb-lock-heartbeat").factory());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+    }
+
+    /**
+     * Runs the job if this node wins its lock; returns {@code false} when another node holds it or ran it within the
+     * last {@code interval}.
+     */
+    public boolean runExclusively(String jobName, Duration interval, Runnable job) {
+        return runExclusively(jobName, interval, leaseHeld -> job.run());
+    }
+
+    /**
+     * Like {@link #runExclusively(String, Duration, Runnable)}, but hands the job a check that turns {@code false} once
+     * the lease has been lost or has lapsed without a successful heartbeat, so a long job can stop between chunks.
+     */
+    public boolean runExclusively(String jobName, Duration interval, Consumer<BooleanSupplier> job) {
+        if (!schedulerLockProperties.isEnabled()) {
+            job.accept(() -> true);
+            return true;
+        }
+
+        Instant started = Instant.now();
+        Duration leaseDuration = Duration.ofSeconds(schedulerLockProperties.getLeaseSeconds());
+        Optional<JobLease> acquired = jobLockProvider.tryAcquire(jobName, leaseDuration);
+        if (acquired.isEmpty()) {
+            log.debug("Skipping {}; another node holds its lock", jobName);
+            return false;
+        }
+
+        Heartbeat heartbeat = new Heartbeat(acquired.get(), leaseDuration, started.plus(leaseDuration));
+        heartbeat.start(schedulerLockProperties.getHeartbeatSeconds());
+        Instant holdUntil = started;
+        try {
+            job.accept(heartbeat::isLeaseHeld);
+            holdUntil = started.plus(interval.multipliedBy(HOLD_PERCENT_OF_INTERVAL).dividedBy(100));
+            return true;
+        } finally {
+            heartbeat.stop();
+            jobLockProvider.release(heartbeat.lease, holdUntil);
+        }
+    }
+
+    /**
+     * Extends one lease on a fixed rate. The lease counts as held until the end of the last successful extension; an
+     * extension the provider refuses means another node has taken over, so the heartbeat marks the lease lost and
+     * stops.
+     */
+    private final class Heartbeat implements Runnable {
+
+        private final JobLease lease;
+        private final Duration leaseDuration;
+        private volatile Instant heldUntil;
+        private volatile boolean lost;
+        private volatile @Nullable ScheduledFuture<?> schedule;
+
+        Heartbeat(JobLease lease, Duration leaseDuration, Instant heldUntil) {
+            this.lease = lease;
+            this.leaseDuration = leaseDuration;
+            this.heldUntil = heldUntil;
+        }
+
+        void start(long periodSeconds) {
+            schedule = heartbeats.scheduleAtFixedRate(this, periodSeconds, periodSeconds, TimeUnit.SECONDS);
+        }
+
+        void stop() {
+            ScheduledFuture<?> current = schedule;
+            if (current != null) {
+                current.cancel(false);
+            }
+        }
+
+        boolean isLeaseHeld() {
+            return !lost && Instant.now().isBefore(heldUntil);
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        public void run() {
+            Instant attempted = Instant.now();
+            try {
+                if (jobLockProvider.extend(lease, leaseDuration)) {
+                    heldUntil = attempted.plus(leaseDuration);
+                    return;
+                }
+                lost = true;
+                log.warn("Lost lock {} (token {}) while its job was still running", lease.name(), lease.token());
+                stop();
+            } catch (RuntimeException e) {
+                log.warn("Heartbeat for lock {} failed", lease.name(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hashed timing wheel that invokes a single wake-up callback once a scheduled deadline is reached. Deadlines falling
+ * into the same tick are coalesced, so thousands of rows due at the same instant occupy one slot. Buckets are only
+ * touched by the wheel thread; callers hand deadlines over through a lock-free queue.
+ */
+@Slf4j
+final class HashedTimingWheel {
+
+    private final long tickMillis;
+    private final int mask;
+    private final List<Deque<Long>> buckets;
+    private final Queue<Long> pendingTicks = new ConcurrentLinkedQueue<>();
+    private final Set<Long> scheduledTicks = ConcurrentHashMap.newKeySet();
+    private final Runnable onExpire;
+    private final long startMillis;
+    private final Thread worker;
+    private volatile boolean running;
+
+    HashedTimingWheel(Duration tick, int wheelSize, Runnable onExpire) {
+        this.tickMillis = Math.max(tick.toMillis(), 1);
+        int size = Integer.highestOneBit(Math.max(wheelSize, 1) * 2 - 1);
+        this.mask = size - 1;
+        this.buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(new ArrayDeque<>());
+        }
+        this.onExpire = onExpire;
+        this.startMillis = System.currentTimeMillis();
+        this.worker = Thread.ofPlatform()
+                .name("rb-queue-timing-wheel")
+                .daemon(true)
+                .unstarted(this::run);
+    }
+
+    void start() {
+        running = true;
+        worker.start();
+    }
+
+    void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    /** Returns {@code false} when the deadline's tick is already scheduled. */
+    boolean schedule(Instant deadline) {
+        long tick = Math.max(0, Math.ceilDiv(deadline.toEpochMilli() - startMillis, tickMillis));
+        if (!scheduledTicks.add(tick)) {
+            return false;
+        }
+        pendingTicks.add(tick);
+        return true;
+    }
+
+    int pendingCount() {
+        return scheduledTicks.size();
+    }
+
+    private void run() {
+        long tick = 0;
+        while (running) {
+            if (!awaitTick(tick)) {
+                continue;
+            }
+            boolean overdue = transferPending(tick);
+            boolean expired = expireBucket(tick);
+            if (overdue || expired) {
+                fire();
+            }
+            tick++;
+        }
+    }
+
+    private boolean awaitTick(long tick) {
+        long sleepMillis = startMillis + tick * tickMillis - System.currentTimeMillis();
+        if (sleepMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(sleepMillis);
+            return true;
+        } catch (InterruptedException e) {
+            if (!running) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+    }
+
+    private boolean transferPending(long currentTick) {
+        boolean expired = false;
+        for (Long tick = pendingTicks.poll(); tick != null; tick = pendingTicks.poll()) {
+            if (tick <= currentTick) {
+                scheduledTicks.remove(tick);
+                expired = true;
+            } else {
+                buckets.get((int) (tick & mask)).add(tick);
+            }
+        }
+        return expired;
+    }
+
+    private boolean expireBucket(long currentTick) {
+        boolean expired = false;
+        Iterator<Long> iterator = buckets.get((int) (currentTick & mask)).iterator();
+        while (iterator.hasNext()) {
+            long tick = iterator.next();
+            if (tick <= currentTick) {
+                iterator.remove();
+                scheduledTicks.remove(tick);
+                expired = true;
+            }
+        }
+        return expired;
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void fire() {
+        try {
+            onExpire.run();
+        } catch (RuntimeException e) {
+            log.error("Timing wheel callback failed", e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.scheduler;
+
+/**
+ * A lease on a named job lock. The token grows with every acquisition of the lock, so a holder whose lease lapsed can
+ * no longer extend or release it once another node has taken over. It guards only the lock row: the job's own writes
+ * are not checked against it.
+ */
+public record JobLease(String name, String owner, long token) {}
@@ -0,0 +1,24 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/** Named, time-bounded locks shared by every instance of the application. */
+public interface JobLockProvider {
+
+    /** Acquires the lock if no one holds a live lease on it; empty when another holder does. */
+    Optional<JobLease> tryAcquire(String name, Duration lease);
+
+    /** Pushes the lease out to {@code duration} from now; {@code false} once it has lapsed or been taken over. */
+    boolean extend(JobLease lease, Duration duration);
+
+    /** Lets the lease lapse at {@code holdUntil}, or at once when that has already passed. */
+    void release(JobLease lease, Instant holdUntil);
+}
@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.scheduler;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.github.phanikb.rootbytes.service.NotificationCountCache;
+import com.github.phanikb.rootbytes.service.NotificationCountStreamService;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationCountScheduler {
+
+    private final NotificationCountCache countCache;
+    private final NotificationCountStreamService countStreamService;
+
+    @Scheduled(
+            fixedDelayString = "${rootbytes.notification.counts.reconcile-interval-minutes:5}",
+            initialDelayString = "${rootbytes.notification.counts.reconcile-interval-minutes:5}",
+            timeUnit = TimeUnit.MINUTES)
+    public void countReconciliation() {
+        int corrected = countCache.reconcile();
+        log.debug(
+                "Reconciled notification counts; {} of {} cached users corrected, {} open streams",
+                corrected,
+                countCache.size(),
+                countStreamService.getSubscriberCount());
+    }
+
+    @Scheduled(
+            fixedDelayString = "${rootbytes.notification.counts.stream-heartbeat-seconds:25}",
+            timeUnit = TimeUnit.SECONDS)
+    public void streamHeartbeat() {
+        countStreamService.heartbeat();
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import com.github.phanikb.rootbytes.config.NotificationArchiveProperties;
+import com.github.phanikb.rootbytes.enums.notification.QueueStatus;
+import com.github.phanikb.rootbytes.service.NotificationMaintenanceService;
+import com.github.phanikb.rootbytes.service.NotificationMaintenanceService.ChunkResult;
+
+/**
+ * Applies the notification archive, delete and expiry policies in the background. Each policy walks its timestamp
+ * index in keyset order, one bounded chunk per transaction, pausing between chunks so the janitor never holds locks
+ * across the whole table or starves request traffic. A run that loses its cluster lock stops before the next chunk
+ * and leaves the rest to the node that took over.
+ *
+ * <p>The same run compacts the notification queue: terminal rows older than the queue retention move into
+ * {@code notification_queue_history}, which keeps the hot table and its indexes close to the size of the live
+ * backlog, and history rows past their own retention are purged.
+ *
+ * <p>Rows handled per policy are counted on {@code rootbytes.notification.janitor.rows}, tagged by action, and each
+ * run's duration on {@code rootbytes.notification.janitor.run}.
+ */
+@Slf4j
+@Component
+public class NotificationJanitor {
+
+    private static final String PREFIX = "rootbytes.notification.janitor.";
+
+    private final NotificationMaintenanceService notificationMaintenanceService;
+    private final NotificationArchiveProperties notificationArchiveProperties;
+    private final ClusterJobLock clusterJobLock;
+
+    private final Counter archivedRows;
+    private final Counter deletedRows;
+    private final Counter expiredRows;
+    private final Counter compactedRows;
+    private final Counter historyPurgedRows;
+    private final Timer runTimer;
+
+    public record RunStats(
+            Instant startedAt,
+            Duration elapsed,
+            long archived,
+            long deleted,
+            long expired,
+            long compacted,
+            long historyPurged,
+            int chunks,
+            boolean capped) {}
+
+    public NotificationJanitor(
+            NotificationMaintenanceService notificationMaintenanceService,
+            NotificationArchiveProperties notificationArchiveProperties,
+            ClusterJobLock clusterJobLock,
+            MeterRegistry registry) {
+        this.notificationMaintenanceService = notificationMaintenanceService;
+        this.notificationArchiveProperties = notificationArchiveProperties;
+        this.clusterJobLock = clusterJobLock;
+        this.archivedRows = rowCounter(registry, "archived");
+        this.deletedRows = rowCounter(registry, "deleted");
+        this.expiredRows = rowCounter(registry, "expired");
+        this.compactedRows = rowCounter(registry, "compacted");
+        this.historyPurgedRows = rowCounter(registry, "history_purged");
+        this.runTimer = Timer.builder(PREFIX + "run")
+                .description("Duration of one notification janitor run")
+                .register(registry);
+    }
+
+    private static Counter rowCounter(MeterRegistry registry, String action) {
+        return Counter.builder(PREFIX + "rows")
+                .description("Rows handled by the notification janitor")
+                .tag("action", action)
+                .register(registry);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${rootbytes.notification.archive.janitor-interval-minutes:60}",
+            initialDelayString = "${rootbytes.notification.archive.janitor-interval-minutes:60}",
+            timeUnit = TimeUnit.MINUTES)
+    public void notificationCleanup() {
+        if (!notificationArchiveProperties.isJanitorEnabled()) {
+            log.trace("Notification janitor disabled; skipping cleanup");
+            return;
+        }
+        clusterJobLock.runExclusively(
+                "notification-janitor",
+                Duration.ofMinutes(notificationArchiveProperties.getJanitorIntervalMinutes()),
+                leaseHeld -> run(leaseHeld));
+    }
+
+    public RunStats run() {
+        return run(() -> true);
+    }
+
+    RunStats run(BooleanSupplier leaseHeld) {
+        Instant startedAt = Instant.now();
+        Instant readCutoff = startedAt.minus(notificationArchiveProperties.getReadAfterDays(), ChronoUnit.DAYS);
+        Instant archiveCutoff = startedAt.minus(notificationArchiveProperties.getDeleteAfterDays(), ChronoUnit.DAYS);
+        Instant queueCutoff = startedAt.minus(notificationArchiveProperties.getQueueRetentionDays(), ChronoUnit.DAYS);
+        Instant historyCutoff = startedAt.minus(notificationArchiveProperties.getQueueHistoryDays(), ChronoUnit.DAYS);
+        Progress progress = new Progress(notificationArchiveProperties.getMaxChunksPerRun(), leaseHeld);
+
+        long archived =
+                drain(progress, from -> notificationMaintenanceService.archiveReadChunk(from, readCutoff, startedAt));
+        long deleted = drain(progress, from -> notificationMaintenanceService.deleteArchivedChunk(from, archiveCutoff));
+        long expired = drain(progress, from -> notificationMaintenanceService.deleteExpiredChunk(from, startedAt));
+        long compacted = 0;
+        for (QueueStatus status : QueueStatus.compactableStatuses()) {
+            compacted += drain(
+                    progress,
+                    from -> notificationMaintenanceService.compactQueueChunk(status, from, queueCutoff, startedAt));
+        }
+        long historyPurged =
+                drain(progress, from -> notificationMaintenanceService.purgeQueueHistoryChunk(historyCutoff));
+
+        archivedRows.increment(archived);
+        deletedRows.increment(deleted);
+        expiredRows.increment(expired);
+        compactedRows.increment(compacted);
+        historyPurgedRows.increment(historyPurged);
+
+        RunStats stats = new RunStats(
+                startedAt,
+                Duration.between(startedAt, Instant.now()),
+                archived,
+                deleted,
+                expired,
+                compacted,
+                historyPurged,
+                progress.chunks,
+                progress.isExhausted());
+        runTimer.record(stats.elapsed());
+
+        if (compacted + historyPurged > 0) {
+            log.info(
+                    "Notification janitor moved {} queue rows to history and purged {} history rows",
+                    compacted,
+                    historyPurged);
+        }
+        if (archived + deleted + expired > 0 || stats.capped()) {
+            log.info(
+                    "Notification janitor archived {}, deleted {}, expired {} in {} chunks ({} ms{})",
+                    archived,
+                    deleted,
+                    expired,
+                    stats.chunks(),
+                    stats.elapsed().toMillis(),
+                    stats.capped() ? ", chunk cap reached" : "");
+        } else {
+            log.debug("Notification janitor found nothing to archive, delete or expire");
+        }
+        return stats;
+    }
+
+    private long drain(Progress progress, Function<Instant, ChunkResult> chunk) {
+        long affected = 0;
+        Instant from = Instant.EPOCH;
+        while (!progress.isExhausted() && progress.isLeaseHeld()) {
+            ChunkResult result = chunk.apply(from);
+            progress.chunks++;
+            affected += result.affected();
+
+            Instant next = result.lastPosition();
+            if (next == null || Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            from = next;
+            pause();
+        }
+        return affected;
+    }
+
+    private void pause() {
+        long pauseMillis = notificationArchiveProperties.getChunkPauseMillis();
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Progress {
+
+        private final int maxChunks;
+        private final BooleanSupplier leaseHeld;
+        private int chunks;
+        private boolean leaseLost;
+
+        Progress(int maxChunks, BooleanSupplier leaseHeld) {
+            this.maxChunks = maxChunks;
+            this.leaseHeld = leaseHeld;
+        }
+
+        boolean isExhausted() {
+            return chunks >= maxChunks;
+        }
+
+        boolean isLeaseHeld() {
+            if (!leaseLost && !leaseHeld.getAsBoolean()) {
+                leaseLost = true;
+                log.warn("Notification janitor lost its lock after {} chunks; stopping this run", chunks);
+            }
+            return !leaseLost;
+        }
+    }
+}
@@ -0,0 +1,397 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.github.phanikb.rootbytes.config.NotificationQueueProperties;
+import com.github.phanikb.rootbytes.dto.v1.response.NotificationQueueResponse;
+import com.github.phanikb.rootbytes.enums.notification.NotificationChannel;
+import com.github.phanikb.rootbytes.enums.notification.QueueStatus;
+import com.github.phanikb.rootbytes.event.NotificationQueuedEvent;
+import com.github.phanikb.rootbytes.service.NotificationDigestAssembler;
+import com.github.phanikb.rootbytes.service.NotificationQueueMetrics;
+import com.github.phanikb.rootbytes.service.NotificationQueueService;
+import com.github.phanikb.rootbytes.service.delivery.ChannelDispatcher;
+import com.github.phanikb.rootbytes.service.delivery.DeliveryResult;
+import com.github.phanikb.rootbytes.service.delivery.DeliveryThrottle;
+import com.github.phanikb.rootbytes.service.delivery.NotificationDelivery;
+import com.github.phanikb.rootbytes.util.LogSanitizer;
+
+/**
+ * Drains the notification queue with lease-holding workers, one independent lane per {@link NotificationChannel}.
+ * Each lane claims only its own channel's rows and hands them to that channel's {@link ChannelDispatcher}, so a slow
+ * provider stalls only its own lane. Runs are triggered by the polling scheduler, by enqueue events right after commit,
+ * and by the timing wheel once a future {@code scheduledFor} is reached. Each run first collapses the lane's due digest
+ * items, then drains. Wake-ups arriving while a lane is running are coalesced into a single follow-up run.
+ *
+ * <p>Each claim is sized by the lane's {@link AimdBatchSizer} and then cut to what the channel's token bucket in
+ * {@link DeliveryThrottle} allows. A throttled lane stops draining and schedules its own wake-up on the timing wheel
+ * for when tokens are back, so rows wait in PENDING rather than failing against the provider.
+ *
+ * <p>Claim, send and record run as separate steps, each claim and record in its own short transaction. A dispatcher
+ * that throws fails only its batch, which then takes the normal retry path. A batch whose results cannot be recorded
+ * together is recorded row by row, and a row that still cannot be recorded is dead-lettered, so one poison row never
+ * sends its whole batch back out when the leases expire.
+ *
+ * <p>As a {@link SmartLifecycle} the dispatcher drains on shutdown: it stops claiming, lets in-flight batches finish
+ * and record their results until the drain deadline, then hands back every lease this node still holds so other nodes
+ * pick those rows up at once instead of after lease expiry.
+ */
+@Slf4j
+@Component
+public class NotificationQueueDispatcher implements SmartLifecycle {
+
+    private final NotificationQueueService notificationQueueService;
+    private final NotificationDigestAssembler notificationDigestAssembler;
+    private final NotificationQueueProperties notificationQueueProperties;
+    private final DeliveryThrottle deliveryThrottle;
+    private final NotificationQueueMetrics notificationQueueMetrics;
+    private final Map<NotificationChannel, Lane> lanes = new EnumMap<>(NotificationChannel.class);
+    private final ExecutorService laneExecutor;
+    private final HashedTimingWheel timingWheel;
+    private final AtomicBoolean wheelStarted = new AtomicBoolean();
+    private volatile boolean accepting;
+
+    public NotificationQueueDispatcher(
+            NotificationQueueService notificationQueueService,
+            NotificationDigestAssembler notificationDigestAssembler,
+            NotificationQueueProperties notificationQueueProperties,
+            DeliveryThrottle deliveryThrottle,
+            NotificationQueueMetrics notificationQueueMetrics,
+            List<ChannelDispatcher> channelDispatchers) {
+        this.notificationQueueService = notificationQueueService;
+        this.notificationDigestAssembler = notificationDigestAssembler;
+        this.notificationQueueProperties = notificationQueueProperties;
+        this.deliveryThrottle = deliveryThrottle;
+        this.notificationQueueMetrics = notificationQueueMetrics;
+        this.laneExecutor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("rb-queue-worker-", 0).factory());
+        for (ChannelDispatcher channelDispatcher : channelDispatchers) {
+            lanes.put(channelDispatcher.channel(), new Lane(channelDispatcher));
+        }
+        this.timingWheel = new HashedTimingWheel(
+                Duration.ofMillis(notificationQueueProperties.getWheelTickMillis()),
+                notificationQueueProperties.getWheelSize(),
+                this::wake);
+    }
+
+    @Override
+    public void start() {
+        if (wheelStarted.compareAndSet(false, true)) {
+            timingWheel.start();
+        }
+        accepting = true;
+    }
+
+    @Override
+    public void stop() {
+        if (!accepting) {
+            return;
+        }
+        accepting = false;
+
+        long deadline = System.nanoTime()
+                + TimeUnit.SECONDS.toNanos(notificationQueueProperties.getShutdownDrainSeconds());
+        int busy = 0;
+        for (Lane lane : lanes.values()) {
+            if (!lane.awaitIdle(deadline)) {
+                busy++;
+            }
+        }
+        if (busy > 0) {
+            log.warn("{} notification queue lanes still busy at the drain deadline", busy);
+        }
+        releaseLeases();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return accepting;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timingWheel.stop();
+        laneExecutor.shutdown();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationQueued(NotificationQueuedEvent event) {
+        if (!notificationQueueProperties.isDispatchOnEnqueue()) {
+            return;
+        }
+        if (event.scheduledFor().isAfter(Instant.now())) {
+            timingWheel.schedule(event.scheduledFor());
+            return;
+        }
+        Lane lane = lanes.get(event.channel());
+        if (lane != null) {
+            lane.wake();
+        }
+    }
+
+    /**
+     * Arms the timing wheel for the schedule times ahead, at most one wheel's worth per load so a large backlog is
+     * never read in one go. Times past the cut are still drained by the polling scheduler and picked up by the next
+     * load.
+     */
+    public int loadUpcoming() {
+        if (!notificationQueueProperties.isEnabled()) {
+            return 0;
+        }
+
+        Instant horizon = Instant.now().plus(Duration.ofMinutes(notificationQueueProperties.getWheelHorizonMinutes()));
+        List<Instant> upcoming =
+                notificationQueueService.getUpcomingScheduleTimes(horizon, notificationQueueProperties.getWheelSize());
+        upcoming.forEach(timingWheel::schedule);
+        log.debug(
+                "Loaded {} upcoming notification schedule times; {} ticks pending in timing wheel",
+                upcoming.size(),
+                timingWheel.pendingCount());
+        return upcoming.size();
+    }
+
+    public void wake() {
+        lanes.values().forEach(Lane::wake);
+    }
+
+    public int dispatch() {
+        if (!notificationQueueProperties.isEnabled() || !accepting) {
+            return 0;
+        }
+
+        List<Future<Integer>> runs = new ArrayList<>(lanes.size());
+        for (Lane lane : lanes.values()) {
+            runs.add(laneExecutor.submit(lane::dispatch));
+        }
+        int processed = 0;
+        for (Future<Integer> run : runs) {
+            processed += await(run);
+        }
+        return processed;
+    }
+
+    private void releaseLeases() {
+        List<String> leaseOwners = new ArrayList<>();
+        for (NotificationChannel channel : lanes.keySet()) {
+            for (int worker = 0; worker < notificationQueueProperties.getWorkerThreads(); worker++) {
+                leaseOwners.add(leaseOwner(channel, worker));
+            }
+        }
+        try {
+            notificationQueueService.releaseLeases(leaseOwners);
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Could not release notification leases on shutdown; they will expire instead", e);
+        }
+    }
+
+    private String leaseOwner(NotificationChannel channel, int worker) {
+        return notificationQueueProperties.getNodeId() + "#" + channel.name() + "-" + worker;
+    }
+
+    private int await(Future<Integer> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        } catch (ExecutionException e) {
+            log.error("Notification queue worker failed", e.getCause());
+            return 0;
+        }
+    }
+
+    private final class Lane {
+
+        private final ChannelDispatcher channelDispatcher;
+        private final AimdBatchSizer batchSizer;
+        private final AtomicBoolean wakeRequested = new AtomicBoolean();
+        private final ReentrantLock dispatchLock = new ReentrantLock();
+
+        Lane(ChannelDispatcher channelDispatcher) {
+            this.channelDispatcher = channelDispatcher;
+            int batchSize = notificationQueueProperties.getBatchSize();
+            boolean adaptive = notificationQueueProperties.isAdaptiveBatching();
+            this.batchSizer = new AimdBatchSizer(
+                    batchSize,
+                    adaptive ? 1 : batchSize,
+                    adaptive ? notificationQueueProperties.getMaxBatchSize() : batchSize,
+                    notificationQueueProperties.getBatchIncreaseStep(),
+                    Duration.ofMillis(notificationQueueProperties.getBatchTargetLatencyMillis()).toNanos(),
+                    notificationQueueProperties.getBatchMaxFailurePercent() / 100d);
+        }
+
+        void wake() {
+            if (notificationQueueProperties.isEnabled() && accepting && wakeRequested.compareAndSet(false, true)) {
+                laneExecutor.execute(() -> {
+                    wakeRequested.set(false);
+                    dispatch();
+                });
+            }
+        }
+
+        int dispatch() {
+            dispatchLock.lock();
+            try {
+                if (!accepting) {
+                    return 0;
+                }
+                coalesceDigests();
+                int workers = notificationQueueProperties.getWorkerThreads();
+                List<Future<Integer>> drains = new ArrayList<>(workers);
+                for (int worker = 0; worker < workers; worker++) {
+                    String leaseOwner = leaseOwner(channelDispatcher.channel(), worker);
+                    drains.add(laneExecutor.submit(() -> drain(leaseOwner)));
+                }
+
+                int processed = 0;
+                for (Future<Integer> drain : drains) {
+                    processed += await(drain);
+                }
+                return processed;
+            } finally {
+                dispatchLock.unlock();
+            }
+        }
+
+        /** Waits until no run holds this lane, up to the deadline; claims have already stopped by then. */
+        boolean awaitIdle(long deadlineNanos) {
+            try {
+                if (!dispatchLock.tryLock(Math.max(deadlineNanos - System.nanoTime(), 0), TimeUnit.NANOSECONDS)) {
+                    return false;
+                }
+                dispatchLock.unlock();
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private void coalesceDigests() {
+            for (int batch = 0; batch < notificationQueueProperties.getMaxBatchesPerRun(); batch++) {
+                if (notificationDigestAssembler.coalesceDueDigests(channelDispatcher.channel()) == 0) {
+                    return;
+                }
+            }
+        }
+
+        private int drain(String leaseOwner) {
+            NotificationChannel channel = channelDispatcher.channel();
+            int processed = 0;
+            for (int batch = 0; batch < notificationQueueProperties.getMaxBatchesPerRun() && accepting; batch++) {
+                int wanted = batchSizer.current();
+                int granted = deliveryThrottle.acquireUpTo(channel, wanted);
+                if (granted == 0) {
+                    timingWheel.schedule(Instant.now().plus(deliveryThrottle.timeUntilAvailable(channel)));
+                    log.debug("{} lane throttled; waking when the rate limit allows", channel);
+                    break;
+                }
+
+                List<NotificationDelivery> claimed =
+                        notificationQueueService.claimDueNotifications(leaseOwner, channel, granted);
+                deliveryThrottle.refund(channel, granted - claimed.size());
+                if (claimed.isEmpty()) {
+                    break;
+                }
+
+                long started = System.nanoTime();
+                List<DeliveryResult> results = send(claimed);
+                long elapsed = System.nanoTime() - started;
+                int failures = (int) results.stream()
+                        .filter(result -> !result.successful() && !result.deferred())
+                        .count();
+                int nextSize = batchSizer.record(claimed.size(), elapsed, failures);
+                int deferred = (int) results.stream().filter(DeliveryResult::deferred).count();
+                if (deferred > 0) {
+                    // domain-deferred rows never reached the provider; hand their channel tokens back
+                    deliveryThrottle.refund(channel, deferred);
+                    timingWheel.schedule(
+                            Instant.now().plusMillis(notificationQueueProperties.getThrottleDeferMillis()));
+                }
+                log.debug(
+                        "{} lane sent {} in {} ms with {} failures; next batch {}",
+                        channel,
+                        claimed.size(),
+                        Duration.ofNanos(elapsed).toMillis(),
+                        failures,
+                        nextSize);
+
+                List<NotificationQueueResponse> recorded = record(leaseOwner, results);
+                notificationQueueMetrics.recordBatch(channel, System.nanoTime() - started);
+                recorded.forEach(response -> log.info(
+                        "Notification delivery id={}, user={}, channel={}, status={}",
+                        response.getId(),
+                        response.getUserId(),
+                        response.getChannel(),
+                        response.getStatus()));
+                processed += (int) recorded.stream()
+                        .filter(response -> response.getStatus() == QueueStatus.SENT)
+                        .count();
+            }
+            return processed;
+        }
+
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        private List<DeliveryResult> send(List<NotificationDelivery> claimed) {
+            try {
+                return channelDispatcher.dispatch(claimed);
+            } catch (RuntimeException e) {
+                log.error("{} dispatcher failed on a batch of {}", channelDispatcher.channel(), claimed.size(), e);
+                String error = "Dispatcher failed: " + LogSanitizer.sanitize(e);
+                return claimed.stream()
+                        .map(delivery -> DeliveryResult.failure(delivery.queueId(), error))
+                        .toList();
+            }
+        }
+
+        private List<NotificationQueueResponse> record(String leaseOwner, List<DeliveryResult> results) {
+            try {
+                return notificationQueueService.recordDeliveryResults(leaseOwner, results);
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("Recording {} delivery results failed; recording them one at a time", results.size(), e);
+            }
+
+            List<NotificationQueueResponse> recorded = new ArrayList<>(results.size());
+            for (DeliveryResult result : results) {
+                try {
+                    recorded.addAll(notificationQueueService.recordDeliveryResults(leaseOwner, List.of(result)));
+                } catch (DataAccessException | TransactionException e) {
+                    notificationQueueService.deadLetterUnrecordable(
+                            leaseOwner,
+                            result.queueId(),
+                            "Delivery result could not be recorded: " + LogSanitizer.sanitize(e));
+                }
+            }
+            return recorded;
+        }
+    }
+}
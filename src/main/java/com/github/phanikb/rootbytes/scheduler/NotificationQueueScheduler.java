@@ -6,6 +6,7 @@
 
 package com.github.phanikb.rootbytes.scheduler;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -16,8 +17,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import com.github.phanikb.rootbytes.config.NotificationQueueProperties;
-import com.github.phanikb.rootbytes.dto.v1.response.NotificationQueueResponse;
+import com.github.phanikb.rootbytes.dto.v1.response.QueueLaneResponse;
+import com.github.phanikb.rootbytes.service.NotificationQueueMetrics;
 import com.github.phanikb.rootbytes.service.NotificationQueueService;
+import com.github.phanikb.rootbytes.service.NotificationQuotaCounters;
 
 @Slf4j
 @Component
@@ -26,6 +29,10 @@ public class NotificationQueueScheduler {
 
     private final NotificationQueueService notificationQueueService;
     private final NotificationQueueProperties notificationQueueProperties;
+    private final NotificationQueueDispatcher notificationQueueDispatcher;
+    private final NotificationQuotaCounters notificationQuotaCounters;
+    private final NotificationQueueMetrics notificationQueueMetrics;
+    private final ClusterJobLock clusterJobLock;
 
     @Scheduled(
             fixedDelayString = "${rootbytes.notification.queue.processing-interval-minutes:15}",
@@ -37,18 +44,90 @@ public class NotificationQueueScheduler {
             return;
         }
 
-        notificationQueueService.retryFailedNotifications();
-        List<NotificationQueueResponse> processed = notificationQueueService.processDueNotifications();
-        if (processed.isEmpty()) {
+        long started = System.nanoTime();
+        int processed = notificationQueueDispatcher.dispatch();
+        notificationQueueMetrics.recordRun(System.nanoTime() - started);
+        if (processed == 0) {
             log.debug("Notification queue scheduler executed; no pending notifications ready to send");
             return;
         }
+        log.info("Notification queue scheduler processed {} notifications", processed);
+    }
+
+    /**
+     * Reclaims expired leases and requeues failed rows whose backoff has elapsed. Runs on its own short schedule, apart
+     * from processing, so a long drain never holds up retries; anything requeued wakes the lanes right away.
+     */
+    @Scheduled(
+            fixedDelayString = "${rootbytes.notification.queue.maintenance-interval-seconds:60}",
+            initialDelayString = "${rootbytes.notification.queue.maintenance-interval-seconds:60}",
+            timeUnit = TimeUnit.SECONDS)
+    public void queueMaintenance() {
+        if (!notificationQueueProperties.isEnabled()) {
+            return;
+        }
+        clusterJobLock.runExclusively(
+                "notification-queue-maintenance",
+                Duration.ofSeconds(notificationQueueProperties.getMaintenanceIntervalSeconds()),
+                () -> {
+                    int requeued = notificationQueueService.reclaimExpiredLeases()
+                            + notificationQueueService.retryFailedNotifications();
+                    if (requeued > 0) {
+                        notificationQueueDispatcher.wake();
+                    }
+                });
+    }
 
-        processed.forEach(response -> log.info(
-                "Notification delivery id={}, user={}, channel={}, scheduledFor={}",
-                response.getId(),
-                response.getUserId(),
-                response.getChannel(),
-                response.getScheduledFor()));
+    private void reportStarvedLanes(List<QueueLaneResponse> lanes) {
+        long thresholdSeconds = TimeUnit.MINUTES.toSeconds(notificationQueueProperties.getLaneStarvationWarnMinutes());
+        for (QueueLaneResponse lane : lanes) {
+            if (lane.getOldestAgeSeconds() > thresholdSeconds) {
+                log.warn(
+                        "Notification queue lane {} is starving: {} due rows, oldest waiting {}s",
+                        lane.getPriority(),
+                        lane.getDepth(),
+                        lane.getOldestAgeSeconds());
+            }
+        }
+    }
+
+    /**
+     * Refreshes the depth and lane gauges from two grouped queries, so scrapes read cached values instead of counting
+     * the table per status and channel, and warns about starving lanes from the same lane snapshot. Both queries scan
+     * the queue on every node, so the default interval is a couple of minutes rather than a scrape interval.
+     */
+    @Scheduled(
+            fixedDelayString = "${rootbytes.notification.queue.metrics-refresh-seconds:120}",
+            initialDelayString = "${rootbytes.notification.queue.metrics-refresh-seconds:120}",
+            timeUnit = TimeUnit.SECONDS)
+    public void metricsRefresh() {
+        if (!notificationQueueProperties.isEnabled()) {
+            return;
+        }
+        notificationQueueMetrics.updateDepths(notificationQueueService.getDepthByStatusAndChannel());
+        List<QueueLaneResponse> lanes = notificationQueueService.getLaneStats();
+        notificationQueueMetrics.updateLanes(lanes);
+        reportStarvedLanes(lanes);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${rootbytes.notification.queue.quota-reconcile-minutes:10}",
+            initialDelayString = "${rootbytes.notification.queue.quota-reconcile-minutes:10}",
+            timeUnit = TimeUnit.MINUTES)
+    public void quotaCounterReconciliation() {
+        if (!notificationQuotaCounters.isEnabled()) {
+            return;
+        }
+        notificationQuotaCounters.rebuild();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${rootbytes.notification.queue.wheel-horizon-minutes:60}",
+            timeUnit = TimeUnit.MINUTES)
+    public void upcomingNotificationLoading() {
+        if (!notificationQueueProperties.isEnabled()) {
+            return;
+        }
+        notificationQueueDispatcher.loadUpcoming();
     }
 }
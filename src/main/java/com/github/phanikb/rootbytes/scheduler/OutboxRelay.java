@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.scheduler;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.github.phanikb.rootbytes.config.OutboxProperties;
+import com.github.phanikb.rootbytes.event.OutboxRecordedEvent;
+import com.github.phanikb.rootbytes.service.OutboxRelayService;
+
+/**
+ * Drains the outbox. Runs on a fixed poll and, when enabled, right after a transaction that recorded an event commits;
+ * wake-ups arriving while a run is in progress collapse into a single follow-up run, mirroring the queue dispatcher.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final int PURGE_CHUNK_SIZE = 1000;
+
+    private final OutboxRelayService outboxRelayService;
+    private final OutboxProperties outboxProperties;
+    private final ClusterJobLock clusterJobLock;
+    private final ExecutorService relayExecutor;
+    private final AtomicBoolean wakeRequested = new AtomicBoolean();
+    private final ReentrantLock relayLock = new ReentrantLock();
+
+    public OutboxRelay(
+            OutboxRelayService outboxRelayService, OutboxProperties outboxProperties, ClusterJobLock clusterJobLock) {
+        this.outboxRelayService = outboxRelayService;
+        this.outboxProperties = outboxProperties;
+        this.clusterJobLock = clusterJobLock;
+        this.relayExecutor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("rb-outbox-relay-", 0).factory());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        relayExecutor.shutdown();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOutboxRecorded(OutboxRecordedEvent event) {
+        if (outboxProperties.isEnabled()
+                && outboxProperties.isRelayOnCommit()
+                && wakeRequested.compareAndSet(false, true)) {
+            relayExecutor.execute(() -> {
+                wakeRequested.set(false);
+                relay();
+            });
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${rootbytes.outbox.poll-interval-millis:5000}",
+            initialDelayString = "${rootbytes.outbox.poll-interval-millis:5000}")
+    public void poll() {
+        if (!outboxProperties.isEnabled()) {
+            return;
+        }
+        int relayed = relay();
+        if (relayed > 0) {
+            log.info("Outbox relay processed {} events", relayed);
+        }
+    }
+
+    @Scheduled(fixedDelay = 1, initialDelay = 1, timeUnit = TimeUnit.HOURS)
+    public void purge() {
+        if (!outboxProperties.isEnabled()) {
+            return;
+        }
+        clusterJobLock.runExclusively("outbox-purge", Duration.ofHours(1), this::purgeProcessed);
+    }
+
+    private void purgeProcessed() {
+        int purged = 0;
+        for (int chunk = 0; chunk < outboxProperties.getMaxBatchesPerRun(); chunk++) {
+            int deleted = outboxRelayService.purgeProcessed(PURGE_CHUNK_SIZE);
+            purged += deleted;
+            if (deleted < PURGE_CHUNK_SIZE) {
+                break;
+            }
+        }
+        if (purged > 0) {
+            log.info("Purged {} processed outbox events", purged);
+        }
+    }
+
+    public int relay() {
+        relayLock.lock();
+        try {
+            int relayed = 0;
+            for (int batch = 0; batch < outboxProperties.getMaxBatchesPerRun(); batch++) {
+                int processed = outboxRelayService.relayBatch();
+                relayed += processed;
+                if (processed < outboxProperties.getBatchSize()) {
+                    break;
+                }
+            }
+            return relayed;
+        } finally {
+            relayLock.unlock();
+        }
+    }
+}
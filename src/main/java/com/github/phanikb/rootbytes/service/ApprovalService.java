@@ -19,6 +19,7 @@ import com.github.phanikb.rootbytes.entity.Approval;
 import com.github.phanikb.rootbytes.entity.Recipe;
 import com.github.phanikb.rootbytes.entity.UserEntity;
 import com.github.phanikb.rootbytes.enums.ModerationStatus;
+import com.github.phanikb.rootbytes.enums.OutboxEventType;
 import com.github.phanikb.rootbytes.exception.ApprovalNotFoundException;
 import com.github.phanikb.rootbytes.exception.DuplicateResourceException;
 import com.github.phanikb.rootbytes.exception.RecipeNotFoundException;
@@ -32,6 +33,7 @@ public class ApprovalService {
 
     private final ApprovalRepository approvalRepository;
     private final RecipeRepository recipeRepository;
+    private final OutboxService outboxService;
 
     @Transactional
     public Approval submitApproval(UUID recipeId, ApprovalRequest request, UserEntity approver) {
@@ -50,7 +52,9 @@ public class ApprovalService {
                 .comments(request.getComments())
                 .build();
 
-        return approvalRepository.save(approval);
+        Approval saved = approvalRepository.save(approval);
+        recordApproval(saved, approver);
+        return saved;
     }
 
     @Transactional
@@ -63,7 +67,17 @@ public class ApprovalService {
         approval.setStatus(ModerationStatus.valueOf(request.getStatus()));
         approval.setComments(request.getComments());
 
-        return approvalRepository.save(approval);
+        Approval saved = approvalRepository.save(approval);
+        recordApproval(saved, user);
+        return saved;
+    }
+
+    private void recordApproval(Approval approval, UserEntity actor) {
+        outboxService.record(
+                OutboxEventType.APPROVAL_RECORDED,
+                approval.getRecipe().getId(),
+                actor.getId(),
+                approval.getStatus().name());
     }
 
     @Transactional(readOnly = true)
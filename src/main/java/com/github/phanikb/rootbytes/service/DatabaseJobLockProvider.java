@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.github.phanikb.rootbytes.config.SchedulerLockProperties;
+import com.github.phanikb.rootbytes.entity.SchedulerLock;
+import com.github.phanikb.rootbytes.repository.SchedulerLockRepository;
+import com.github.phanikb.rootbytes.scheduler.JobLease;
+import com.github.phanikb.rootbytes.scheduler.JobLockProvider;
+
+/**
+ * {@link JobLockProvider} backed by the {@code scheduler_locks} table. Each lock is one row; acquiring it is a single
+ * conditional update that only matches a lapsed lease, so two nodes racing for the same lock cannot both win. Every
+ * call runs in its own short transaction, independent of whatever the job itself does.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DatabaseJobLockProvider implements JobLockProvider {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final SchedulerLockProperties schedulerLockProperties;
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<JobLease> tryAcquire(String name, Duration lease) {
+        Instant now = Instant.now();
+        schedulerLockRepository.insertIfAbsent(name, Instant.EPOCH);
+        String owner = schedulerLockProperties.getNodeId();
+        if (schedulerLockRepository.acquire(name, owner, now, now.plus(lease)) == 0) {
+            return Optional.empty();
+        }
+        return schedulerLockRepository
+                .findById(name)
+                .map(SchedulerLock::getFencingToken)
+                .map(token -> new JobLease(name, owner, token));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean extend(JobLease lease, Duration duration) {
+        Instant now = Instant.now();
+        return schedulerLockRepository.extend(
+                        lease.name(), lease.owner(), lease.token(), now, now.plus(duration))
+                > 0;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(JobLease lease, Instant holdUntil) {
+        Instant now = Instant.now();
+        Instant leaseUntil = holdUntil.isAfter(now) ? holdUntil : now;
+        if (schedulerLockRepository.release(lease.name(), lease.owner(), lease.token(), leaseUntil) == 0) {
+            log.warn("Lock {} was taken over before token {} released it", lease.name(), lease.token());
+        }
+    }
+}
@@ -7,6 +7,9 @@
 package com.github.phanikb.rootbytes.service;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 
@@ -19,6 +22,13 @@ import com.github.phanikb.rootbytes.entity.Notification;
 import com.github.phanikb.rootbytes.entity.NotificationPreference;
 import com.github.phanikb.rootbytes.enums.notification.NotificationChannel;
 
+/**
+ * Hands saved notifications to the delivery queue. A notification whose channel resolves to IN_APP is already in the
+ * user's inbox once it is saved, so unless {@code queue-in-app} is set it is not queued at all: a queue row would only
+ * be claimed and marked SENT, and IN_APP is by far the largest share of the traffic. Both paths go through
+ * {@link NotificationQueueService#enqueueAll}, so a notification over its user's quota, or for a channel whose provider
+ * is disabled, is skipped and counted there and never fails the notification it belongs to.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -40,22 +50,17 @@ public class ExternalNotificationQueueingService {
             return;
         }
 
-        NotificationChannel channel = schedulingService.determineChannel(preference);
-        Instant scheduledFor = schedulingService.calculateScheduledTime(preference.getFrequency());
-
-        NotificationQueueRequest queueRequest = NotificationQueueRequest.builder()
-                .userId(notification.getUser().getId())
-                .notificationType(notification.getType())
-                .title(notification.getTitle())
-                .message(notification.getMessage())
-                .data(notification.getData())
-                .actionUrl(notification.getActionUrl())
-                .priority(notification.getPriority())
-                .channel(channel)
-                .scheduledFor(scheduledFor)
-                .build();
+        NotificationQueueRequest queueRequest = toQueueRequest(notification, preference);
+        NotificationChannel channel = queueRequest.getChannel();
+        Instant scheduledFor = queueRequest.getScheduledFor();
+        if (isInboxOnly(queueRequest)) {
+            log.debug("Notification for user {} is in-app only; not queued", notification.getUser().getId());
+            return;
+        }
 
-        notificationQueueService.enqueue(queueRequest);
+        if (notificationQueueService.enqueueAll(List.of(queueRequest)) == 0) {
+            return;
+        }
 
         log.info(
                 "External notification queued: type={}, user={}, channel={}, scheduledFor={}, requiredAction={}",
@@ -65,4 +70,65 @@ public class ExternalNotificationQueueingService {
                 scheduledFor,
                 notification.getType().isRequiresAction());
     }
+
+    public boolean isQueueEnabled() {
+        return notificationQueueProperties.isEnabled();
+    }
+
+    /**
+     * Bulk variant of {@link #queueExternalNotification}; returns the number of notifications accepted for delivery,
+     * counting in-app notifications, and those for a channel with delivery disabled, as delivered by being saved.
+     * Only rows dropped for quota are left out.
+     */
+    public int queueExternalNotifications(
+            List<Notification> notifications, Map<UUID, NotificationPreference> preferences) {
+        if (!notificationQueueProperties.isEnabled()) {
+            log.debug("Notification queue disabled; skipping {} external notifications", notifications.size());
+            return 0;
+        }
+
+        List<NotificationQueueRequest> queueRequests = notifications.stream()
+                .filter(notification -> notification.getType().isExternal())
+                .filter(notification -> preferences.containsKey(notification.getUser().getId()))
+                .map(notification ->
+                        toQueueRequest(notification, preferences.get(notification.getUser().getId())))
+                .toList();
+        List<NotificationQueueRequest> toQueue =
+                queueRequests.stream().filter(request -> !isInboxOnly(request)).toList();
+        int inboxOnly = queueRequests.size() - toQueue.size();
+        if (toQueue.isEmpty()) {
+            return inboxOnly;
+        }
+
+        int channelDisabled = (int) toQueue.stream()
+                .filter(request -> !notificationQueueService.isChannelEnabled(request.getChannel()))
+                .count();
+        int queued = notificationQueueService.enqueueAll(toQueue);
+        log.info(
+                "External notifications queued in bulk: {} of {}; {} in-app only, {} for disabled channels",
+                queued,
+                toQueue.size(),
+                inboxOnly,
+                channelDisabled);
+        return queued + inboxOnly + channelDisabled;
+    }
+
+    private boolean isInboxOnly(NotificationQueueRequest request) {
+        return request.getChannel() == NotificationChannel.IN_APP && !notificationQueueProperties.isQueueInApp();
+    }
+
+    private NotificationQueueRequest toQueueRequest(Notification notification, NotificationPreference preference) {
+        return NotificationQueueRequest.builder()
+                .userId(notification.getUser().getId())
+                .notificationType(notification.getType())
+                .title(notification.getTitle())
+                .message(notification.getMessage())
+                .data(notification.getData())
+                .actionUrl(notification.getActionUrl())
+                .priority(notification.getPriority())
+                .channel(schedulingService.determineChannel(preference))
+                .scheduledFor(schedulingService.calculateScheduledTime(preference))
+                .digestFrequency(schedulingService.resolveDigestFrequency(preference.getFrequency()))
+                .build();
+    }
 }
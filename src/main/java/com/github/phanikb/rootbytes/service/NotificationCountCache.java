@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import com.github.phanikb.rootbytes.config.NotificationCountProperties;
+import com.github.phanikb.rootbytes.dto.v1.response.NotificationCountResponse;
+import com.github.phanikb.rootbytes.event.NotificationCountChangedEvent;
+
+/**
+ * Per-user unread and pending counts held in memory. An entry is loaded from the database on first read and then kept
+ * current by applying {@link NotificationCountChangedEvent} deltas after commit, so repeated badge reads never touch
+ * the database. Changes made outside those events (expiry, lease races, concurrent loads) are corrected by
+ * {@link #reconcile()}, which re-counts cached users in batches with grouped queries.
+ */
+@Slf4j
+@Component
+public class NotificationCountCache {
+
+    private final NotificationMaintenanceService maintenanceService;
+    private final NotificationQueueService notificationQueueService;
+    private final NotificationCountStreamService countStreamService;
+    private final NotificationCountProperties countProperties;
+    private final Cache<UUID, UserCounts> counts;
+
+    public NotificationCountCache(
+            NotificationMaintenanceService maintenanceService,
+            NotificationQueueService notificationQueueService,
+            NotificationCountStreamService countStreamService,
+            NotificationCountProperties countProperties) {
+        this.maintenanceService = maintenanceService;
+        this.notificationQueueService = notificationQueueService;
+        this.countStreamService = countStreamService;
+        this.countProperties = countProperties;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(countProperties.getMaximumSize())
+                .expireAfterAccess(Duration.ofMinutes(countProperties.getExpireAfterAccessMinutes()))
+                .build();
+    }
+
+    public NotificationCountResponse getCounts(UUID userId) {
+        if (!countProperties.isCacheEnabled()) {
+            return maintenanceService.getNotificationCounts(userId);
+        }
+        return counts.get(userId, this::load).toResponse();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCountChanged(NotificationCountChangedEvent event) {
+        UserCounts cached = counts.getIfPresent(event.userId());
+        if (cached != null) {
+            cached.unread.add(event.unreadDelta());
+            cached.pending.add(event.pendingDelta());
+        }
+        if (countStreamService.hasSubscribers(event.userId())) {
+            countStreamService.publish(event.userId(), getCounts(event.userId()));
+        }
+    }
+
+    public int reconcile() {
+        if (!countProperties.isCacheEnabled()) {
+            return 0;
+        }
+
+        List<UUID> userIds = new ArrayList<>(counts.asMap().keySet());
+        int batchSize = countProperties.getReconcileBatchSize();
+        int corrected = 0;
+        for (int from = 0; from < userIds.size(); from += batchSize) {
+            corrected += reconcile(userIds.subList(from, Math.min(from + batchSize, userIds.size())));
+        }
+        if (corrected > 0) {
+            log.info("Corrected drifted notification counts for {} of {} cached users", corrected, userIds.size());
+        }
+        return corrected;
+    }
+
+    public void evict(UUID userId) {
+        counts.invalidate(userId);
+    }
+
+    public long size() {
+        return counts.estimatedSize();
+    }
+
+    private int reconcile(List<UUID> userIds) {
+        Map<UUID, Long> unread = maintenanceService.countUnreadForUsers(userIds);
+        Map<UUID, Long> pending = notificationQueueService.countActiveForUsers(userIds);
+
+        int corrected = 0;
+        for (UUID userId : userIds) {
+            UserCounts cached = counts.getIfPresent(userId);
+            if (cached != null
+                    && cached.correct(unread.getOrDefault(userId, 0L), pending.getOrDefault(userId, 0L))) {
+                corrected++;
+                if (countStreamService.hasSubscribers(userId)) {
+                    countStreamService.publish(userId, cached.toResponse());
+                }
+            }
+        }
+        return corrected;
+    }
+
+    private UserCounts load(UUID userId) {
+        NotificationCountResponse response = maintenanceService.getNotificationCounts(userId);
+        UserCounts loaded = new UserCounts();
+        loaded.unread.add(response.getInternalUnread());
+        loaded.pending.add(response.getExternalPending());
+        return loaded;
+    }
+
+    private static final class UserCounts {
+
+        private final LongAdder unread = new LongAdder();
+        private final LongAdder pending = new LongAdder();
+
+        /** Adds the drift to each counter rather than resetting it, so deltas applied concurrently are not lost. */
+        boolean correct(long actualUnread, long actualPending) {
+            long unreadDrift = actualUnread - unread.sum();
+            long pendingDrift = actualPending - pending.sum();
+            unread.add(unreadDrift);
+            pending.add(pendingDrift);
+            return unreadDrift != 0 || pendingDrift != 0;
+        }
+
+        NotificationCountResponse toResponse() {
+            long internalUnread = Math.max(unread.sum(), 0);
+            long externalPending = Math.max(pending.sum(), 0);
+            return NotificationCountResponse.builder()
+                    .internalUnread(internalUnread)
+                    .externalPending(externalPending)
+                    .total(internalUnread + externalPending)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.github.phanikb.rootbytes.config.NotificationCountProperties;
+import com.github.phanikb.rootbytes.dto.v1.response.NotificationCountResponse;
+
+/**
+ * Keeps the open Server-Sent Events streams for notification counts and pushes a {@code counts} event to every stream
+ * of a user whenever that user's cached counts change. Sends run on virtual threads so a slow client never holds up the
+ * committing transaction that triggered the change.
+ */
+@Slf4j
+@Service
+public class NotificationCountStreamService {
+
+    static final String COUNTS_EVENT = "counts";
+
+    private final NotificationCountProperties countProperties;
+    private final Map<UUID, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final ExecutorService sendExecutor;
+
+    public NotificationCountStreamService(NotificationCountProperties countProperties) {
+        this.countProperties = countProperties;
+        this.sendExecutor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("rb-count-stream-", 0).factory());
+    }
+
+    /**
+     * Opens a stream for the user, closing their oldest streams beyond {@code max-streams-per-user}. The cap check and
+     * the add run inside one {@code compute} on the user's entry, so they cannot interleave with another subscribe or
+     * with {@link #remove}; evicted streams are completed only after the entry is updated.
+     */
+    public SseEmitter subscribe(UUID userId, NotificationCountResponse initialCounts) {
+        long timeoutMillis = Duration.ofMinutes(countProperties.getStreamTimeoutMinutes()).toMillis();
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        List<SseEmitter> evicted = new ArrayList<>();
+        emitters.compute(userId, (id, current) -> {
+            List<SseEmitter> userEmitters = current == null ? new CopyOnWriteArrayList<>() : current;
+            while (!userEmitters.isEmpty() && userEmitters.size() >= countProperties.getMaxStreamsPerUser()) {
+                evicted.add(userEmitters.removeFirst());
+            }
+            userEmitters.add(emitter);
+            return userEmitters;
+        });
+        evicted.forEach(SseEmitter::complete);
+
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(e -> remove(userId, emitter));
+
+        send(userId, emitter, initialCounts);
+        return emitter;
+    }
+
+    public boolean hasSubscribers(UUID userId) {
+        List<SseEmitter> userEmitters = emitters.get(userId);
+        return userEmitters != null && !userEmitters.isEmpty();
+    }
+
+    public void publish(UUID userId, NotificationCountResponse counts) {
+        List<SseEmitter> userEmitters = emitters.get(userId);
+        if (userEmitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : userEmitters) {
+            sendExecutor.execute(() -> send(userId, emitter, counts));
+        }
+    }
+
+    public void heartbeat() {
+        emitters.forEach((userId, userEmitters) -> {
+            for (SseEmitter emitter : userEmitters) {
+                sendExecutor.execute(() -> {
+                    try {
+                        emitter.send(SseEmitter.event().comment("keep-alive"));
+                    } catch (IOException | IllegalStateException e) {
+                        drop(userId, emitter);
+                    }
+                });
+            }
+        });
+    }
+
+    public int getSubscriberCount() {
+        return emitters.values().stream().mapToInt(List::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        emitters.values().forEach(userEmitters -> userEmitters.forEach(SseEmitter::complete));
+        emitters.clear();
+        sendExecutor.shutdown();
+    }
+
+    private void send(UUID userId, SseEmitter emitter, NotificationCountResponse counts) {
+        try {
+            emitter.send(SseEmitter.event().name(COUNTS_EVENT).data(counts));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping notification count stream for user {}: {}", userId, e.getMessage());
+            drop(userId, emitter);
+        }
+    }
+
+    private void drop(UUID userId, SseEmitter emitter) {
+        remove(userId, emitter);
+        emitter.completeWithError(new IOException("Notification count stream closed"));
+    }
+
+    private void remove(UUID userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (id, userEmitters) -> {
+            userEmitters.remove(emitter);
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import com.github.phanikb.rootbytes.config.NotificationQueueProperties;
+
+/**
+ * Bounded memory of dedup keys recently enqueued on this node. A hit only means the key was probably queued: it spares
+ * the user and quota queries, not the database, since callers still read the row by its key. That read also covers
+ * entries from rolled-back transactions and keys released by dead-lettered rows.
+ */
+@Component
+public class NotificationDedupFilter {
+
+    private final Cache<String, Boolean> recentKeys;
+
+    public NotificationDedupFilter(NotificationQueueProperties queueProperties) {
+        this.recentKeys = Caffeine.newBuilder()
+                .maximumSize(queueProperties.getDedupCacheSize())
+                .expireAfterWrite(Duration.ofMinutes(queueProperties.getDedupWindowMinutes()))
+                .build();
+    }
+
+    public boolean mightContain(UUID userId, String dedupKey) {
+        return recentKeys.getIfPresent(key(userId, dedupKey)) != null;
+    }
+
+    public void remember(UUID userId, String dedupKey) {
+        recentKeys.put(key(userId, dedupKey), Boolean.TRUE);
+    }
+
+    private static String key(UUID userId, String dedupKey) {
+        return userId + ":" + dedupKey;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.github.phanikb.rootbytes.config.NotificationDigestProperties;
+import com.github.phanikb.rootbytes.config.NotificationQueueProperties;
+import com.github.phanikb.rootbytes.entity.NotificationQueue;
+import com.github.phanikb.rootbytes.enums.notification.NotificationChannel;
+import com.github.phanikb.rootbytes.enums.notification.NotificationFrequency;
+import com.github.phanikb.rootbytes.enums.notification.NotificationPriority;
+import com.github.phanikb.rootbytes.enums.notification.NotificationType;
+import com.github.phanikb.rootbytes.enums.notification.QueueStatus;
+import com.github.phanikb.rootbytes.event.NotificationCountChangedEvent;
+import com.github.phanikb.rootbytes.repository.NotificationQueueRepository;
+
+/**
+ * Collapses due digest items into one queue row per user, channel and digest frequency, so daily items never end up in
+ * a digest titled weekly or monthly. The constituent rows are marked
+ * {@link QueueStatus#COALESCED} and point at the combined row, which is then delivered like any other notification.
+ * A single item is released as-is rather than wrapped in a digest of one.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationDigestAssembler {
+
+    private static final String SMS_SEPARATOR = "; ";
+
+    private final NotificationQueueRepository queueRepository;
+    private final NotificationQueueProperties queueProperties;
+    private final NotificationDigestProperties digestProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** Coalesces one page of due digest items for the channel and returns the number of items consumed. */
+    @Transactional
+    public int coalesceDueDigests(NotificationChannel channel) {
+        if (!queueProperties.isEnabled()) {
+            return 0;
+        }
+
+        int pageSize = digestProperties.getCoalesceBatchSize();
+        List<NotificationQueue> items = queueRepository.lockDueDigestItems(
+                QueueStatus.PENDING, Instant.now(), channel, PageRequest.of(0, pageSize));
+        if (items.isEmpty()) {
+            return 0;
+        }
+
+        Map<DigestKey, List<NotificationQueue>> byDigest = items.stream()
+                .collect(Collectors.groupingBy(DigestKey::of, LinkedHashMap::new, Collectors.toList()));
+        if (items.size() == pageSize && byDigest.size() > 1) {
+            // The last digest's items may continue on the next page; leave them to that run as one digest.
+            byDigest.remove(DigestKey.of(items.getLast()));
+        }
+
+        List<NotificationQueue> changed = new ArrayList<>();
+        int consumed = 0;
+        int digests = 0;
+        for (List<NotificationQueue> userItems : byDigest.values()) {
+            consumed += userItems.size();
+            for (int from = 0; from < userItems.size(); from += digestProperties.getMaxItemsPerDigest()) {
+                List<NotificationQueue> chunk = userItems.subList(
+                        from, Math.min(from + digestProperties.getMaxItemsPerDigest(), userItems.size()));
+                if (chunk.size() == 1) {
+                    NotificationQueue single = chunk.getFirst();
+                    single.resetDigestFrequency();
+                    changed.add(single);
+                    continue;
+                }
+                changed.addAll(coalesce(chunk));
+                digests++;
+            }
+        }
+
+        queueRepository.saveAll(changed);
+        log.info("Coalesced {} {} digest items into {} digests", consumed, channel, digests);
+        return consumed;
+    }
+
+    private record DigestKey(UUID userId, @Nullable NotificationFrequency frequency) {
+
+        static DigestKey of(NotificationQueue item) {
+            return new DigestKey(item.getUser().getId(), item.getDigestFrequency());
+        }
+    }
+
+    private List<NotificationQueue> coalesce(List<NotificationQueue> chunk) {
+        NotificationQueue first = chunk.getFirst();
+        NotificationFrequency frequency = first.getDigestFrequency();
+        Instant now = Instant.now();
+
+        NotificationQueue digest = queueRepository.save(NotificationQueue.builder()
+                .user(first.getUser())
+                .notificationType(NotificationType.GENERAL)
+                .title(renderTitle(frequency, chunk.size()))
+                .message(renderMessage(first.getChannel(), chunk))
+                .priority(chunk.stream()
+                        .map(NotificationQueue::getPriority)
+                        .min(Comparator.naturalOrder())
+                        .orElse(NotificationPriority.getDefault()))
+                .channel(first.getChannel())
+                .scheduledFor(now)
+                .maxAttempts(first.getMaxAttempts())
+                .build());
+
+        for (NotificationQueue item : chunk) {
+            item.setStatus(QueueStatus.COALESCED);
+            item.setCoalescedInto(digest.getId());
+            item.setProcessedAt(now);
+        }
+        eventPublisher.publishEvent(NotificationCountChangedEvent.pending(first.getUser().getId(), 1L - chunk.size()));
+        return chunk;
+    }
+
+    private static String renderTitle(@Nullable NotificationFrequency frequency, int size) {
+        String period = "daily";
+        if (frequency == NotificationFrequency.WEEKLY_DIGEST) {
+            period = "weekly";
+        } else if (frequency == NotificationFrequency.MONTHLY_DIGEST) {
+            period = "monthly";
+        }
+        return String.format("Your %s digest: %d notifications", period, size);
+    }
+
+    private static String renderMessage(NotificationChannel channel, List<NotificationQueue> chunk) {
+        if (channel == NotificationChannel.SMS) {
+            return chunk.stream().map(NotificationQueue::getTitle).collect(Collectors.joining(SMS_SEPARATOR));
+        }
+
+        StringBuilder message = new StringBuilder();
+        for (NotificationQueue item : chunk) {
+            message.append("- ").append(item.getTitle()).append('\n');
+            message.append("  ").append(item.getMessage()).append('\n');
+            if (item.getActionUrl() != null) {
+                message.append("  ").append(item.getActionUrl()).append('\n');
+            }
+        }
+        return message.toString().stripTrailing();
+    }
+}
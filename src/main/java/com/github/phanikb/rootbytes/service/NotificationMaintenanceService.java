@@ -7,10 +7,15 @@
 package com.github.phanikb.rootbytes.service;
 
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
 
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,7 +25,12 @@ import lombok.extern.slf4j.Slf4j;
 import com.github.phanikb.rootbytes.config.NotificationArchiveProperties;
 import com.github.phanikb.rootbytes.dto.v1.response.NotificationCountResponse;
 import com.github.phanikb.rootbytes.enums.notification.NotificationStatus;
+import com.github.phanikb.rootbytes.enums.notification.QueueStatus;
+import com.github.phanikb.rootbytes.event.NotificationCountChangedEvent;
+import com.github.phanikb.rootbytes.repository.NotificationQueueRepository;
 import com.github.phanikb.rootbytes.repository.NotificationRepository;
+import com.github.phanikb.rootbytes.repository.NotificationRepository.KeysetRow;
+import com.github.phanikb.rootbytes.repository.UserCount;
 
 @Service
 @RequiredArgsConstructor
@@ -29,13 +39,24 @@ public class NotificationMaintenanceService {
 
     private final NotificationRepository notificationRepository;
     private final NotificationQueueService notificationQueueService;
+    private final NotificationQueueRepository notificationQueueRepository;
     private final NotificationArchiveProperties notificationArchiveProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Outcome of one maintenance chunk. {@code lastPosition} is the keyset cursor for the next chunk and is
+     * {@code null} once the chunk came back short, i.e. there is nothing left to process.
+     */
+    public record ChunkResult(int affected, @Nullable Instant lastPosition) {}
 
     @Transactional
     public NotificationCountResponse markAllAsRead(UUID userId) {
         Instant now = Instant.now();
         int updated = notificationRepository.markAllAsReadForUser(userId, now);
         log.info("Marked {} notifications as read for user {}", updated, userId);
+        if (updated > 0) {
+            eventPublisher.publishEvent(NotificationCountChangedEvent.unread(userId, -updated));
+        }
         return buildNotificationCount(userId);
     }
 
@@ -44,9 +65,64 @@ public class NotificationMaintenanceService {
         return buildNotificationCount(userId);
     }
 
-    private NotificationCountResponse buildNotificationCount(UUID userId) {
-        applyArchivePolicies();
+    @Transactional(readOnly = true)
+    public Map<UUID, Long> countUnreadForUsers(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return notificationRepository.countByUserIdInAndStatus(userIds, NotificationStatus.UNREAD).stream()
+                .collect(Collectors.toMap(UserCount::getUserId, UserCount::getCount));
+    }
+
+    @Transactional
+    public ChunkResult archiveReadChunk(Instant from, Instant readCutoff, Instant now) {
+        List<KeysetRow> rows = notificationRepository.findArchivableChunk(from, readCutoff, chunk());
+        int affected = rows.isEmpty() ? 0 : notificationRepository.archiveByIds(ids(rows), now);
+        return toResult(rows, affected);
+    }
 
+    @Transactional
+    public ChunkResult deleteArchivedChunk(Instant from, Instant archiveCutoff) {
+        List<KeysetRow> rows = notificationRepository.findDeletableChunk(from, archiveCutoff, chunk());
+        int affected = rows.isEmpty() ? 0 : notificationRepository.deleteByIds(ids(rows));
+        return toResult(rows, affected);
+    }
+
+    @Transactional
+    public ChunkResult deleteExpiredChunk(Instant from, Instant now) {
+        List<KeysetRow> rows = notificationRepository.findExpiredChunk(from, now, chunk());
+        int affected = rows.isEmpty() ? 0 : notificationRepository.deleteByIds(ids(rows));
+        return toResult(rows, affected);
+    }
+
+    /**
+     * Moves one chunk of terminal queue rows of the given status into {@code notification_queue_history}, keeping only
+     * the columns needed to audit delivery. The copy and the delete share the transaction, so a row is never in both
+     * tables or in neither.
+     */
+    @Transactional
+    public ChunkResult compactQueueChunk(QueueStatus status, Instant from, Instant cutoff, Instant now) {
+        List<KeysetRow> rows = notificationQueueRepository.findCompactableChunk(status, from, cutoff, chunk());
+        if (rows.isEmpty()) {
+            return toResult(rows, 0);
+        }
+        List<UUID> ids = ids(rows);
+        notificationQueueRepository.copyToHistory(ids, now);
+        return toResult(rows, notificationQueueRepository.deleteByIds(ids));
+    }
+
+    /**
+     * Deletes one chunk of history rows archived before the cutoff. Deleted rows drop out of the next scan, so the
+     * cursor handed back is the cutoff itself for as long as full chunks keep coming.
+     */
+    @Transactional
+    public ChunkResult purgeQueueHistoryChunk(Instant cutoff) {
+        int chunkSize = notificationArchiveProperties.getChunkSize();
+        int purged = notificationQueueRepository.purgeHistoryBefore(cutoff, chunkSize);
+        return new ChunkResult(purged, purged < chunkSize ? null : cutoff);
+    }
+
+    private NotificationCountResponse buildNotificationCount(UUID userId) {
         long internalUnread = notificationRepository.countByUserIdAndStatus(userId, NotificationStatus.UNREAD);
         long externalPending = notificationQueueService.countActiveForUser(userId);
 
@@ -57,21 +133,18 @@ public class NotificationMaintenanceService {
                 .build();
     }
 
-    private void applyArchivePolicies() {
-        Instant now = Instant.now();
-
-        applyPolicy(
-                notificationArchiveProperties.getReadAfterDays(),
-                days -> notificationRepository.archiveReadNotifications(now.minus(days, ChronoUnit.DAYS), now));
+    private PageRequest chunk() {
+        return PageRequest.of(0, notificationArchiveProperties.getChunkSize());
+    }
 
-        applyPolicy(
-                notificationArchiveProperties.getDeleteAfterDays(),
-                days -> notificationRepository.deleteArchivedNotifications(now.minus(days, ChronoUnit.DAYS)));
+    private static List<UUID> ids(List<KeysetRow> rows) {
+        return rows.stream().map(KeysetRow::getId).toList();
     }
 
-    private void applyPolicy(int days, IntConsumer action) {
-        if (days > 0) {
-            action.accept(days);
-        }
+    private ChunkResult toResult(List<KeysetRow> rows, int affected) {
+        @Nullable Instant lastPosition = rows.size() < notificationArchiveProperties.getChunkSize()
+                ? null
+                : rows.getLast().getPosition();
+        return new ChunkResult(affected, lastPosition);
     }
 }
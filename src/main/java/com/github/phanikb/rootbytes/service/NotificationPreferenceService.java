@@ -8,9 +8,14 @@ package com.github.phanikb.rootbytes.service;
 
 import java.time.DateTimeException;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Service;
@@ -95,6 +100,35 @@ public class NotificationPreferenceService {
         });
     }
 
+    /**
+     * Bulk variant of {@link #getOrCreatePreference(UserEntity)}: one IN query for the existing preferences, one
+     * batched insert for the missing defaults.
+     */
+    @Transactional
+    public Map<UUID, NotificationPreference> getOrCreatePreferences(Collection<UserEntity> users) {
+        if (users.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<UUID, NotificationPreference> preferences = new HashMap<>();
+        Set<UUID> userIds = users.stream().map(UserEntity::getId).collect(Collectors.toSet());
+        preferenceRepository.findByUserIdIn(userIds).forEach(pref -> preferences.put(pref.getUserId(), pref));
+
+        List<NotificationPreference> missing = users.stream()
+                .filter(user -> !preferences.containsKey(user.getId()))
+                .map(user -> NotificationPreference.builder()
+                        .user(user)
+                        .emailEnabled(false)
+                        .smsEnabled(false)
+                        .frequency(NotificationFrequency.INSTANT)
+                        .build())
+                .toList();
+        if (!missing.isEmpty()) {
+            preferenceRepository.saveAll(missing).forEach(pref -> preferences.put(pref.getUserId(), pref));
+        }
+        return preferences;
+    }
+
     public boolean shouldNotify(@Nullable NotificationPreference pref, NotificationType type) {
         if (!type.isSubscribable()) {
             return true;
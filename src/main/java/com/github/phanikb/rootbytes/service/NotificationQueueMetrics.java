@@ -0,0 +1,174 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import com.github.phanikb.rootbytes.dto.v1.response.QueueLaneResponse;
+import com.github.phanikb.rootbytes.enums.notification.NotificationChannel;
+import com.github.phanikb.rootbytes.enums.notification.NotificationPriority;
+import com.github.phanikb.rootbytes.enums.notification.QueueStatus;
+import com.github.phanikb.rootbytes.repository.NotificationQueueRepository.StatusChannelCount;
+import com.github.phanikb.rootbytes.util.RbStringUtil;
+
+/**
+ * Micrometer meters for the notification queue. Depth and lane gauges read snapshot values that the queue scheduler
+ * refreshes with one grouped query, so a Prometheus scrape never touches the database. Latency, attempts, retries,
+ * dead letters and batch timings are recorded as deliveries are settled.
+ */
+@Component
+public class NotificationQueueMetrics {
+
+    private static final String PREFIX = "rootbytes.notification.queue.";
+    private static final String CHANNEL = "channel";
+
+    private final MeterRegistry registry;
+    private final Map<QueueStatus, Map<NotificationChannel, AtomicLong>> depths = new EnumMap<>(QueueStatus.class);
+    private final Map<NotificationPriority, AtomicLong> laneDepths = new EnumMap<>(NotificationPriority.class);
+    private final Map<NotificationPriority, AtomicLong> laneAges = new EnumMap<>(NotificationPriority.class);
+    private final Map<NotificationChannel, Timer> deliveryLatency = new EnumMap<>(NotificationChannel.class);
+    private final Map<NotificationChannel, DistributionSummary> attempts = new EnumMap<>(NotificationChannel.class);
+    private final Map<NotificationChannel, Counter> retries = new EnumMap<>(NotificationChannel.class);
+    private final Map<NotificationChannel, Counter> deadLetters = new EnumMap<>(NotificationChannel.class);
+    private final Map<NotificationChannel, Counter> channelDisabled = new EnumMap<>(NotificationChannel.class);
+    private final Map<NotificationChannel, Timer> batchTimers = new EnumMap<>(NotificationChannel.class);
+    private final Timer runTimer;
+
+    public NotificationQueueMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (QueueStatus status : QueueStatus.values()) {
+            Map<NotificationChannel, AtomicLong> byChannel = new EnumMap<>(NotificationChannel.class);
+            for (NotificationChannel channel : NotificationChannel.values()) {
+                AtomicLong depth = new AtomicLong();
+                Gauge.builder(PREFIX + "depth", depth, AtomicLong::get)
+                        .description("Queued notifications by status and channel")
+                        .tag("status", tagValue(status))
+                        .tag(CHANNEL, tagValue(channel))
+                        .register(registry);
+                byChannel.put(channel, depth);
+            }
+            depths.put(status, byChannel);
+        }
+        for (NotificationPriority priority : NotificationPriority.values()) {
+            laneDepths.put(priority, laneGauge("lane.depth", "Due PENDING rows in a priority lane", priority));
+            laneAges.put(
+                    priority, laneGauge("lane.oldest.age", "Seconds the oldest due row has waited", priority));
+        }
+        for (NotificationChannel channel : NotificationChannel.values()) {
+            String tag = tagValue(channel);
+            deliveryLatency.put(
+                    channel,
+                    Timer.builder(PREFIX + "delivery.latency")
+                            .description("Time from enqueue to successful delivery")
+                            .tag(CHANNEL, tag)
+                            .publishPercentileHistogram()
+                            .maximumExpectedValue(Duration.ofDays(1))
+                            .register(registry));
+            attempts.put(
+                    channel,
+                    DistributionSummary.builder(PREFIX + "attempts")
+                            .description("Attempts used by rows that were sent or dead-lettered")
+                            .tag(CHANNEL, tag)
+                            .publishPercentileHistogram()
+                            .register(registry));
+            retries.put(
+                    channel,
+                    Counter.builder(PREFIX + "retries")
+                            .description("Failed deliveries scheduled for retry")
+                            .tag(CHANNEL, tag)
+                            .register(registry));
+            deadLetters.put(
+                    channel,
+                    Counter.builder(PREFIX + "dead.letters")
+                            .description("Deliveries moved to dead letter")
+                            .tag(CHANNEL, tag)
+                            .register(registry));
+            channelDisabled.put(
+                    channel,
+                    Counter.builder(PREFIX + "channel.disabled")
+                            .description("Notifications not queued because their channel's provider is disabled")
+                            .tag(CHANNEL, tag)
+                            .register(registry));
+            batchTimers.put(
+                    channel,
+                    Timer.builder(PREFIX + "batch")
+                            .description("Claim, send and record time of one dispatch batch")
+                            .tag(CHANNEL, tag)
+                            .publishPercentileHistogram()
+                            .register(registry));
+        }
+        this.runTimer = Timer.builder(PREFIX + "run")
+                .description("Duration of one scheduled queue processing run")
+                .register(registry);
+    }
+
+    public void updateDepths(List<StatusChannelCount> counts) {
+        depths.values().forEach(byChannel -> byChannel.values().forEach(depth -> depth.set(0)));
+        for (StatusChannelCount count : counts) {
+            depths.get(count.getStatus()).get(count.getChannel()).set(count.getCount());
+        }
+    }
+
+    public void updateLanes(List<QueueLaneResponse> lanes) {
+        for (QueueLaneResponse lane : lanes) {
+            laneDepths.get(lane.getPriority()).set(lane.getDepth());
+            laneAges.get(lane.getPriority()).set(lane.getOldestAgeSeconds());
+        }
+    }
+
+    public void recordSent(NotificationChannel channel, Instant createdAt, Instant sentAt, int attemptsUsed) {
+        deliveryLatency.get(channel).record(Duration.between(createdAt, sentAt));
+        attempts.get(channel).record(attemptsUsed);
+    }
+
+    public void recordRetry(NotificationChannel channel) {
+        retries.get(channel).increment();
+    }
+
+    public void recordDeadLetter(NotificationChannel channel, int attemptsUsed) {
+        deadLetters.get(channel).increment();
+        attempts.get(channel).record(attemptsUsed);
+    }
+
+    public void recordChannelDisabled(NotificationChannel channel, long notifications) {
+        channelDisabled.get(channel).increment(notifications);
+    }
+
+    public void recordBatch(NotificationChannel channel, long elapsedNanos) {
+        batchTimers.get(channel).record(Duration.ofNanos(elapsedNanos));
+    }
+
+    public void recordRun(long elapsedNanos) {
+        runTimer.record(Duration.ofNanos(elapsedNanos));
+    }
+
+    private AtomicLong laneGauge(String name, String description, NotificationPriority priority) {
+        AtomicLong value = new AtomicLong();
+        Gauge.builder(PREFIX + name, value, AtomicLong::get)
+                .description(description)
+                .tag("priority", tagValue(priority))
+                .register(registry);
+        return value;
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return RbStringUtil.toLowerCase(value.name());
+    }
+}
@@ -6,36 +6,58 @@
 
 package com.github.phanikb.rootbytes.service;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import com.github.phanikb.rootbytes.config.NotificationEmailProperties;
 import com.github.phanikb.rootbytes.config.NotificationQueueProperties;
+import com.github.phanikb.rootbytes.config.NotificationSmsProperties;
 import com.github.phanikb.rootbytes.dto.v1.request.NotificationQueueRequest;
 import com.github.phanikb.rootbytes.dto.v1.response.NotificationQueueResponse;
+import com.github.phanikb.rootbytes.dto.v1.response.QueueLaneResponse;
 import com.github.phanikb.rootbytes.entity.NotificationQueue;
 import com.github.phanikb.rootbytes.entity.UserEntity;
 import com.github.phanikb.rootbytes.enums.notification.NotificationChannel;
 import com.github.phanikb.rootbytes.enums.notification.NotificationPriority;
 import com.github.phanikb.rootbytes.enums.notification.QueueStatus;
+import com.github.phanikb.rootbytes.event.NotificationCountChangedEvent;
+import com.github.phanikb.rootbytes.event.NotificationQueuedEvent;
 import com.github.phanikb.rootbytes.exception.NotificationQueueDisabledException;
 import com.github.phanikb.rootbytes.exception.NotificationQueueLimitException;
 import com.github.phanikb.rootbytes.exception.ResourceNotFoundException;
 import com.github.phanikb.rootbytes.mapper.NotificationQueueMapper;
 import com.github.phanikb.rootbytes.repository.NotificationQueueRepository;
+import com.github.phanikb.rootbytes.repository.NotificationQueueRepository.LaneDepth;
+import com.github.phanikb.rootbytes.repository.NotificationQueueRepository.StatusChannelCount;
+import com.github.phanikb.rootbytes.repository.UserCount;
 import com.github.phanikb.rootbytes.repository.UserRepository;
+import com.github.phanikb.rootbytes.service.delivery.DeliveryResult;
+import com.github.phanikb.rootbytes.service.delivery.NotificationDelivery;
 
 @Slf4j
 @Service
@@ -49,18 +71,160 @@ public class NotificationQueueService {
     private final UserRepository userRepository;
     private final NotificationQueueMapper queueMapper;
     private final NotificationQueueProperties queueProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationDedupFilter dedupFilter;
+    private final NotificationQuotaCounters quotaCounters;
+    private final NotificationQueueMetrics queueMetrics;
+    private final NotificationEmailProperties emailProperties;
+    private final NotificationSmsProperties smsProperties;
 
+    /**
+     * Queues one notification. When the request carries a dedup key, a repeat of a key already queued for the user
+     * returns the existing row instead of adding a copy: keys seen recently on this node are confirmed with one indexed
+     * lookup before the user and quota queries, and everything else goes through an insert that ignores conflicts on
+     * the {@code (user_id, dedup_key)} unique index. Dead-lettered rows release their key, so a repeat after a failed
+     * delivery is queued again. A channel whose provider is disabled is rejected rather than queued to fail.
+     */
     @Transactional
     public NotificationQueueResponse enqueue(NotificationQueueRequest request) {
         ensureQueueEnabled();
+        ensureChannelEnabled(request.getChannel());
+        String dedupKey = request.getDedupKey();
+        UUID userId = request.getUserId();
+        if (dedupKey != null && dedupFilter.mightContain(userId, dedupKey)) {
+            Optional<NotificationQueue> existing = queueRepository.findByUserIdAndDedupKey(userId, dedupKey);
+            if (existing.isPresent()) {
+                log.debug("Skipped duplicate notification for user {} with dedup key {}", userId, dedupKey);
+                return queueMapper.toResponse(existing.get());
+            }
+        }
+
         UserEntity user = userRepository
-                .findById(request.getUserId())
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", request.getUserId()));
+                .findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
 
         enforceUserQuota(user.getId());
+        Instant now = Instant.now();
+        NotificationQueue queue = buildQueue(request, user, Math.max(queueProperties.getMaxAttempts(), 1), now);
+
+        if (dedupKey == null) {
+            queue = queueRepository.save(queue);
+        } else {
+            queue.setId(UUID.randomUUID());
+            queue.setCreatedAt(now);
+            int inserted = queueRepository.insertIgnoringDuplicate(queue);
+            dedupFilter.remember(user.getId(), dedupKey);
+            if (inserted == 0) {
+                log.debug("Skipped duplicate notification for user {} with dedup key {}", user.getId(), dedupKey);
+                return queueRepository
+                        .findByUserIdAndDedupKey(user.getId(), dedupKey)
+                        .map(queueMapper::toResponse)
+                        .orElseThrow(() -> new ResourceNotFoundException("Notification queue", "dedupKey", dedupKey));
+            }
+        }
+        eventPublisher.publishEvent(
+                new NotificationQueuedEvent(queue.getId(), queue.getChannel(), queue.getScheduledFor()));
+        eventPublisher.publishEvent(NotificationCountChangedEvent.pending(user.getId(), 1));
+        return queueMapper.toResponse(queue);
+    }
+
+    /**
+     * Enqueues many rows in one pass: quotas are checked with a single grouped count, rows over a user's remaining
+     * quota are dropped rather than failing the batch, and the rest are written with one batched insert. Dedup keys
+     * already queued, or repeated within the batch, are dropped before the quota is applied, and rows for a channel
+     * whose provider is disabled are skipped. Returns the number of rows queued.
+     */
+    @Transactional
+    public int enqueueAll(List<NotificationQueueRequest> requests) {
+        ensureQueueEnabled();
+        List<NotificationQueueRequest> deliverable = dropDisabledChannels(requests);
+        if (deliverable.isEmpty()) {
+            return 0;
+        }
+
+        List<NotificationQueueRequest> unique = dropDuplicates(deliverable);
+        Map<UUID, Long> remaining = remainingQuota(unique);
         int maxAttempts = Math.max(queueProperties.getMaxAttempts(), 1);
+        Instant now = Instant.now();
+
+        List<NotificationQueue> queues = new ArrayList<>(unique.size());
+        for (NotificationQueueRequest request : unique) {
+            if (remaining.merge(request.getUserId(), -1L, Long::sum) < 0) {
+                continue;
+            }
+            queues.add(buildQueue(request, userRepository.getReferenceById(request.getUserId()), maxAttempts, now));
+        }
+        if (queues.size() < unique.size()) {
+            log.warn(
+                    "Dropped {} of {} queued notifications for users at the queue limit",
+                    unique.size() - queues.size(),
+                    unique.size());
+        }
+        if (queues.isEmpty()) {
+            return 0;
+        }
+
+        List<NotificationQueue> saved = queueRepository.saveAll(queues);
+        saved.stream()
+                .collect(Collectors.toMap(
+                        queue -> List.of(queue.getChannel(), queue.getScheduledFor()),
+                        Function.identity(),
+                        (first, second) -> first))
+                .values()
+                .forEach(queue -> eventPublisher.publishEvent(
+                        new NotificationQueuedEvent(queue.getId(), queue.getChannel(), queue.getScheduledFor())));
+        publishPendingChanges(saved, 1);
+        for (NotificationQueue queue : saved) {
+            String dedupKey = queue.getDedupKey();
+            if (dedupKey != null) {
+                dedupFilter.remember(queue.getUser().getId(), dedupKey);
+            }
+        }
+        return saved.size();
+    }
 
-        NotificationQueue queue = NotificationQueue.builder()
+    private List<NotificationQueueRequest> dropDisabledChannels(List<NotificationQueueRequest> requests) {
+        Map<NotificationChannel, Long> disabled = requests.stream()
+                .map(NotificationQueueRequest::getChannel)
+                .filter(channel -> !isChannelEnabled(channel))
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        if (disabled.isEmpty()) {
+            return requests;
+        }
+        disabled.forEach(queueMetrics::recordChannelDisabled);
+        log.debug("Skipped notifications for channels with delivery disabled: {}", disabled);
+        return requests.stream()
+                .filter(request -> isChannelEnabled(request.getChannel()))
+                .toList();
+    }
+
+    private List<NotificationQueueRequest> dropDuplicates(List<NotificationQueueRequest> requests) {
+        List<NotificationQueueRequest> keyed =
+                requests.stream().filter(request -> request.getDedupKey() != null).toList();
+        if (keyed.isEmpty()) {
+            return requests;
+        }
+
+        Set<String> seen = queueRepository
+                .findDedupKeys(
+                        keyed.stream().map(NotificationQueueRequest::getUserId).collect(Collectors.toSet()),
+                        keyed.stream().map(NotificationQueueRequest::getDedupKey).collect(Collectors.toSet()))
+                .stream()
+                .map(row -> row.getUserId() + ":" + row.getDedupKey())
+                .collect(Collectors.toCollection(HashSet::new));
+        List<NotificationQueueRequest> unique = requests.stream()
+                .filter(request ->
+                        request.getDedupKey() == null || seen.add(request.getUserId() + ":" + request.getDedupKey()))
+                .toList();
+        if (unique.size() < requests.size()) {
+            log.debug("Dropped {} duplicate queued notifications", requests.size() - unique.size());
+        }
+        return unique;
+    }
+
+    private NotificationQueue buildQueue(
+            NotificationQueueRequest request, UserEntity user, int maxAttempts, Instant now) {
+        return NotificationQueue.builder()
                 .user(user)
                 .notificationType(request.getNotificationType())
                 .title(request.getTitle())
@@ -69,12 +233,11 @@ public class NotificationQueueService {
                 .actionUrl(request.getActionUrl())
                 .priority(request.getPriority() != null ? request.getPriority() : DEFAULT_PRIORITY)
                 .channel(request.getChannel())
-                .scheduledFor(request.getScheduledFor() != null ? request.getScheduledFor() : Instant.now())
+                .scheduledFor(request.getScheduledFor() != null ? request.getScheduledFor() : now)
                 .maxAttempts(maxAttempts)
+                .digestFrequency(request.getDigestFrequency())
+                .dedupKey(request.getDedupKey())
                 .build();
-
-        queue = queueRepository.save(queue);
-        return queueMapper.toResponse(queue);
     }
 
     @Transactional(readOnly = true)
@@ -82,9 +245,26 @@ public class NotificationQueueService {
         if (!queueProperties.isEnabled()) {
             return 0;
         }
+        if (quotaCounters.isReady()) {
+            return quotaCounters.activeCount(userId);
+        }
         return queueRepository.countByUserIdAndStatusIn(userId, ACTIVE_STATUSES);
     }
 
+    @Transactional(readOnly = true)
+    public Map<UUID, Long> countActiveForUsers(Collection<UUID> userIds) {
+        if (!queueProperties.isEnabled() || userIds.isEmpty()) {
+            return Map.of();
+        }
+        if (quotaCounters.isReady()) {
+            Map<UUID, Long> counts = new HashMap<>();
+            userIds.forEach(userId -> counts.put(userId, quotaCounters.activeCount(userId)));
+            return counts;
+        }
+        return queueRepository.countByUserIdInAndStatusIn(userIds, ACTIVE_STATUSES).stream()
+                .collect(Collectors.toMap(UserCount::getUserId, UserCount::getCount));
+    }
+
     @Transactional(readOnly = true)
     public List<NotificationQueueResponse> getQueueForUser(UUID userId, QueueStatus status) {
         List<NotificationQueue> queues = status == null
@@ -100,90 +280,462 @@ public class NotificationQueueService {
         }
 
         Instant now = Instant.now();
-        Pageable pageable = PageRequest.of(
-                0, queueProperties.getBatchSize(), Sort.by("scheduledFor").ascending());
-        List<NotificationQueue> queues = channel == null
-                ? queueRepository.findDueNotifications(QueueStatus.PENDING, now, pageable)
-                : queueRepository.findDueNotificationsByChannel(QueueStatus.PENDING, now, channel, pageable);
+        int batchSize = queueProperties.getBatchSize();
+        List<NotificationQueue> queues = new ArrayList<>(batchSize);
+        for (NotificationPriority priority : NotificationPriority.values()) {
+            if (queues.size() >= batchSize) {
+                break;
+            }
+            Pageable pageable = PageRequest.of(0, batchSize - queues.size());
+            queues.addAll(
+                    channel == null
+                            ? queueRepository.findDueNotifications(QueueStatus.PENDING, priority, now, pageable)
+                            : queueRepository.findDueNotificationsByChannel(
+                                    QueueStatus.PENDING, priority, now, channel, pageable));
+        }
         return queues.stream().map(queueMapper::toResponse).toList();
     }
 
+    /**
+     * Depth and age of the due PENDING rows in each priority lane. A lane whose oldest row keeps ageing while others
+     * drain is being starved.
+     */
+    @Transactional(readOnly = true)
+    public List<QueueLaneResponse> getLaneStats() {
+        Instant now = Instant.now();
+        Map<NotificationPriority, LaneDepth> depths =
+                queueRepository.countDueByPriority(QueueStatus.PENDING, now).stream()
+                        .collect(Collectors.toMap(LaneDepth::getPriority, Function.identity()));
+
+        List<QueueLaneResponse> lanes = new ArrayList<>(NotificationPriority.values().length);
+        for (NotificationPriority priority : NotificationPriority.values()) {
+            LaneDepth depth = depths.get(priority);
+            Instant oldest = depth == null ? null : depth.getOldestScheduledFor();
+            lanes.add(QueueLaneResponse.builder()
+                    .priority(priority)
+                    .weight(laneWeight(priority))
+                    .depth(depth == null ? 0 : depth.getDepth())
+                    .oldestScheduledFor(oldest)
+                    .oldestAgeSeconds(oldest == null ? 0 : Math.max(Duration.between(oldest, now).toSeconds(), 0))
+                    .build());
+        }
+        return lanes;
+    }
+
+    /**
+     * Row counts for every status and channel pair present in the queue, in one grouped query. Pairs without rows are
+     * absent rather than zero.
+     */
+    @Transactional(readOnly = true)
+    public List<StatusChannelCount> getDepthByStatusAndChannel() {
+        return queueRepository.countGroupedByStatusAndChannel();
+    }
+
+    /** The earliest {@code limit} distinct schedule times of PENDING rows due after now and up to the horizon. */
+    @Transactional(readOnly = true)
+    public List<Instant> getUpcomingScheduleTimes(Instant horizon, int limit) {
+        return queueRepository.findUpcomingScheduleTimes(
+                QueueStatus.PENDING, Instant.now(), horizon, PageRequest.of(0, limit));
+    }
+
     @Transactional
-    public List<NotificationQueueResponse> processDueNotifications() {
-        if (!queueProperties.isEnabled()) {
-            log.trace("Notification queue disabled; skipping processing");
+    public List<NotificationDelivery> claimDueNotifications(String leaseOwner, NotificationChannel channel) {
+        return claimDueNotifications(leaseOwner, channel, queueProperties.getBatchSize());
+    }
+
+    /** Claims at most {@code batchSize} due rows, which lets the dispatcher size claims to rate limits and latency. */
+    @Transactional
+    public List<NotificationDelivery> claimDueNotifications(
+            String leaseOwner, NotificationChannel channel, int batchSize) {
+        if (!queueProperties.isEnabled() || batchSize <= 0) {
             return List.of();
         }
 
         Instant now = Instant.now();
-        Pageable pageable = PageRequest.of(
-                0, queueProperties.getBatchSize(), Sort.by("scheduledFor").ascending());
-        List<NotificationQueue> queuedNotifications =
-                queueRepository.findDueNotifications(QueueStatus.PENDING, now, pageable);
+        Instant leaseExpiresAt = now.plusSeconds(queueProperties.getLeaseSeconds());
+        int totalWeight = 0;
+        for (NotificationPriority priority : NotificationPriority.values()) {
+            totalWeight += laneWeight(priority);
+        }
 
-        if (queuedNotifications.isEmpty()) {
+        LaneClaim claim = new LaneClaim(channel, now, leaseOwner, leaseExpiresAt, batchSize);
+        for (NotificationPriority priority : NotificationPriority.values()) {
+            claim.take(priority, Math.max(batchSize * laneWeight(priority) / totalWeight, 1));
+        }
+        for (NotificationPriority priority : NotificationPriority.values()) {
+            if (!claim.isDrained(priority)) {
+                claim.take(priority, batchSize);
+            }
+        }
+
+        List<NotificationQueue> claimed = claim.claimed();
+        if (claimed.isEmpty()) {
             return List.of();
         }
 
-        for (NotificationQueue queue : queuedNotifications) {
+        queueRepository.saveAll(claimed);
+        log.debug(
+                "Worker {} claimed {} {} notifications until {}", leaseOwner, claimed.size(), channel, leaseExpiresAt);
+        return toDeliveries(claimed);
+    }
+
+    /**
+     * One worker's claim across the priority lanes. Each lane first gets its weighted share of the batch; room left by
+     * lanes that ran dry goes to the remaining lanes in priority order, so capacity is never idle while work is due.
+     * Claimed rows are marked PROCESSING at once, so a second pass over the same lane, which auto-flushes first, does
+     * not see them again.
+     */
+    private final class LaneClaim {
+
+        private final NotificationChannel channel;
+        private final Instant now;
+        private final String leaseOwner;
+        private final Instant leaseExpiresAt;
+        private final int batchSize;
+        private final List<NotificationQueue> claimed;
+        private final Set<NotificationPriority> drained = EnumSet.noneOf(NotificationPriority.class);
+
+        LaneClaim(NotificationChannel channel, Instant now, String leaseOwner, Instant leaseExpiresAt, int batchSize) {
+            this.channel = channel;
+            this.now = now;
+            this.leaseOwner = leaseOwner;
+            this.leaseExpiresAt = leaseExpiresAt;
+            this.batchSize = batchSize;
+            this.claimed = new ArrayList<>(batchSize);
+        }
+
+        void take(NotificationPriority priority, int limit) {
+            int size = Math.min(limit, batchSize - claimed.size());
+            if (size <= 0) {
+                return;
+            }
+            List<NotificationQueue> lane = queueRepository.lockDueNotifications(
+                    QueueStatus.PENDING, priority, now, channel, PageRequest.of(0, size));
+            if (lane.size() < size) {
+                drained.add(priority);
+            }
+            for (NotificationQueue queue : lane) {
+                queue.setStatus(QueueStatus.PROCESSING);
+                queue.setLeaseOwner(leaseOwner);
+                queue.setLeaseExpiresAt(leaseExpiresAt);
+            }
+            claimed.addAll(lane);
+        }
+
+        boolean isDrained(NotificationPriority priority) {
+            return drained.contains(priority);
+        }
+
+        List<NotificationQueue> claimed() {
+            return claimed;
+        }
+    }
+
+    int laneWeight(NotificationPriority priority) {
+        return switch (priority) {
+            case CRITICAL -> queueProperties.getCriticalLaneWeight();
+            case HIGH -> queueProperties.getHighLaneWeight();
+            case MEDIUM -> queueProperties.getMediumLaneWeight();
+            case LOW -> queueProperties.getLowLaneWeight();
+        };
+    }
+
+    private List<NotificationDelivery> toDeliveries(List<NotificationQueue> claimed) {
+        Set<UUID> userIds =
+                claimed.stream().map(queue -> queue.getUser().getId()).collect(Collectors.toSet());
+        Map<UUID, UserEntity> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(UserEntity::getId, Function.identity()));
+
+        return claimed.stream()
+                .map(queue -> {
+                    UUID userId = queue.getUser().getId();
+                    return new NotificationDelivery(
+                            queue.getId(),
+                            userId,
+                            queue.getChannel(),
+                            queue.getNotificationType(),
+                            resolveRecipient(users.get(userId), queue.getChannel()),
+                            queue.getTitle(),
+                            queue.getMessage(),
+                            queue.getActionUrl());
+                })
+                .toList();
+    }
+
+    private @Nullable String resolveRecipient(@Nullable UserEntity user, NotificationChannel channel) {
+        if (user == null) {
+            return null;
+        }
+        return switch (channel) {
+            case EMAIL -> user.getEmail();
+            case SMS -> user.getPhone();
+            case IN_APP -> user.getId().toString();
+        };
+    }
+
+    @Transactional
+    public List<NotificationQueueResponse> recordDeliveryResults(String leaseOwner, List<DeliveryResult> results) {
+        if (results.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, DeliveryResult> resultsById = results.stream()
+                .collect(Collectors.toMap(DeliveryResult::queueId, Function.identity(), (first, second) -> second));
+        List<NotificationQueue> owned = queueRepository.findByIdInAndStatusAndLeaseOwner(
+                resultsById.keySet(), QueueStatus.PROCESSING, leaseOwner);
+        if (owned.size() < resultsById.size()) {
+            log.warn(
+                    "Worker {} lost the lease on {} of {} claimed notifications",
+                    leaseOwner,
+                    resultsById.size() - owned.size(),
+                    resultsById.size());
+        }
+
+        Instant now = Instant.now();
+        List<NotificationQueue> settled = new ArrayList<>(owned.size());
+        List<Runnable> metrics = new ArrayList<>(owned.size());
+        for (NotificationQueue queue : owned) {
+            DeliveryResult result = resultsById.get(queue.getId());
+            if (result != null && result.deferred()) {
+                queue.releaseLease();
+                queue.setStatus(QueueStatus.PENDING);
+                queue.setScheduledFor(now.plusMillis(queueProperties.getThrottleDeferMillis()));
+                continue;
+            }
+            settled.add(queue);
             int attempts = queue.getAttempts() == null ? 0 : queue.getAttempts();
             queue.setAttempts(attempts + 1);
-            queue.setStatus(QueueStatus.SENT);
-            queue.setProcessedAt(now);
             queue.setLastAttemptAt(now);
+            queue.releaseLease();
+            if (result != null && result.successful()) {
+                queue.setStatus(QueueStatus.SENT);
+                queue.setProcessedAt(now);
+                queue.resetErrorMessage();
+                Instant createdAt = queue.getCreatedAt();
+                if (createdAt != null) {
+                    NotificationChannel channel = queue.getChannel();
+                    metrics.add(() -> queueMetrics.recordSent(channel, createdAt, now, attempts + 1));
+                }
+            } else {
+                queue.setErrorMessage(result != null ? result.errorMessage() : "Missing delivery result");
+                scheduleRetry(queue, now, metrics);
+            }
         }
 
-        queueRepository.saveAll(queuedNotifications);
-        log.info("Processed {} queued notifications", queuedNotifications.size());
-        return queuedNotifications.stream().map(queueMapper::toResponse).toList();
+        queueRepository.saveAll(owned);
+        publishPendingChanges(settled, -1);
+        afterCommit(metrics);
+        return owned.stream().map(queueMapper::toResponse).toList();
     }
 
+    /**
+     * Hands the given workers' leases back so their rows are claimable at once rather than after lease expiry. Used on
+     * shutdown for rows whose delivery did not finish in time; those rows may be delivered twice.
+     */
     @Transactional
-    public int retryFailedNotifications() {
+    public int releaseLeases(Collection<String> leaseOwners) {
+        if (leaseOwners.isEmpty()) {
+            return 0;
+        }
+        int released =
+                queueRepository.releaseLeasesHeldBy(leaseOwners, QueueStatus.PROCESSING, QueueStatus.PENDING);
+        if (released > 0) {
+            log.warn("Released {} in-flight notification leases on shutdown", released);
+        }
+        return released;
+    }
+
+    /**
+     * Last resort for a delivery whose result cannot be recorded even on its own: the row goes straight to DEAD_LETTER
+     * so it stops being re-claimed and re-sent every time its lease expires.
+     */
+    @Transactional
+    public boolean deadLetterUnrecordable(String leaseOwner, UUID queueId, String errorMessage) {
+        int updated = queueRepository.deadLetterLeased(
+                queueId, leaseOwner, QueueStatus.PROCESSING, QueueStatus.DEAD_LETTER, errorMessage);
+        if (updated == 0) {
+            return false;
+        }
+        queueRepository
+                .findUserIdById(queueId)
+                .ifPresent(userId -> eventPublisher.publishEvent(NotificationCountChangedEvent.pending(userId, -1)));
+        log.error("Notification {} moved to dead letter: {}", queueId, errorMessage);
+        return true;
+    }
+
+    @Transactional
+    public int reclaimExpiredLeases() {
         if (!queueProperties.isEnabled()) {
             return 0;
         }
 
-        Instant retryAfter = Instant.now().minus(queueProperties.getRetryIntervalMinutes(), ChronoUnit.MINUTES);
-        Pageable pageable = PageRequest.of(
-                0, queueProperties.getBatchSize(), Sort.by("lastAttemptAt").ascending());
+        int reclaimed =
+                queueRepository.releaseExpiredLeases(QueueStatus.PROCESSING, QueueStatus.PENDING, Instant.now());
+        if (reclaimed > 0) {
+            log.warn("Reclaimed {} queued notifications with expired leases", reclaimed);
+        }
+        return reclaimed;
+    }
 
-        List<NotificationQueue> candidates =
-                queueRepository.findByStatusAndLastAttemptAtBefore(QueueStatus.FAILED, retryAfter, pageable);
+    /**
+     * Moves failed rows whose backoff has elapsed back to PENDING. Selection is a single query on
+     * {@code (status, next_attempt_at)}, and exhausted rows are already DEAD_LETTER, so the sweep costs the same no
+     * matter how large the failure backlog grows.
+     */
+    @Transactional
+    public int retryFailedNotifications() {
+        if (!queueProperties.isEnabled()) {
+            return 0;
+        }
 
-        List<NotificationQueue> toRequeue =
-                candidates.stream().filter(this::isEligibleForRetry).toList();
-        toRequeue.forEach(this::resetForRetry);
+        Instant now = Instant.now();
+        List<NotificationQueue> toRequeue = queueRepository.findRetryDue(
+                QueueStatus.FAILED, now, PageRequest.of(0, queueProperties.getBatchSize()));
+        if (toRequeue.isEmpty()) {
+            return 0;
+        }
 
+        toRequeue.forEach(queue -> resetForRetry(queue, now));
         queueRepository.saveAll(toRequeue);
+        publishPendingChanges(toRequeue, 1);
         log.info("Requeued {} failed notifications for retry", toRequeue.size());
         return toRequeue.size();
     }
 
-    private boolean isEligibleForRetry(NotificationQueue queue) {
+    private void scheduleRetry(NotificationQueue queue, Instant now, List<Runnable> metrics) {
         int attempts = Optional.ofNullable(queue.getAttempts()).orElse(0);
         int maxAttempts = Optional.ofNullable(queue.getMaxAttempts()).orElse(queueProperties.getMaxAttempts());
-        return attempts < maxAttempts;
+        NotificationChannel channel = queue.getChannel();
+        if (attempts >= maxAttempts) {
+            queue.setStatus(QueueStatus.DEAD_LETTER);
+            queue.resetNextAttemptAt();
+            queue.releaseDedupKey();
+            metrics.add(() -> queueMetrics.recordDeadLetter(channel, attempts));
+            log.warn(
+                    "Notification {} moved to dead letter after {} attempts: {}",
+                    queue.getId(),
+                    attempts,
+                    queue.getErrorMessage());
+            return;
+        }
+        queue.setStatus(QueueStatus.FAILED);
+        queue.setNextAttemptAt(now.plus(retryBackoff(attempts)));
+        metrics.add(() -> queueMetrics.recordRetry(channel));
     }
 
-    private void resetForRetry(NotificationQueue queue) {
+    /**
+     * Runs the metric updates once the surrounding transaction commits, so deliveries whose outcome is rolled back
+     * are never counted; without a transaction they run at once.
+     */
+    private static void afterCommit(List<Runnable> metrics) {
+        if (metrics.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            metrics.forEach(Runnable::run);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                metrics.forEach(Runnable::run);
+            }
+        });
+    }
+
+    /**
+     * Exponential backoff with jitter: {@code base * multiplier^(attempts - 1)}, capped, of which the configured
+     * jitter share is randomized so retries of a failed batch do not all land on the same tick.
+     */
+    Duration retryBackoff(int attempts) {
+        long baseMillis = Duration.ofMinutes(queueProperties.getRetryIntervalMinutes()).toMillis();
+        long capMillis = Duration.ofMinutes(queueProperties.getRetryMaxIntervalMinutes()).toMillis();
+        double exponential =
+                baseMillis * Math.pow(queueProperties.getRetryBackoffMultiplier(), Math.max(attempts - 1, 0));
+        long delayMillis = (long) Math.min(exponential, capMillis);
+
+        long jitterMillis = delayMillis * queueProperties.getRetryJitterPercent() / 100;
+        if (jitterMillis > 0) {
+            delayMillis = delayMillis - jitterMillis + ThreadLocalRandom.current().nextLong(jitterMillis + 1);
+        }
+        return Duration.ofMillis(delayMillis);
+    }
+
+    private void resetForRetry(NotificationQueue queue, Instant now) {
         queue.setStatus(QueueStatus.PENDING);
-        queue.setScheduledFor(Instant.now());
+        queue.setScheduledFor(now);
+        queue.resetNextAttemptAt();
         queue.resetLastAttemptAt();
         queue.resetErrorMessage();
     }
 
+    private void publishPendingChanges(List<NotificationQueue> queues, int deltaPerRow) {
+        queues.stream()
+                .collect(Collectors.groupingBy(queue -> queue.getUser().getId(), Collectors.counting()))
+                .forEach((userId, rows) ->
+                        eventPublisher.publishEvent(NotificationCountChangedEvent.pending(userId, rows * deltaPerRow)));
+    }
+
     private void ensureQueueEnabled() {
         if (!queueProperties.isEnabled()) {
             throw new NotificationQueueDisabledException("Notification queue is disabled");
         }
     }
 
+    private void ensureChannelEnabled(NotificationChannel channel) {
+        if (!isChannelEnabled(channel)) {
+            queueMetrics.recordChannelDisabled(channel, 1);
+            throw new NotificationQueueDisabledException(channel + " delivery is disabled");
+        }
+    }
+
+    /** Email and SMS rows are only queued while their provider is enabled; they would otherwise fail on dispatch. */
+    public boolean isChannelEnabled(NotificationChannel channel) {
+        return switch (channel) {
+            case EMAIL -> emailProperties.isEnabled();
+            case SMS -> smsProperties.isEnabled();
+            case IN_APP -> true;
+        };
+    }
+
+    /**
+     * Remaining quota per user for the given requests. Users whose cached count would drop any of their rows are
+     * recounted in the database, so a stale counter never rejects on its own.
+     */
+    private Map<UUID, Long> remainingQuota(List<NotificationQueueRequest> requests) {
+        Map<UUID, Long> requested = requests.stream()
+                .collect(Collectors.groupingBy(NotificationQueueRequest::getUserId, Collectors.counting()));
+        int maxPerUser = queueProperties.getMaxPerUser();
+        Map<UUID, Long> remaining = new HashMap<>();
+        if (maxPerUser <= 0) {
+            requested.keySet().forEach(userId -> remaining.put(userId, Long.MAX_VALUE));
+            return remaining;
+        }
+        Map<UUID, Long> active = new HashMap<>(countActiveForUsers(requested.keySet()));
+        if (quotaCounters.isReady()) {
+            Set<UUID> atLimit = requested.entrySet().stream()
+                    .filter(entry -> active.getOrDefault(entry.getKey(), 0L) + entry.getValue() > maxPerUser)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+            if (!atLimit.isEmpty()) {
+                atLimit.forEach(active::remove);
+                queueRepository.countByUserIdInAndStatusIn(atLimit, ACTIVE_STATUSES)
+                        .forEach(count -> active.put(count.getUserId(), count.getCount()));
+            }
+        }
+        requested.keySet().forEach(userId -> remaining.put(userId, maxPerUser - active.getOrDefault(userId, 0L)));
+        return remaining;
+    }
+
     private void enforceUserQuota(UUID userId) {
         int maxPerUser = queueProperties.getMaxPerUser();
         if (maxPerUser <= 0) {
             return;
         }
+        if (quotaCounters.isReady() && quotaCounters.activeCount(userId) < maxPerUser) {
+            return;
+        }
+        // a cached count at the limit may be stale, so only the database rejects
         long activeCount = queueRepository.countByUserIdAndStatusIn(userId, ACTIVE_STATUSES);
         if (activeCount >= maxPerUser) {
             throw new NotificationQueueLimitException(
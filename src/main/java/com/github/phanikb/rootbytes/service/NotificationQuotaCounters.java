@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.github.phanikb.rootbytes.config.NotificationQueueProperties;
+import com.github.phanikb.rootbytes.config.SchedulerLockProperties;
+import com.github.phanikb.rootbytes.enums.notification.QueueStatus;
+import com.github.phanikb.rootbytes.event.NotificationCountChangedEvent;
+import com.github.phanikb.rootbytes.repository.NotificationQueueRepository;
+import com.github.phanikb.rootbytes.repository.UserCount;
+
+/**
+ * Active (PENDING or PROCESSING) queue rows per user, held in memory so quota checks need no COUNT query. The map is
+ * built from one grouped query at startup and kept current from the pending deltas of
+ * {@link NotificationCountChangedEvent} after commit. Deltas that race a rebuild, or rows changed outside those events,
+ * are corrected by the next {@link #rebuild()}. Until the first rebuild completes, {@link #isReady()} is false and
+ * callers fall back to the database.
+ *
+ * <p>The deltas only reach the node that committed them, so the counters are used only on a single node, which is
+ * signalled by scheduler locking being disabled. On a cluster, a node that enqueues but never delivers would keep
+ * counting rows other nodes have sent. Even on one node a count may lag a concurrent commit, so callers confirm a
+ * count at the limit against the database before rejecting.
+ */
+@Slf4j
+@Component
+public class NotificationQuotaCounters {
+
+    private static final Set<QueueStatus> ACTIVE_STATUSES = QueueStatus.activeQueueStatuses();
+
+    private final NotificationQueueRepository queueRepository;
+    private final NotificationQueueProperties queueProperties;
+    private final SchedulerLockProperties lockProperties;
+    private volatile @Nullable Map<UUID, LongAdder> active;
+
+    public NotificationQuotaCounters(
+            NotificationQueueRepository queueRepository,
+            NotificationQueueProperties queueProperties,
+            SchedulerLockProperties lockProperties) {
+        this.queueRepository = queueRepository;
+        this.queueProperties = queueProperties;
+        this.lockProperties = lockProperties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (isEnabled()) {
+            rebuild();
+        }
+    }
+
+    /** Counters are kept only with the queue on, the counters switched on, and a single node. */
+    public boolean isEnabled() {
+        return queueProperties.isEnabled() && queueProperties.isQuotaCountersEnabled() && !lockProperties.isEnabled();
+    }
+
+    public boolean isReady() {
+        return active != null && isEnabled();
+    }
+
+    public long activeCount(UUID userId) {
+        Map<UUID, LongAdder> counters = active;
+        LongAdder counter = counters == null ? null : counters.get(userId);
+        return counter == null ? 0 : Math.max(counter.sum(), 0);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCountChanged(NotificationCountChangedEvent event) {
+        Map<UUID, LongAdder> counters = active;
+        if (counters != null && event.pendingDelta() != 0) {
+            counters.computeIfAbsent(event.userId(), userId -> new LongAdder()).add(event.pendingDelta());
+        }
+    }
+
+    /**
+     * Replaces the counters with a fresh grouped count and returns how many users had drifted from it. Users with no
+     * active rows are dropped, which also bounds the map to users with queued work.
+     */
+    public int rebuild() {
+        Map<UUID, LongAdder> rebuilt = new ConcurrentHashMap<>();
+        for (UserCount count : queueRepository.countActiveByUser(ACTIVE_STATUSES)) {
+            LongAdder counter = new LongAdder();
+            counter.add(count.getCount());
+            rebuilt.put(count.getUserId(), counter);
+        }
+
+        Map<UUID, LongAdder> previous = active;
+        active = rebuilt;
+        int drifted = previous == null ? 0 : drift(previous, rebuilt);
+        if (drifted > 0) {
+            log.info("Corrected queue quota counters for {} users; tracking {} users", drifted, rebuilt.size());
+        } else {
+            log.debug("Rebuilt queue quota counters for {} users", rebuilt.size());
+        }
+        return drifted;
+    }
+
+    private static int drift(Map<UUID, LongAdder> previous, Map<UUID, LongAdder> rebuilt) {
+        Set<UUID> userIds = new HashSet<>(previous.keySet());
+        userIds.addAll(rebuilt.keySet());
+        int drifted = 0;
+        for (UUID userId : userIds) {
+            if (sum(previous.get(userId)) != sum(rebuilt.get(userId))) {
+                drifted++;
+            }
+        }
+        return drifted;
+    }
+
+    private static long sum(@Nullable LongAdder counter) {
+        return counter == null ? 0 : Math.max(counter.sum(), 0);
+    }
+}
@@ -8,10 +8,13 @@ package com.github.phanikb.rootbytes.service;
 
 import java.time.DayOfWeek;
 import java.time.Instant;
+import java.time.LocalTime;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.TemporalAdjusters;
+import java.util.UUID;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
@@ -40,8 +43,9 @@ public class NotificationSchedulingService {
         return NotificationChannel.IN_APP;
     }
 
-    public Instant calculateScheduledTime(NotificationFrequency frequency) {
-        if (frequency == null || frequency == NotificationFrequency.INSTANT) {
+    public Instant calculateScheduledTime(@Nullable NotificationPreference pref) {
+        NotificationFrequency frequency = pref == null ? null : pref.getFrequency();
+        if (pref == null || frequency == null || frequency == NotificationFrequency.INSTANT) {
             return Instant.now();
         }
 
@@ -49,57 +53,101 @@ public class NotificationSchedulingService {
             return Instant.now();
         }
 
-        return calculateDigestTime(frequency);
+        return calculateDigestTime(frequency, pref);
     }
 
-    private Instant calculateDigestTime(NotificationFrequency frequency) {
+    /** Returns the digest a row scheduled with this frequency belongs to, or {@code null} when it is sent as-is. */
+    public @Nullable NotificationFrequency resolveDigestFrequency(@Nullable NotificationFrequency frequency) {
+        if (!notificationDigestProperties.isEnabled() || frequency == NotificationFrequency.INSTANT) {
+            return null;
+        }
+        return frequency;
+    }
+
+    /**
+     * Places the digest inside a window that opens at the configured digest time. Each user gets a fixed offset into
+     * the window derived from their id, so the user base becomes due spread across the window instead of all at once,
+     * and a slot that lands in the user's quiet hours moves past them. Digest and quiet hours are both UTC.
+     */
+    private Instant calculateDigestTime(NotificationFrequency frequency, NotificationPreference pref) {
         Instant nowInstant = Instant.now();
         ZonedDateTime now = ZonedDateTime.ofInstant(nowInstant, ZoneOffset.UTC);
 
-        switch (frequency) {
-            case DAILY_DIGEST -> {
-                ZonedDateTime candidate =
-                        now.withHour(resolveDailyDigestHour()).withMinute(0).withSecond(0);
-
-                if (!candidate.isAfter(now)) {
-                    candidate = candidate.plusDays(1);
-                }
-
-                return candidate.toInstant();
-            }
-            case WEEKLY_DIGEST -> {
-                DayOfWeek digestDay = resolveWeeklyDigestDay();
+        if (frequency == NotificationFrequency.INSTANT) {
+            return nowInstant;
+        }
 
-                ZonedDateTime candidate = now.with(TemporalAdjusters.nextOrSame(digestDay))
-                        .withHour(resolveWeeklyDigestHour())
-                        .withMinute(0);
+        ZonedDateTime windowStart = windowStart(frequency, now);
+        long offsetSeconds = windowOffsetSeconds(pref.getUserId());
+        ZonedDateTime candidate = placeInWindow(windowStart, offsetSeconds, pref);
+        if (!candidate.isAfter(now)) {
+            candidate = placeInWindow(nextWindow(windowStart, frequency), offsetSeconds, pref);
+        }
+        return candidate.toInstant();
+    }
 
-                if (!candidate.isAfter(now)) {
-                    candidate = candidate.plusWeeks(1);
-                }
+    private ZonedDateTime placeInWindow(ZonedDateTime windowStart, long offsetSeconds, NotificationPreference pref) {
+        ZonedDateTime slot = windowStart.plusSeconds(offsetSeconds);
+        LocalTime quietStart = pref.getQuietHoursStart();
+        LocalTime quietEnd = pref.getQuietHoursEnd();
+        if (quietStart == null || quietEnd == null || !isQuiet(slot.toLocalTime(), quietStart, quietEnd)) {
+            return slot;
+        }
 
-                return candidate.toInstant();
-            }
-            case MONTHLY_DIGEST -> {
-                int digestDay = notificationDigestProperties.getMonthlyDay();
+        ZonedDateTime afterQuiet = slot.with(quietEnd);
+        if (!afterQuiet.isAfter(slot)) {
+            afterQuiet = afterQuiet.plusDays(1);
+        }
+        return afterQuiet.plusSeconds(offsetSeconds);
+    }
 
-                ZonedDateTime candidate = now.with(TemporalAdjusters.firstDayOfNextMonth())
-                        .withDayOfMonth(digestDay)
-                        .withHour(notificationDigestProperties.getMonthlyHour())
-                        .withMinute(0);
+    static boolean isQuiet(LocalTime time, LocalTime quietStart, LocalTime quietEnd) {
+        if (quietStart.equals(quietEnd)) {
+            return false;
+        }
+        if (quietStart.isBefore(quietEnd)) {
+            return !time.isBefore(quietStart) && time.isBefore(quietEnd);
+        }
+        return !time.isBefore(quietStart) || time.isBefore(quietEnd);
+    }
 
-                if (!candidate.isAfter(now)) {
-                    candidate = candidate.plusMonths(1);
-                }
+    /** Deterministic per-user offset: the same user always lands on the same point of the window. */
+    long windowOffsetSeconds(@Nullable UUID userId) {
+        long windowSeconds = notificationDigestProperties.getWindowMinutes() * 60L;
+        if (userId == null || windowSeconds == 0) {
+            return 0;
+        }
+        long hash = userId.getMostSignificantBits() ^ Long.rotateLeft(userId.getLeastSignificantBits(), 32);
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return Math.floorMod(hash ^ (hash >>> 33), windowSeconds);
+    }
 
-                return candidate.toInstant();
+    private ZonedDateTime windowStart(NotificationFrequency frequency, ZonedDateTime now) {
+        return switch (frequency) {
+            case WEEKLY_DIGEST -> {
+                ZonedDateTime digestDay = now.with(TemporalAdjusters.nextOrSame(resolveWeeklyDigestDay()));
+                yield atHour(digestDay, resolveWeeklyDigestHour());
             }
-            case INSTANT -> {
-                return nowInstant;
+            case MONTHLY_DIGEST -> {
+                ZonedDateTime digestDay = now.with(TemporalAdjusters.firstDayOfNextMonth())
+                        .withDayOfMonth(notificationDigestProperties.getMonthlyDay());
+                yield atHour(digestDay, notificationDigestProperties.getMonthlyHour());
             }
-        }
+            case DAILY_DIGEST, INSTANT -> atHour(now, resolveDailyDigestHour());
+        };
+    }
+
+    private static ZonedDateTime nextWindow(ZonedDateTime windowStart, NotificationFrequency frequency) {
+        return switch (frequency) {
+            case WEEKLY_DIGEST -> windowStart.plusWeeks(1);
+            case MONTHLY_DIGEST -> windowStart.plusMonths(1);
+            case DAILY_DIGEST, INSTANT -> windowStart.plusDays(1);
+        };
+    }
 
-        throw new IllegalStateException("Unhandled notification frequency: " + frequency);
+    private static ZonedDateTime atHour(ZonedDateTime date, int hour) {
+        return date.withHour(hour).withMinute(0).withSecond(0).withNano(0);
     }
 
     private int resolveDailyDigestHour() {
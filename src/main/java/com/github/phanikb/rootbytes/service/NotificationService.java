@@ -8,19 +8,25 @@ package com.github.phanikb.rootbytes.service;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import jakarta.validation.constraints.NotNull;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import com.github.phanikb.rootbytes.config.NotificationArchiveProperties;
+import com.github.phanikb.rootbytes.dto.v1.request.BroadcastRequest;
 import com.github.phanikb.rootbytes.dto.v1.request.NotificationRequest;
+import com.github.phanikb.rootbytes.dto.v1.response.BroadcastResponse;
 import com.github.phanikb.rootbytes.dto.v1.response.NotificationCountResponse;
 import com.github.phanikb.rootbytes.entity.Notification;
 import com.github.phanikb.rootbytes.entity.NotificationMetadata;
@@ -28,8 +34,10 @@ import com.github.phanikb.rootbytes.entity.NotificationPreference;
 import com.github.phanikb.rootbytes.entity.UserEntity;
 import com.github.phanikb.rootbytes.enums.notification.NotificationPriority;
 import com.github.phanikb.rootbytes.enums.notification.NotificationType;
+import com.github.phanikb.rootbytes.event.NotificationCountChangedEvent;
 import com.github.phanikb.rootbytes.repository.NotificationMetadataRepository;
 import com.github.phanikb.rootbytes.repository.NotificationRepository;
+import com.github.phanikb.rootbytes.repository.UserRepository;
 
 @Slf4j
 @Service
@@ -38,10 +46,14 @@ public class NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final NotificationMetadataRepository metadataRepository;
+    private final UserRepository userRepository;
     private final NotificationPreferenceService preferenceService;
     private final ExternalNotificationQueueingService externalQueueingService;
     private final NotificationMaintenanceService maintenanceService;
     private final NotificationArchiveProperties notificationArchiveProperties;
+    private final NotificationCountCache countCache;
+    private final NotificationCountStreamService countStreamService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Optional<Notification> createNotification(@NotNull NotificationRequest request) {
@@ -60,6 +72,7 @@ public class NotificationService {
 
         Notification notification = buildNotification(request);
         Notification savedNotification = notificationRepository.save(notification);
+        eventPublisher.publishEvent(NotificationCountChangedEvent.unread(user.getId(), 1));
 
         if (request.getEntityType() != null) {
             createMetadata(savedNotification, request);
@@ -72,6 +85,62 @@ public class NotificationService {
         return Optional.of(savedNotification);
     }
 
+    /**
+     * Fans one notification out to many users. Preferences are loaded with one IN query, and notifications, metadata
+     * and queue rows are written with batched inserts, so the statement count grows with the batch size rather than
+     * the recipient count.
+     */
+    @Transactional
+    public BroadcastResponse createNotifications(@NotNull BroadcastRequest request) {
+        NotificationType type = request.getType();
+        List<UserEntity> users = userRepository.findAllById(request.getUserIds());
+
+        Map<UUID, NotificationPreference> preferences =
+                type.isSubscribable() || type.isExternal() ? preferenceService.getOrCreatePreferences(users) : Map.of();
+        List<UserEntity> recipients = users.stream()
+                .filter(user -> preferenceService.shouldNotify(preferences.get(user.getId()), type))
+                .toList();
+
+        List<Notification> notifications = recipients.stream()
+                .map(user -> buildNotification(NotificationRequest.builder()
+                        .user(user)
+                        .type(type)
+                        .title(request.getTitle())
+                        .message(request.getMessage())
+                        .data(request.getData())
+                        .actionUrl(request.getActionUrl())
+                        .build()))
+                .toList();
+        List<Notification> saved = notificationRepository.saveAll(notifications);
+
+        if (request.getEntityType() != null) {
+            metadataRepository.saveAll(saved.stream()
+                    .map(notification -> NotificationMetadata.builder()
+                            .notification(notification)
+                            .entityType(request.getEntityType())
+                            .entityId(request.getEntityId())
+                            .actionUrl(request.getActionUrl())
+                            .build())
+                    .toList());
+        }
+        saved.forEach(notification -> eventPublisher.publishEvent(
+                NotificationCountChangedEvent.unread(notification.getUser().getId(), 1)));
+
+        int externalCandidates = type.isExternal() ? saved.size() : 0;
+        int queued = externalQueueingService.queueExternalNotifications(saved, preferences);
+
+        BroadcastResponse response = BroadcastResponse.builder()
+                .requested(request.getUserIds().size())
+                .unknownUsers(request.getUserIds().size() - users.size())
+                .optedOut(users.size() - recipients.size())
+                .created(saved.size())
+                .queued(queued)
+                .overQuota(externalQueueingService.isQueueEnabled() ? externalCandidates - queued : 0)
+                .build();
+        log.info("Broadcast {} notification: {}", type, response);
+        return response;
+    }
+
     private Notification buildNotification(NotificationRequest request) {
         Instant expiresAt = request.getType().getPriority() == NotificationPriority.CRITICAL
                 ? Instant.now().plus(notificationArchiveProperties.getReadAfterDays(), ChronoUnit.DAYS)
@@ -105,8 +174,11 @@ public class NotificationService {
         return maintenanceService.markAllAsRead(userId);
     }
 
-    @Transactional(readOnly = true)
     public NotificationCountResponse getNotificationCounts(UUID userId) {
-        return maintenanceService.getNotificationCounts(userId);
+        return countCache.getCounts(userId);
+    }
+
+    public SseEmitter streamNotificationCounts(UUID userId) {
+        return countStreamService.subscribe(userId, countCache.getCounts(userId));
     }
 }
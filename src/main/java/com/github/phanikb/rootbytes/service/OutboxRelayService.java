@@ -0,0 +1,224 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.github.phanikb.rootbytes.config.OutboxProperties;
+import com.github.phanikb.rootbytes.dto.v1.request.BroadcastRequest;
+import com.github.phanikb.rootbytes.entity.OutboxEvent;
+import com.github.phanikb.rootbytes.entity.Recipe;
+import com.github.phanikb.rootbytes.enums.OutboxEventType;
+import com.github.phanikb.rootbytes.enums.notification.NotificationMetadataEntityType;
+import com.github.phanikb.rootbytes.enums.notification.NotificationType;
+import com.github.phanikb.rootbytes.repository.OutboxEventRepository;
+import com.github.phanikb.rootbytes.repository.RecipeRepository;
+import com.github.phanikb.rootbytes.repository.ReviewRepository;
+import com.github.phanikb.rootbytes.util.LogSanitizer;
+
+/**
+ * Turns committed outbox events into notifications. Each batch reads the oldest unprocessed events and resolves the
+ * affected recipes and their reviewers with one IN query each. Every event is then relayed in its own transaction: it
+ * is locked with {@code SKIP LOCKED}, fanned out through the bulk notification path and marked processed, so its
+ * notifications and its processed mark commit together and a relayed event is never relayed again. One failing event
+ * rolls back only its own notifications; the failure is recorded on the event in a separate transaction and the batch
+ * carries on. A failed event is retried on later runs until it reaches {@code rootbytes.outbox.max-attempts}, after
+ * which it is closed with its last error.
+ */
+@Slf4j
+@Service
+public class OutboxRelayService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final RecipeRepository recipeRepository;
+    private final ReviewRepository reviewRepository;
+    private final NotificationService notificationService;
+    private final OutboxProperties outboxProperties;
+    private final TransactionTemplate eventTransaction;
+
+    public OutboxRelayService(
+            OutboxEventRepository outboxEventRepository,
+            RecipeRepository recipeRepository,
+            ReviewRepository reviewRepository,
+            NotificationService notificationService,
+            OutboxProperties outboxProperties,
+            PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.recipeRepository = recipeRepository;
+        this.reviewRepository = reviewRepository;
+        this.notificationService = notificationService;
+        this.outboxProperties = outboxProperties;
+        this.eventTransaction = new TransactionTemplate(transactionManager);
+        this.eventTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /** Returns the number of events relayed or failed by this call; events taken by another relay are not counted. */
+    @Transactional(readOnly = true)
+    public int relayBatch() {
+        List<OutboxEvent> events =
+                outboxEventRepository.findUnprocessed(PageRequest.of(0, outboxProperties.getBatchSize()));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        Set<UUID> recipeIds =
+                events.stream().map(OutboxEvent::getAggregateId).collect(Collectors.toSet());
+        Map<UUID, Recipe> recipes = recipeRepository.findAllById(recipeIds).stream()
+                .collect(Collectors.toMap(Recipe::getId, Function.identity()));
+        Map<UUID, Set<UUID>> reviewers = loadReviewers(events);
+
+        int relayed = 0;
+        int failed = 0;
+        for (OutboxEvent event : events) {
+            Recipe recipe = recipes.get(event.getAggregateId());
+            Set<UUID> recipients = recipe == null ? Set.of() : recipients(event, recipe, reviewers);
+            try {
+                if (Boolean.TRUE.equals(eventTransaction.execute(status -> relay(event.getId(), recipe, recipients)))) {
+                    relayed++;
+                }
+            } catch (RuntimeException e) {
+                eventTransaction.executeWithoutResult(status -> recordFailure(event.getId(), e));
+                failed++;
+            }
+        }
+        log.debug("Relayed {} of {} outbox events, {} failed", relayed, events.size(), failed);
+        return relayed + failed;
+    }
+
+    /** Runs in the event's own transaction; returns {@code false} when another relay has the event. */
+    private boolean relay(UUID eventId, @Nullable Recipe recipe, Set<UUID> recipients) {
+        Optional<OutboxEvent> locked = outboxEventRepository.lockUnprocessedById(eventId);
+        if (locked.isEmpty()) {
+            return false;
+        }
+        OutboxEvent event = locked.get();
+        event.setAttempts(event.getAttempts() + 1);
+        if (recipe == null) {
+            event.setLastError("Recipe not found: " + event.getAggregateId());
+        } else {
+            if (!recipients.isEmpty()) {
+                notificationService.createNotifications(toBroadcast(event, recipe, recipients));
+            }
+            event.setLastError(null);
+        }
+        event.setProcessedAt(Instant.now());
+        outboxEventRepository.save(event);
+        return true;
+    }
+
+    private void recordFailure(UUID eventId, RuntimeException error) {
+        Optional<OutboxEvent> locked = outboxEventRepository.lockUnprocessedById(eventId);
+        if (locked.isEmpty()) {
+            return;
+        }
+        OutboxEvent event = locked.get();
+        event.setAttempts(event.getAttempts() + 1);
+        event.setLastError(LogSanitizer.sanitize(error));
+        int maxAttempts = Math.max(outboxProperties.getMaxAttempts(), 1);
+        if (event.getAttempts() >= maxAttempts) {
+            event.setProcessedAt(Instant.now());
+        }
+        outboxEventRepository.save(event);
+        if (event.getProcessedAt() != null) {
+            log.warn(
+                    "Outbox event {} abandoned after {} attempts: {}",
+                    event.getId(),
+                    event.getAttempts(),
+                    event.getLastError());
+            return;
+        }
+        log.warn(
+                "Outbox event {} failed on attempt {} of {}: {}",
+                event.getId(),
+                event.getAttempts(),
+                maxAttempts,
+                event.getLastError());
+    }
+
+    @Transactional
+    public int purgeProcessed(int limit) {
+        Instant cutoff = Instant.now().minus(Duration.ofHours(outboxProperties.getRetentionHours()));
+        List<UUID> ids = outboxEventRepository.findProcessedBefore(cutoff, PageRequest.of(0, limit));
+        return ids.isEmpty() ? 0 : outboxEventRepository.deleteByIds(ids);
+    }
+
+    @Transactional(readOnly = true)
+    public long countPending() {
+        return outboxEventRepository.countByProcessedAtIsNull();
+    }
+
+    private Map<UUID, Set<UUID>> loadReviewers(List<OutboxEvent> events) {
+        Set<UUID> updatedRecipeIds = events.stream()
+                .filter(event -> event.getEventType() == OutboxEventType.RECIPE_UPDATED)
+                .map(OutboxEvent::getAggregateId)
+                .collect(Collectors.toSet());
+        Map<UUID, Set<UUID>> reviewers = new HashMap<>();
+        if (updatedRecipeIds.isEmpty()) {
+            return reviewers;
+        }
+        for (ReviewRepository.RecipeReviewer row : reviewRepository.findReviewersByRecipeIdIn(updatedRecipeIds)) {
+            reviewers.computeIfAbsent(row.getRecipeId(), id -> new LinkedHashSet<>()).add(row.getReviewerId());
+        }
+        return reviewers;
+    }
+
+    private static Set<UUID> recipients(OutboxEvent event, Recipe recipe, Map<UUID, Set<UUID>> reviewers) {
+        Set<UUID> recipients = new LinkedHashSet<>();
+        if (event.getEventType() == OutboxEventType.RECIPE_UPDATED) {
+            recipients.addAll(reviewers.getOrDefault(recipe.getId(), Set.of()));
+        } else {
+            recipients.add(recipe.getAuthor().getId());
+        }
+        if (event.getActorId() != null) {
+            recipients.remove(event.getActorId());
+        }
+        return recipients;
+    }
+
+    private static BroadcastRequest toBroadcast(OutboxEvent event, Recipe recipe, Set<UUID> recipients) {
+        String message = switch (event.getEventType()) {
+            case RECIPE_UPDATED -> "A recipe you reviewed, \"" + recipe.getTitle() + "\", was updated.";
+            case REVIEW_SUBMITTED -> "Your recipe \"" + recipe.getTitle() + "\" received a new review.";
+            case APPROVAL_RECORDED ->
+                "Your recipe \"" + recipe.getTitle() + "\" was marked " + event.getPayload() + " by a moderator.";
+        };
+        String title = switch (event.getEventType()) {
+            case RECIPE_UPDATED -> "Recipe updated";
+            case REVIEW_SUBMITTED -> "New review";
+            case APPROVAL_RECORDED -> "Moderation update";
+        };
+        return BroadcastRequest.builder()
+                .userIds(recipients)
+                .type(NotificationType.GENERAL)
+                .title(title)
+                .message(message)
+                .entityType(NotificationMetadataEntityType.RECIPE)
+                .entityId(recipe.getId())
+                .actionUrl("/recipes/" + recipe.getId())
+                .build();
+    }
+}
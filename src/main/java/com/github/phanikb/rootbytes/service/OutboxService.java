@@ -0,0 +1,50 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service;
+
+import java.util.UUID;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.github.phanikb.rootbytes.entity.OutboxEvent;
+import com.github.phanikb.rootbytes.enums.OutboxEventType;
+import com.github.phanikb.rootbytes.event.OutboxRecordedEvent;
+import com.github.phanikb.rootbytes.repository.OutboxEventRepository;
+
+/**
+ * Records domain events in the {@code outbox} table as part of the caller's transaction, so an event exists if and
+ * only if the business change committed. Notifications are produced later by the relay, off the request path.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxEvent record(OutboxEventType type, UUID aggregateId, UUID actorId, @Nullable String payload) {
+        OutboxEvent event = outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType(type.getAggregateType())
+                .aggregateId(aggregateId)
+                .eventType(type)
+                .actorId(actorId)
+                .payload(payload)
+                .build());
+        log.debug("Recorded outbox event {} for {} {}", type, type.getAggregateType(), aggregateId);
+        eventPublisher.publishEvent(new OutboxRecordedEvent(event.getId(), type));
+        return event;
+    }
+}
@@ -6,6 +6,7 @@
 
 package com.github.phanikb.rootbytes.service;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -24,6 +25,7 @@ import com.github.phanikb.rootbytes.entity.PermittedLastName;
 import com.github.phanikb.rootbytes.exception.DuplicateResourceException;
 import com.github.phanikb.rootbytes.exception.InvalidLastNameException;
 import com.github.phanikb.rootbytes.exception.ResourceNotFoundException;
+import com.github.phanikb.rootbytes.repository.CatalogVersion;
 import com.github.phanikb.rootbytes.repository.PermittedLastNameRepository;
 import com.github.phanikb.rootbytes.util.RbStringUtil;
 
@@ -76,6 +78,11 @@ public class PermittedLastNameService {
         return validLastNameRepository.findByIsActiveTrue();
     }
 
+    @Transactional(readOnly = true)
+    public CatalogVersion getCatalogVersion() {
+        return validLastNameRepository.findCatalogVersion();
+    }
+
     @Transactional(readOnly = true)
     public Page<PermittedLastName> getAllActiveLastNames(Pageable pageable) {
         return validLastNameRepository.findByIsActiveTrue(pageable);
@@ -150,6 +157,8 @@ public class PermittedLastNameService {
 
         existing.getAliases().clear();
         updateAliases(existing, request.getAliases());
+        // alias-only edits leave the parent row clean; touch it so the catalog version moves
+        existing.setUpdatedAt(Instant.now());
 
         PermittedLastName updated = validLastNameRepository.save(existing);
         log.info(
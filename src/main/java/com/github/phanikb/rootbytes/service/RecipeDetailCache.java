@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import com.github.phanikb.rootbytes.common.Constants;
+import com.github.phanikb.rootbytes.dto.v1.response.RecipeDetailResponse;
+
+/**
+ * Read-through cache in front of {@link RecipeService#getRecipeDetail(UUID)}. Loads are synchronized per key, so a
+ * burst of requests for a recipe that is not cached yet waits on a single database load. Writes in
+ * {@link RecipeService} evict the entry after their transaction commits, but only on the node that handled them, so
+ * every hit is revalidated against the recipe's {@code version} and {@code updated_at} before it is served. A recipe
+ * changed or deleted through another node is reloaded instead of served stale.
+ */
+@Component
+public class RecipeDetailCache {
+
+    private final RecipeService recipeService;
+    private final Cache cache;
+
+    public RecipeDetailCache(RecipeService recipeService, CacheManager cacheManager) {
+        this.recipeService = recipeService;
+        this.cache = Objects.requireNonNull(
+                cacheManager.getCache(Constants.Cache.RECIPE_DETAIL), "Recipe detail cache is not configured");
+    }
+
+    public RecipeDetailResponse getRecipeDetail(UUID id) {
+        RecipeDetailResponse cached = cache.get(id, RecipeDetailResponse.class);
+        if (cached != null) {
+            if (recipeService.isDetailCurrent(id, cached)) {
+                return cached;
+            }
+            cache.evictIfPresent(id);
+        }
+        try {
+            return cache.get(id, () -> recipeService.getRecipeDetail(id));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
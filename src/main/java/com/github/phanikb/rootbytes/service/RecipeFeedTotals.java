@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service;
+
+import java.time.Duration;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import com.github.phanikb.rootbytes.config.PaginationProperties;
+import com.github.phanikb.rootbytes.enums.RecipeStatus;
+import com.github.phanikb.rootbytes.repository.RecipeRepository;
+
+/**
+ * Short-lived totals for the cursor feeds. Counting every matching row on each page request is what made deep offset
+ * pages expensive, so totals are only computed on request, cover public recipes only, and are reused until they
+ * expire; callers present them as approximate.
+ */
+@Component
+public class RecipeFeedTotals {
+
+    private static final String PUBLISHED_KEY = "published";
+    private static final String FAMILY_KEY_PREFIX = "family:";
+
+    private final RecipeRepository recipeRepository;
+    private final Cache<String, Long> totals;
+
+    public RecipeFeedTotals(RecipeRepository recipeRepository, PaginationProperties paginationProperties) {
+        this.recipeRepository = recipeRepository;
+        this.totals = Caffeine.newBuilder()
+                .maximumSize(paginationProperties.getTotalCacheMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(paginationProperties.getTotalCacheSeconds()))
+                .build();
+    }
+
+    public long publishedTotal() {
+        return totals.get(PUBLISHED_KEY, key -> recipeRepository.countPublicFeed(RecipeStatus.PUBLISHED));
+    }
+
+    public long familyTotal(String lastName) {
+        return totals.get(
+                FAMILY_KEY_PREFIX + lastName,
+                key -> recipeRepository.countFamilyFeed(RecipeStatus.PUBLISHED, lastName));
+    }
+}
@@ -6,11 +6,16 @@
 
 package com.github.phanikb.rootbytes.service;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,22 +23,30 @@ import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import com.github.phanikb.rootbytes.common.Constants;
+import com.github.phanikb.rootbytes.config.PaginationProperties;
 import com.github.phanikb.rootbytes.dto.v1.request.IngredientRequest;
 import com.github.phanikb.rootbytes.dto.v1.request.InstructionRequest;
 import com.github.phanikb.rootbytes.dto.v1.request.RecipeDietaryInfoRequest;
 import com.github.phanikb.rootbytes.dto.v1.request.RecipeRequest;
+import com.github.phanikb.rootbytes.dto.v1.response.CursorPageResponse;
+import com.github.phanikb.rootbytes.dto.v1.response.RecipeDetailResponse;
 import com.github.phanikb.rootbytes.entity.Ingredient;
 import com.github.phanikb.rootbytes.entity.Instruction;
 import com.github.phanikb.rootbytes.entity.Recipe;
 import com.github.phanikb.rootbytes.entity.RecipeDietaryInfo;
 import com.github.phanikb.rootbytes.entity.UserEntity;
+import com.github.phanikb.rootbytes.enums.OutboxEventType;
 import com.github.phanikb.rootbytes.enums.RecipeStatus;
 import com.github.phanikb.rootbytes.exception.RecipeNotFoundException;
 import com.github.phanikb.rootbytes.exception.UnauthorizedAccessException;
 import com.github.phanikb.rootbytes.mapper.IngredientMapper;
 import com.github.phanikb.rootbytes.mapper.InstructionMapper;
+import com.github.phanikb.rootbytes.mapper.RecipeMapper;
 import com.github.phanikb.rootbytes.repository.RecipeRepository;
+import com.github.phanikb.rootbytes.repository.RecipeRepository.RecipeSummary;
 import com.github.phanikb.rootbytes.repository.UnitRepository;
+import com.github.phanikb.rootbytes.util.SeekCursor;
 
 @Slf4j
 @Service
@@ -43,11 +56,32 @@ public class RecipeService {
     private final RecipeRepository recipeRepository;
     private final IngredientMapper ingredientMapper;
     private final InstructionMapper instructionMapper;
+    private final RecipeMapper recipeMapper;
     private final UnitRepository unitRepository;
+    private final OutboxService outboxService;
+    private final RecipeFeedTotals recipeFeedTotals;
+    private final PaginationProperties paginationProperties;
 
     @Transactional(readOnly = true)
     public Recipe getRecipeById(UUID id) {
-        return findRecipeByIdOrThrow(id);
+        log.debug("Fetching recipe detail with id: {}", id);
+        return recipeRepository.findDetailById(id).orElseThrow(() -> new RecipeNotFoundException(id));
+    }
+
+    /** Uncached detail read; callers on the request path go through {@link RecipeDetailCache}. */
+    @Transactional(readOnly = true)
+    public RecipeDetailResponse getRecipeDetail(UUID id) {
+        return recipeMapper.toDetailResponse(getRecipeById(id));
+    }
+
+    /** Whether a cached detail still matches the recipe row; one primary-key read of two columns. */
+    @Transactional(readOnly = true)
+    public boolean isDetailCurrent(UUID id, RecipeDetailResponse detail) {
+        return recipeRepository
+                .findVersionById(id)
+                .filter(current -> Objects.equals(current.getVersion(), detail.getVersion())
+                        && Objects.equals(current.getUpdatedAt(), detail.getUpdatedAt()))
+                .isPresent();
     }
 
     private Recipe findRecipeByIdOrThrow(UUID id) {
@@ -55,16 +89,54 @@ public class RecipeService {
         return recipeRepository.findById(id).orElseThrow(() -> new RecipeNotFoundException(id));
     }
 
+    /** Published recipe cards as read-only projections; nothing is attached to the persistence context. */
     @Transactional(readOnly = true)
-    public Page<Recipe> getPublishedRecipes(UserEntity user, Pageable pageable) {
-        log.debug("Fetching published recipes");
-        return recipeRepository.findPublishedRecipes(RecipeStatus.PUBLISHED, user, pageable);
+    public Page<RecipeSummary> getPublishedRecipeSummaries(UserEntity user, Pageable pageable) {
+        log.debug("Fetching published recipe summaries");
+        return recipeRepository.findPublishedSummaries(RecipeStatus.PUBLISHED, user, pageable);
     }
 
+    /**
+     * Published recipes visible to {@code user}, newest first, continuing after the {@code after} cursor. Seeks on
+     * {@code (published_at, id)} instead of skipping rows, so every page costs one index range scan of {@code size + 1}
+     * rows no matter how deep the client has scrolled.
+     */
     @Transactional(readOnly = true)
-    public Page<Recipe> getRecipesByLastName(String lastName, Pageable pageable) {
-        log.debug("Fetching recipes for lastName: {}", lastName);
-        return recipeRepository.findByLastName(lastName, pageable);
+    public CursorPageResponse<RecipeSummary> getPublishedRecipeFeed(
+            UserEntity user, @Nullable String after, int size, boolean withTotal) {
+        SeekCursor cursor = SeekCursor.decode(after);
+        int limit = paginationProperties.clampPageSize(size);
+        PageRequest window = PageRequest.of(0, limit + 1);
+        List<RecipeSummary> rows = cursor == null
+                ? recipeRepository.findPublishedFeed(RecipeStatus.PUBLISHED, user, window)
+                : recipeRepository.findPublishedFeedAfter(
+                        RecipeStatus.PUBLISHED, user, cursor.publishedAt(), cursor.id(), window);
+        return toCursorPage(rows, limit, withTotal ? recipeFeedTotals.publishedTotal() : null);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<RecipeSummary> getFamilyRecipeFeed(
+            String lastName, @Nullable String after, int size, boolean withTotal) {
+        log.debug("Fetching recipe feed for lastName: {}", lastName);
+        SeekCursor cursor = SeekCursor.decode(after);
+        int limit = paginationProperties.clampPageSize(size);
+        PageRequest window = PageRequest.of(0, limit + 1);
+        List<RecipeSummary> rows = cursor == null
+                ? recipeRepository.findFamilyFeed(RecipeStatus.PUBLISHED, lastName, window)
+                : recipeRepository.findFamilyFeedAfter(
+                        RecipeStatus.PUBLISHED, lastName, cursor.publishedAt(), cursor.id(), window);
+        return toCursorPage(rows, limit, withTotal ? recipeFeedTotals.familyTotal(lastName) : null);
+    }
+
+    private CursorPageResponse<RecipeSummary> toCursorPage(
+            List<RecipeSummary> rows, int limit, @Nullable Long total) {
+        if (rows.size() <= limit) {
+            return CursorPageResponse.of(rows, rows.size(), null, total);
+        }
+        List<RecipeSummary> page = rows.subList(0, limit);
+        RecipeSummary last = page.getLast();
+        String next = SeekCursor.of(last.getPublishedAt(), last.getId()).encode();
+        return CursorPageResponse.of(List.copyOf(page), limit, next, total);
     }
 
     @Transactional
@@ -143,6 +215,7 @@ public class RecipeService {
     }
 
     @Transactional
+    @CacheEvict(value = Constants.Cache.RECIPE_DETAIL, key = "#id")
     public Recipe updateRecipe(UUID id, RecipeRequest request, UserEntity user) {
         log.info("Updating recipe: {}", id);
         Recipe recipe = findRecipeByIdOrThrow(id);
@@ -155,10 +228,15 @@ public class RecipeService {
         recipe.setDescription(request.getDescription());
         addIngredientsToRecipe(recipe, request.getIngredients());
         addInstructionsToRecipe(recipe, request.getInstructions());
-        return recipeRepository.save(recipe);
+        // ingredient- or step-only edits leave the recipe row clean; touch it so the detail ETag changes
+        recipe.setUpdatedAt(Instant.now());
+        Recipe saved = recipeRepository.save(recipe);
+        outboxService.record(OutboxEventType.RECIPE_UPDATED, saved.getId(), user.getId(), null);
+        return saved;
     }
 
     @Transactional
+    @CacheEvict(value = Constants.Cache.RECIPE_DETAIL, key = "#id")
     public void deleteRecipe(UUID id, UserEntity user) {
         log.info("Deleting recipe: {}", id);
         Recipe recipe = recipeRepository.findById(id).orElseThrow(() -> new RecipeNotFoundException(id));
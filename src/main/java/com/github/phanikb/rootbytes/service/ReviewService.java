@@ -19,6 +19,7 @@ import com.github.phanikb.rootbytes.entity.Recipe;
 import com.github.phanikb.rootbytes.entity.Review;
 import com.github.phanikb.rootbytes.entity.UserEntity;
 import com.github.phanikb.rootbytes.enums.ModerationStatus;
+import com.github.phanikb.rootbytes.enums.OutboxEventType;
 import com.github.phanikb.rootbytes.exception.DuplicateResourceException;
 import com.github.phanikb.rootbytes.exception.RecipeNotFoundException;
 import com.github.phanikb.rootbytes.exception.ReviewNotFoundException;
@@ -32,6 +33,7 @@ public class ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final RecipeRepository recipeRepository;
+    private final OutboxService outboxService;
 
     @Transactional
     public Review submitReview(UUID recipeId, ReviewRequest request, UserEntity reviewer) {
@@ -50,7 +52,9 @@ public class ReviewService {
                 .status(ModerationStatus.PENDING)
                 .build();
 
-        return reviewRepository.save(review);
+        Review saved = reviewRepository.save(review);
+        outboxService.record(OutboxEventType.REVIEW_SUBMITTED, recipeId, reviewer.getId(), null);
+        return saved;
     }
 
     @Transactional
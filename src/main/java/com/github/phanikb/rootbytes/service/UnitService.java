@@ -20,6 +20,7 @@ import com.github.phanikb.rootbytes.enums.UnitType;
 import com.github.phanikb.rootbytes.exception.DuplicateResourceException;
 import com.github.phanikb.rootbytes.exception.ResourceInUseException;
 import com.github.phanikb.rootbytes.exception.ResourceNotFoundException;
+import com.github.phanikb.rootbytes.repository.CatalogVersion;
 import com.github.phanikb.rootbytes.repository.UnitRepository;
 
 @Slf4j
@@ -40,6 +41,11 @@ public class UnitService {
         return repository.findByIsActiveTrue();
     }
 
+    @Transactional(readOnly = true)
+    public CatalogVersion getCatalogVersion() {
+        return repository.findCatalogVersion();
+    }
+
     @Transactional(readOnly = true)
     public List<Unit> getUnitsByType(UnitType type) {
         return repository.findByUnitTypeAndIsActiveTrue(type);
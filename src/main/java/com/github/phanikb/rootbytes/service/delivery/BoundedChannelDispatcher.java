@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service.delivery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.github.phanikb.rootbytes.enums.notification.NotificationChannel;
+import com.github.phanikb.rootbytes.util.LogSanitizer;
+import com.github.phanikb.rootbytes.util.RbStringUtil;
+
+/**
+ * Base for channel dispatchers that deliver on their own virtual-thread executor. Virtual threads are cheap, so the
+ * bound is a semaphore sized to what the provider tolerates rather than a fixed pool.
+ */
+@Slf4j
+public abstract class BoundedChannelDispatcher implements ChannelDispatcher {
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+
+    protected BoundedChannelDispatcher(NotificationChannel channel, int maxConcurrency) {
+        String threadPrefix = "rb-" + RbStringUtil.toLowerCase(channel.name()) + "-delivery-";
+        this.executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name(threadPrefix, 0).factory());
+        this.permits = new Semaphore(Math.max(maxConcurrency, 1));
+    }
+
+    protected List<DeliveryResult> deliverConcurrently(
+            List<List<NotificationDelivery>> chunks,
+            Function<List<NotificationDelivery>, List<DeliveryResult>> sender) {
+        List<Future<List<DeliveryResult>>> futures = new ArrayList<>(chunks.size());
+        for (List<NotificationDelivery> chunk : chunks) {
+            futures.add(executor.submit(() -> sendWithPermit(chunk, sender)));
+        }
+
+        List<DeliveryResult> results = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            results.addAll(awaitChunk(futures.get(i), chunks.get(i)));
+        }
+        return results;
+    }
+
+    private List<DeliveryResult> sendWithPermit(
+            List<NotificationDelivery> chunk, Function<List<NotificationDelivery>, List<DeliveryResult>> sender)
+            throws InterruptedException {
+        permits.acquire();
+        try {
+            return sender.apply(chunk);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private List<DeliveryResult> awaitChunk(
+            Future<List<DeliveryResult>> future, List<NotificationDelivery> chunk) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failAll(chunk, "Delivery interrupted");
+        } catch (ExecutionException e) {
+            log.warn("{} delivery failed: {}", channel(), LogSanitizer.sanitize(e.getCause()));
+            return failAll(chunk, LogSanitizer.sanitize(e.getCause()));
+        }
+    }
+
+    protected static List<DeliveryResult> failAll(List<NotificationDelivery> deliveries, String errorMessage) {
+        return deliveries.stream()
+                .map(delivery -> DeliveryResult.failure(delivery.queueId(), errorMessage))
+                .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service.delivery;
+
+import java.util.List;
+
+import com.github.phanikb.rootbytes.enums.notification.NotificationChannel;
+
+/**
+ * Delivers claimed queue items over a single {@link NotificationChannel}. Implementations own their transport and
+ * concurrency, so a slow provider on one channel never holds up another. Every delivery passed in must be answered
+ * with exactly one {@link DeliveryResult}.
+ */
+public interface ChannelDispatcher {
+
+    NotificationChannel channel();
+
+    List<DeliveryResult> dispatch(List<NotificationDelivery> deliveries);
+}
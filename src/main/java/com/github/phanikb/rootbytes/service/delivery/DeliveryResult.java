@@ -0,0 +1,35 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service.delivery;
+
+import java.util.UUID;
+
+import org.jspecify.annotations.Nullable;
+
+import com.github.phanikb.rootbytes.util.LogSanitizer;
+
+/**
+ * Outcome of one delivery. A deferred delivery was not attempted because a provider rate limit was reached; it goes
+ * back to the queue without counting as an attempt.
+ */
+public record DeliveryResult(UUID queueId, boolean successful, boolean deferred, @Nullable String errorMessage) {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    public static DeliveryResult success(UUID queueId) {
+        return new DeliveryResult(queueId, true, false, null);
+    }
+
+    public static DeliveryResult failure(UUID queueId, @Nullable String errorMessage) {
+        return new DeliveryResult(
+                queueId, false, false, LogSanitizer.sanitizeAndTruncate(errorMessage, MAX_ERROR_LENGTH));
+    }
+
+    public static DeliveryResult deferred(UUID queueId) {
+        return new DeliveryResult(queueId, false, true, null);
+    }
+}
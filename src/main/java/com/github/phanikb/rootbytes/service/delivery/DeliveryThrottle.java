@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service.delivery;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import com.github.phanikb.rootbytes.config.NotificationEmailProperties;
+import com.github.phanikb.rootbytes.config.NotificationSmsProperties;
+import com.github.phanikb.rootbytes.enums.notification.NotificationChannel;
+import com.github.phanikb.rootbytes.util.RbStringUtil;
+
+/**
+ * Provider rate limits as token buckets: one per channel with a configured rate, plus one per recipient domain for
+ * email when a domain rate is set. The queue dispatcher sizes each claim by the channel bucket, so throttled rows stay
+ * PENDING instead of failing; recipients over their domain's rate are deferred by the email dispatcher, and the queue
+ * dispatcher refunds the channel tokens those rows took. A rate of {@code 0} disables the bucket.
+ */
+@Component
+public class DeliveryThrottle {
+
+    private static final int MAX_TRACKED_DOMAINS = 10_000;
+    private static final Duration DOMAIN_IDLE_EXPIRY = Duration.ofMinutes(10);
+
+    private final Map<NotificationChannel, TokenBucket> channelBuckets = new EnumMap<>(NotificationChannel.class);
+    private final NotificationEmailProperties emailProperties;
+    private final Cache<String, TokenBucket> domainBuckets;
+
+    public DeliveryThrottle(NotificationEmailProperties emailProperties, NotificationSmsProperties smsProperties) {
+        this.emailProperties = emailProperties;
+        if (emailProperties.getRatePerSecond() > 0) {
+            channelBuckets.put(
+                    NotificationChannel.EMAIL,
+                    new TokenBucket(emailProperties.getRatePerSecond(), emailProperties.getBurst()));
+        }
+        if (smsProperties.getRatePerSecond() > 0) {
+            channelBuckets.put(
+                    NotificationChannel.SMS,
+                    new TokenBucket(smsProperties.getRatePerSecond(), smsProperties.getBurst()));
+        }
+        this.domainBuckets = Caffeine.newBuilder()
+                .maximumSize(MAX_TRACKED_DOMAINS)
+                .expireAfterAccess(DOMAIN_IDLE_EXPIRY)
+                .build();
+    }
+
+    /** Takes up to {@code requested} sends from the channel's bucket and returns how many were granted. */
+    public int acquireUpTo(NotificationChannel channel, int requested) {
+        TokenBucket bucket = channelBuckets.get(channel);
+        return bucket == null ? requested : bucket.tryAcquireUpTo(requested);
+    }
+
+    public void refund(NotificationChannel channel, int unused) {
+        TokenBucket bucket = channelBuckets.get(channel);
+        if (bucket != null && unused > 0) {
+            bucket.refund(unused);
+        }
+    }
+
+    public Duration timeUntilAvailable(NotificationChannel channel) {
+        TokenBucket bucket = channelBuckets.get(channel);
+        return bucket == null ? Duration.ZERO : bucket.timeUntilAvailable();
+    }
+
+    public boolean tryAcquireDomain(@Nullable String emailAddress) {
+        if (emailProperties.getDomainRatePerSecond() <= 0 || emailAddress == null) {
+            return true;
+        }
+        int at = emailAddress.lastIndexOf('@');
+        String domain = RbStringUtil.toLowerCase(emailAddress.substring(at + 1));
+        TokenBucket bucket = domainBuckets.get(
+                domain,
+                key -> new TokenBucket(emailProperties.getDomainRatePerSecond(), emailProperties.getDomainBurst()));
+        return bucket.tryAcquireUpTo(1) == 1;
+    }
+}
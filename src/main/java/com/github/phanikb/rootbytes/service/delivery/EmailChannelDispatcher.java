@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service.delivery;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.github.phanikb.rootbytes.config.NotificationEmailProperties;
+import com.github.phanikb.rootbytes.enums.notification.NotificationChannel;
+
+@Component
+public class EmailChannelDispatcher extends BoundedChannelDispatcher {
+
+    /** RFC 2045 base64: 76-character lines separated by CRLF, so the body never depends on 8BITMIME. */
+    private static final Base64.Encoder MIME_BASE64 = Base64.getMimeEncoder();
+
+    private final NotificationEmailProperties emailProperties;
+    private final SmtpClient smtpClient;
+    private final DeliveryThrottle deliveryThrottle;
+
+    public EmailChannelDispatcher(NotificationEmailProperties emailProperties, DeliveryThrottle deliveryThrottle) {
+        super(NotificationChannel.EMAIL, emailProperties.getMaxConnections());
+        this.emailProperties = emailProperties;
+        this.deliveryThrottle = deliveryThrottle;
+        this.smtpClient = new SmtpClient(
+                emailProperties.getHost(),
+                emailProperties.getPort(),
+                emailProperties.getTimeoutMillis(),
+                emailProperties.isPipelining());
+    }
+
+    @Override
+    public NotificationChannel channel() {
+        return NotificationChannel.EMAIL;
+    }
+
+    @Override
+    public List<DeliveryResult> dispatch(List<NotificationDelivery> deliveries) {
+        if (!emailProperties.isEnabled()) {
+            return failAll(deliveries, "Email delivery is disabled");
+        }
+
+        List<DeliveryResult> results = new ArrayList<>(deliveries.size());
+        List<NotificationDelivery> sendable = new ArrayList<>(deliveries.size());
+        for (NotificationDelivery delivery : deliveries) {
+            String recipient = delivery.recipient();
+            if (recipient == null || recipient.isBlank()) {
+                results.add(DeliveryResult.failure(delivery.queueId(), "User has no email address"));
+            } else if (!isDeliverableAddress(recipient)) {
+                results.add(DeliveryResult.failure(delivery.queueId(), "Invalid email address"));
+            } else if (!deliveryThrottle.tryAcquireDomain(recipient)) {
+                results.add(DeliveryResult.deferred(delivery.queueId()));
+            } else {
+                sendable.add(delivery);
+            }
+        }
+
+        results.addAll(deliverConcurrently(partition(sendable), this::sendBatch));
+        return results;
+    }
+
+    private List<List<NotificationDelivery>> partition(List<NotificationDelivery> deliveries) {
+        if (deliveries.isEmpty()) {
+            return List.of();
+        }
+        int connections = Math.min(emailProperties.getMaxConnections(), deliveries.size());
+        int chunkSize = Math.ceilDiv(deliveries.size(), connections);
+        List<List<NotificationDelivery>> chunks = new ArrayList<>(connections);
+        for (int from = 0; from < deliveries.size(); from += chunkSize) {
+            chunks.add(deliveries.subList(from, Math.min(from + chunkSize, deliveries.size())));
+        }
+        return chunks;
+    }
+
+    private List<DeliveryResult> sendBatch(List<NotificationDelivery> batch) {
+        List<SmtpClient.Message> messages = batch.stream()
+                .map(delivery -> new SmtpClient.Message(
+                        delivery.queueId(), delivery.recipient(), render(delivery)))
+                .toList();
+        return smtpClient.send(emailProperties.getFromAddress(), messages);
+    }
+
+    private String render(NotificationDelivery delivery) {
+        StringBuilder content = new StringBuilder(256)
+                .append("From: ")
+                .append(emailProperties.getFromAddress())
+                .append("\r\nTo: ")
+                .append(delivery.recipient())
+                .append("\r\nSubject: ")
+                .append(encodeHeader(delivery.title()))
+                .append("\r\nDate: ")
+                .append(DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC)))
+                .append("\r\nMessage-ID: <")
+                .append(delivery.queueId())
+                .append("@rootbytes>\r\nMIME-Version: 1.0")
+                .append("\r\nContent-Type: text/plain; charset=UTF-8")
+                .append("\r\nContent-Transfer-Encoding: base64\r\n\r\n");
+        String body = delivery.actionUrl() == null
+                ? delivery.message()
+                : delivery.message() + "\r\n\r\n" + delivery.actionUrl();
+        return content.append(MIME_BASE64.encodeToString(body.getBytes(StandardCharsets.UTF_8)))
+                .toString();
+    }
+
+    /**
+     * Addresses go verbatim into {@code RCPT TO:<...>} and the {@code To} header, so anything that could end the
+     * command or the header (line breaks, angle brackets, whitespace) is refused rather than rewritten.
+     */
+    static boolean isDeliverableAddress(String address) {
+        int at = address.lastIndexOf('@');
+        if (at <= 0 || at == address.length() - 1) {
+            return false;
+        }
+        return address.chars().noneMatch(c -> c == '<' || c == '>' || Character.isWhitespace(c) || c < 0x20);
+    }
+
+    private static String encodeHeader(String value) {
+        String singleLine = value.replace('\r', ' ').replace('\n', ' ');
+        return "=?UTF-8?B?" + Base64.getEncoder().encodeToString(singleLine.getBytes(StandardCharsets.UTF_8)) + "?=";
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service.delivery;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.github.phanikb.rootbytes.enums.notification.NotificationChannel;
+
+/** In-app notifications are already in the user's inbox once queued, so delivery only acknowledges them. */
+@Component
+public class InAppChannelDispatcher implements ChannelDispatcher {
+
+    @Override
+    public NotificationChannel channel() {
+        return NotificationChannel.IN_APP;
+    }
+
+    @Override
+    public List<DeliveryResult> dispatch(List<NotificationDelivery> deliveries) {
+        return deliveries.stream()
+                .map(delivery -> DeliveryResult.success(delivery.queueId()))
+                .toList();
+    }
+}
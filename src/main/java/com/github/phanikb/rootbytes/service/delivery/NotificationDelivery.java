@@ -0,0 +1,24 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service.delivery;
+
+import java.util.UUID;
+
+import org.jspecify.annotations.Nullable;
+
+import com.github.phanikb.rootbytes.enums.notification.NotificationChannel;
+import com.github.phanikb.rootbytes.enums.notification.NotificationType;
+
+public record NotificationDelivery(
+        UUID queueId,
+        UUID userId,
+        NotificationChannel channel,
+        NotificationType notificationType,
+        @Nullable String recipient,
+        String title,
+        String message,
+        @Nullable String actionUrl) {}
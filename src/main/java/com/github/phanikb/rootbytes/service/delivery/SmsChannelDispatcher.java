@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service.delivery;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.github.phanikb.rootbytes.config.NotificationSmsProperties;
+import com.github.phanikb.rootbytes.enums.notification.NotificationChannel;
+import com.github.phanikb.rootbytes.exception.NotificationDeliveryException;
+
+@Slf4j
+@Component
+public class SmsChannelDispatcher extends BoundedChannelDispatcher {
+
+    private final SmsGateway smsGateway;
+    private final NotificationSmsProperties smsProperties;
+
+    public SmsChannelDispatcher(SmsGateway smsGateway, NotificationSmsProperties smsProperties) {
+        super(NotificationChannel.SMS, smsProperties.getMaxConcurrency());
+        this.smsGateway = smsGateway;
+        this.smsProperties = smsProperties;
+    }
+
+    @Override
+    public NotificationChannel channel() {
+        return NotificationChannel.SMS;
+    }
+
+    @Override
+    public List<DeliveryResult> dispatch(List<NotificationDelivery> deliveries) {
+        if (!smsProperties.isEnabled()) {
+            return failAll(deliveries, "SMS delivery is disabled");
+        }
+        List<List<NotificationDelivery>> singles =
+                deliveries.stream().map(List::of).toList();
+        return deliverConcurrently(singles, chunk -> List.of(send(chunk.getFirst())));
+    }
+
+    private DeliveryResult send(NotificationDelivery delivery) {
+        String phoneNumber = delivery.recipient();
+        if (phoneNumber == null || phoneNumber.isBlank()) {
+            return DeliveryResult.failure(delivery.queueId(), "User has no phone number");
+        }
+        try {
+            smsGateway.send(phoneNumber, delivery.title() + ": " + delivery.message());
+            return DeliveryResult.success(delivery.queueId());
+        } catch (NotificationDeliveryException e) {
+            return DeliveryResult.failure(delivery.queueId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service.delivery;
+
+public interface SmsGateway {
+
+    /**
+     * Sends a single text message.
+     *
+     * @throws com.github.phanikb.rootbytes.exception.NotificationDeliveryException if the provider rejects it
+     */
+    void send(String phoneNumber, String text);
+}
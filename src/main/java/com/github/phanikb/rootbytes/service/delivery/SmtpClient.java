@@ -0,0 +1,245 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service.delivery;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.jspecify.annotations.Nullable;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.github.phanikb.rootbytes.util.LogSanitizer;
+import com.github.phanikb.rootbytes.util.RbStringUtil;
+
+/**
+ * Minimal SMTP client that sends a batch of messages over one connection. When the server advertises
+ * {@code PIPELINING} (RFC 2920), the envelope of the next message is written together with the content of the current
+ * one, so each message costs a single round trip instead of four.
+ */
+@Slf4j
+public class SmtpClient {
+
+    private static final String CRLF = "\r\n";
+    private static final int DATA_READY = 354;
+    private static final int SERVICE_READY = 220;
+    private static final int OK = 250;
+
+    private final String host;
+    private final int port;
+    private final int timeoutMillis;
+    private final boolean pipeliningPreferred;
+
+    public SmtpClient(String host, int port, int timeoutMillis, boolean pipeliningPreferred) {
+        this.host = host;
+        this.port = port;
+        this.timeoutMillis = timeoutMillis;
+        this.pipeliningPreferred = pipeliningPreferred;
+    }
+
+    public record Message(UUID queueId, String recipient, String content) {}
+
+    public List<DeliveryResult> send(String sender, List<Message> messages) {
+        List<DeliveryResult> results = new ArrayList<>(messages.size());
+        if (messages.isEmpty()) {
+            return results;
+        }
+
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(host, port), timeoutMillis);
+            socket.setSoTimeout(timeoutMillis);
+            Session session = new Session(socket);
+
+            session.expect(session.readReply(), SERVICE_READY);
+            Reply ehlo = session.command("EHLO rootbytes");
+            session.expect(ehlo, OK);
+
+            if (pipeliningPreferred && ehlo.supports("PIPELINING")) {
+                session.sendPipelined(sender, messages, results);
+            } else {
+                session.sendSequential(sender, messages, results);
+            }
+            session.quit();
+        } catch (IOException e) {
+            String error = "SMTP session failed: " + LogSanitizer.sanitize(e);
+            log.warn("{} after {} of {} messages", error, results.size(), messages.size());
+            for (int i = results.size(); i < messages.size(); i++) {
+                results.add(DeliveryResult.failure(messages.get(i).queueId(), error));
+            }
+        }
+        return results;
+    }
+
+    private record Reply(int code, List<String> lines) {
+
+        boolean isPositive() {
+            return code >= 200 && code < 300;
+        }
+
+        boolean supports(String extension) {
+            return lines.stream()
+                    .map(RbStringUtil::toUpperCase)
+                    .anyMatch(line -> line.equals(extension) || line.startsWith(extension + " "));
+        }
+
+        String describe() {
+            return code + " " + (lines.isEmpty() ? "" : lines.getFirst());
+        }
+    }
+
+    private static final class Session {
+
+        private final BufferedReader reader;
+        private final OutputStream writer;
+
+        Session(Socket socket) throws IOException {
+            this.reader = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            this.writer = new BufferedOutputStream(socket.getOutputStream());
+        }
+
+        void sendSequential(String sender, List<Message> messages, List<DeliveryResult> results)
+                throws IOException {
+            for (Message message : messages) {
+                Reply failure = firstFailure(
+                        command("MAIL FROM:<" + sender + ">"),
+                        command("RCPT TO:<" + message.recipient() + ">"));
+                if (failure == null) {
+                    Reply data = command("DATA");
+                    if (data.code() == DATA_READY) {
+                        writeContent(message);
+                        flush();
+                        results.add(toResult(message, readReply()));
+                        continue;
+                    }
+                    failure = data;
+                }
+                results.add(DeliveryResult.failure(message.queueId(), failure.describe()));
+                command("RSET");
+            }
+        }
+
+        void sendPipelined(String sender, List<Message> messages, List<DeliveryResult> results)
+                throws IOException {
+            writeEnvelope(sender, messages.getFirst());
+            flush();
+
+            for (int i = 0; i < messages.size(); i++) {
+                Message message = messages.get(i);
+                Reply mail = readReply();
+                Reply rcpt = readReply();
+                Reply data = readReply();
+                @Nullable Message next = i + 1 < messages.size() ? messages.get(i + 1) : null;
+
+                if (data.code() == DATA_READY) {
+                    writeContent(message);
+                    if (next != null) {
+                        writeEnvelope(sender, next);
+                    }
+                    flush();
+                    results.add(toResult(message, readReply()));
+                    continue;
+                }
+
+                Reply failure = firstFailure(mail, rcpt);
+                results.add(DeliveryResult.failure(
+                        message.queueId(), (failure != null ? failure : data).describe()));
+                write("RSET");
+                if (next != null) {
+                    writeEnvelope(sender, next);
+                }
+                flush();
+                readReply();
+            }
+        }
+
+        void quit() throws IOException {
+            command("QUIT");
+        }
+
+        Reply command(String command) throws IOException {
+            write(command);
+            flush();
+            return readReply();
+        }
+
+        void expect(Reply reply, int code) throws IOException {
+            if (reply.code() != code) {
+                throw new IOException("Unexpected SMTP reply: " + reply.describe());
+            }
+        }
+
+        Reply readReply() throws IOException {
+            List<String> lines = new ArrayList<>();
+            while (true) {
+                String line = reader.readLine();
+                if (line == null || line.length() < 3) {
+                    throw new EOFException("SMTP connection closed");
+                }
+                lines.add(line.length() > 4 ? line.substring(4) : "");
+                if (line.length() == 3 || line.charAt(3) != '-') {
+                    return new Reply(parseCode(line), lines);
+                }
+            }
+        }
+
+        private int parseCode(String line) throws IOException {
+            try {
+                return Integer.parseInt(line.substring(0, 3));
+            } catch (NumberFormatException e) {
+                throw new IOException("Malformed SMTP reply: " + LogSanitizer.sanitize(line), e);
+            }
+        }
+
+        private void writeEnvelope(String sender, Message message) throws IOException {
+            write("MAIL FROM:<" + sender + ">");
+            write("RCPT TO:<" + message.recipient() + ">");
+            write("DATA");
+        }
+
+        private void writeContent(Message message) throws IOException {
+            String normalized = message.content().replace("\r\n", "\n").replace('\r', '\n');
+            for (String line : normalized.split("\n", -1)) {
+                write(line.startsWith(".") ? "." + line : line);
+            }
+            write(".");
+        }
+
+        private void write(String line) throws IOException {
+            writer.write((line + CRLF).getBytes(StandardCharsets.UTF_8));
+        }
+
+        private void flush() throws IOException {
+            writer.flush();
+        }
+
+        private static @Nullable Reply firstFailure(Reply... replies) {
+            for (Reply reply : replies) {
+                if (!reply.isPositive()) {
+                    return reply;
+                }
+            }
+            return null;
+        }
+
+        private static DeliveryResult toResult(Message message, Reply reply) {
+            return reply.isPositive()
+                    ? DeliveryResult.success(message.queueId())
+                    : DeliveryResult.failure(message.queueId(), reply.describe());
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service.delivery;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.github.phanikb.rootbytes.util.LogSanitizer;
+import com.github.phanikb.rootbytes.util.RbStringUtil;
+
+/**
+ * In-process SMTP server that accepts and discards every message. Advertises {@code PIPELINING} so email delivery can
+ * be load tested offline against the same code path used with a real relay. Binds to the loopback interface only.
+ */
+@Slf4j
+public class SmtpSinkServer {
+
+    private static final String CRLF = "\r\n";
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService connections = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong receivedCount = new AtomicLong();
+
+    public SmtpSinkServer(int port) throws IOException {
+        this.serverSocket = new ServerSocket();
+        this.serverSocket.setReuseAddress(true);
+        this.serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+    }
+
+    public void start() {
+        Thread.ofVirtual().name("rb-smtp-sink").start(this::acceptLoop);
+        log.info("SMTP sink listening on port {}", getPort());
+    }
+
+    public void stop() throws IOException {
+        serverSocket.close();
+        connections.shutdownNow();
+        log.info("SMTP sink stopped after receiving {} messages", receivedCount.get());
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public long getReceivedCount() {
+        return receivedCount.get();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket client = serverSocket.accept();
+                connections.execute(() -> handle(client));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    log.warn("SMTP sink accept failed: {}", LogSanitizer.sanitize(e));
+                }
+            }
+        }
+    }
+
+    private void handle(Socket client) {
+        try (client;
+                BufferedReader in = new BufferedReader(
+                        new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+                OutputStream out = client.getOutputStream()) {
+            reply(out, "220 rootbytes-sink ESMTP");
+            boolean inData = false;
+            for (String line = in.readLine(); line != null; line = in.readLine()) {
+                if (inData) {
+                    if (".".equals(line)) {
+                        inData = false;
+                        receivedCount.incrementAndGet();
+                        reply(out, "250 OK queued");
+                    }
+                    continue;
+                }
+
+                String verb = RbStringUtil.toUpperCase(line.length() > 4 ? line.substring(0, 4) : line);
+                switch (verb) {
+                    case "EHLO" -> reply(out, "250-rootbytes-sink" + CRLF + "250-PIPELINING" + CRLF + "250 8BITMIME");
+                    case "HELO" -> reply(out, "250 rootbytes-sink");
+                    case "MAIL", "RCPT", "RSET", "NOOP" -> reply(out, "250 OK");
+                    case "DATA" -> {
+                        inData = true;
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                    }
+                    case "QUIT" -> {
+                        reply(out, "221 Bye");
+                        return;
+                    }
+                    default -> reply(out, "502 Command not implemented");
+                }
+            }
+        } catch (IOException e) {
+            log.debug("SMTP sink connection closed: {}", LogSanitizer.sanitize(e));
+        }
+    }
+
+    private static void reply(OutputStream out, String reply) throws IOException {
+        out.write((reply + CRLF).getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+}
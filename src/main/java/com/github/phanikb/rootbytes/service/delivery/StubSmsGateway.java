@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service.delivery;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.github.phanikb.rootbytes.exception.NotificationDeliveryException;
+
+/** Offline stand-in for an SMS provider. Simulates provider latency so channel isolation can be load tested. */
+@Slf4j
+public class StubSmsGateway implements SmsGateway {
+
+    private final Duration latency;
+    private final AtomicLong sentCount = new AtomicLong();
+
+    public StubSmsGateway(Duration latency) {
+        this.latency = latency;
+    }
+
+    @Override
+    public void send(String phoneNumber, String text) {
+        if (!latency.isZero()) {
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new NotificationDeliveryException("SMS send interrupted", e);
+            }
+        }
+        long sent = sentCount.incrementAndGet();
+        log.debug("Stub SMS #{} to {} ({} chars)", sent, phoneNumber, text.length());
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Helpers for conditional GETs. Tags are derived from what the data was built from (ids, versions, timestamps), not
+ * from the serialized body, because the {@code RbApiResponse} envelope carries a per-response timestamp. For the same
+ * reason the tags are weak: the data is identical, the bytes are not.
+ */
+public final class HttpCaching {
+
+    /** Clients may store the response but must revalidate it; also stops the default {@code no-store} headers. */
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private HttpCaching() {}
+
+    public static String etag(Object... parts) {
+        String joined = Arrays.stream(parts).map(String::valueOf).collect(Collectors.joining(":"));
+        return "W/\"" + DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    public static long lastModified(@Nullable Instant instant) {
+        return instant == null ? -1 : instant.toEpochMilli();
+    }
+
+    public static <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+    }
+
+    public static <T> ResponseEntity<T> ok(T body) {
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(body);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.jspecify.annotations.Nullable;
+
+import com.github.phanikb.rootbytes.exception.InvalidCursorException;
+
+/**
+ * Position in a feed ordered by {@code (published_at DESC, id DESC)}. Clients receive it as an opaque URL-safe token
+ * and hand it back as {@code ?after=} to continue from the last row they saw, so deep pages cost the same as the first.
+ * The timestamp keeps its full precision: {@code published_at} holds microseconds, and a cursor rounded to the
+ * millisecond would never equal the boundary row, dropping its same-instant neighbours from the next page.
+ */
+public record SeekCursor(Instant publishedAt, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static SeekCursor of(Instant publishedAt, UUID id) {
+        return new SeekCursor(publishedAt, id);
+    }
+
+    public String encode() {
+        String raw = publishedAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static @Nullable SeekCursor decode(@Nullable String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("Invalid page cursor");
+            }
+            return new SeekCursor(
+                    Instant.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidCursorException("Invalid page cursor", e);
+        }
+    }
+}
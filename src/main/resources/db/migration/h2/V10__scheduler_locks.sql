@@ -0,0 +1,11 @@
+-- Named leases held by one node at a time. fencing_token is bumped on every acquisition so a holder whose lease
+-- lapsed can no longer extend or release it; jobs check that the lease is still held between chunks of work, but
+-- their own writes are not fenced by the token
+create table if not exists scheduler_locks (
+    lock_name VARCHAR(100) primary key,
+    owner VARCHAR(100),
+    lease_until TIMESTAMP not null,
+    fencing_token BIGINT not null default 0,
+    acquired_at TIMESTAMP,
+    heartbeat_at TIMESTAMP
+);
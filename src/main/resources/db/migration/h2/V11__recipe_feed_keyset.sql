@@ -0,0 +1,12 @@
+-- Published rows need a publish time to take part in the (published_at, id) keyset feeds
+update recipes
+set published_at = coalesce(submitted_at, updated_at)
+where status = 'PUBLISHED' and published_at is null;
+
+-- Seek index for the published feed: equality columns first, then the sort key and its tiebreaker
+create index if not exists idx_recipes_feed on recipes (status, is_current_version, published_at desc, id desc);
+
+-- Family feeds resolve authors by last name, then walk each author's published recipes in feed order
+create index if not exists idx_users_last_name on users (last_name);
+
+create index if not exists idx_recipes_author_feed on recipes (author_id, status, published_at desc, id desc);
@@ -0,0 +1,7 @@
+-- Claims filter on status, channel and priority and read oldest first; lead with every equality column so each
+-- (channel, lane) claim is one index range already in scheduled_for order
+create index idx_queue_status_channel_priority_scheduled
+    on notification_queue (status, channel, priority, scheduled_for);
+
+-- Superseded by the index above; channel-less lane peeks fall back to idx_queue_status_scheduled
+drop index if exists idx_queue_status_priority_scheduled;
@@ -0,0 +1,6 @@
+-- Lease columns used by queue workers to claim rows
+alter table notification_queue add column lease_owner VARCHAR(100);
+
+alter table notification_queue add column lease_expires_at TIMESTAMP;
+
+create index idx_queue_status_lease on notification_queue (status, lease_expires_at);
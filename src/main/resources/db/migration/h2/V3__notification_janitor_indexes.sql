@@ -0,0 +1,6 @@
+-- Keyset indexes walked by the notification janitor
+create index idx_notifications_status_read_at on notifications (status, read_at);
+
+create index idx_notifications_status_archived_at on notifications (status, archived_at);
+
+create index idx_notifications_expires_at on notifications (expires_at);
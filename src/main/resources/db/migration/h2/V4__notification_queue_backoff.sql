@@ -0,0 +1,14 @@
+-- Retry schedule for failed deliveries and a terminal dead-letter state for exhausted ones
+alter table notification_queue add column next_attempt_at TIMESTAMP;
+
+alter table notification_queue drop constraint chk_queue_status;
+
+alter table notification_queue add constraint chk_queue_status check (
+    status in ('PENDING', 'PROCESSING', 'SENT', 'FAILED', 'DEAD_LETTER', 'CANCELLED')
+);
+
+update notification_queue set status = 'DEAD_LETTER' where status = 'FAILED' and attempts >= max_attempts;
+
+update notification_queue set next_attempt_at = coalesce(last_attempt_at, created_at) where status = 'FAILED';
+
+create index idx_queue_status_next_attempt on notification_queue (status, next_attempt_at);
@@ -0,0 +1,12 @@
+-- Digest items wait for the digest assembler; coalesced items point at the combined row that replaced them
+alter table notification_queue add column digest_frequency VARCHAR(20);
+
+alter table notification_queue add column coalesced_into uuid;
+
+alter table notification_queue drop constraint chk_queue_status;
+
+alter table notification_queue add constraint chk_queue_status check (
+    status in ('PENDING', 'PROCESSING', 'SENT', 'FAILED', 'DEAD_LETTER', 'COALESCED', 'CANCELLED')
+);
+
+create index idx_queue_digest_due on notification_queue (status, digest_frequency, scheduled_for);
@@ -0,0 +1,16 @@
+-- Transactional outbox: domain events recorded with the business change, relayed to notifications after commit
+create table if not exists outbox (
+    id uuid default random_uuid () primary key,
+    aggregate_type VARCHAR(50) not null,
+    aggregate_id uuid not null,
+    event_type VARCHAR(50) not null,
+    actor_id uuid,
+    payload VARCHAR(255),
+    created_at TIMESTAMP not null default current_timestamp,
+    processed_at TIMESTAMP,
+    attempts INT not null default 0,
+    last_error text,
+    constraint chk_outbox_event_type check (event_type in ('RECIPE_UPDATED', 'REVIEW_SUBMITTED', 'APPROVAL_RECORDED'))
+);
+
+create index idx_outbox_processed_created on outbox (processed_at, created_at);
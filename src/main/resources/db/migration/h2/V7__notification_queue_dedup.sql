@@ -0,0 +1,4 @@
+-- Optional caller-supplied idempotency key; a repeated key for the same user resolves to the row already queued
+alter table notification_queue add column dedup_key VARCHAR(100);
+
+create unique index uk_queue_user_dedup_key on notification_queue (user_id, dedup_key);
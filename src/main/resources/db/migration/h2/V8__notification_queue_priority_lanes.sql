@@ -0,0 +1,2 @@
+-- Workers claim each priority lane separately, oldest first
+create index idx_queue_status_priority_scheduled on notification_queue (status, priority, scheduled_for);
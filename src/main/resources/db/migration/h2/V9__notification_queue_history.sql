@@ -0,0 +1,20 @@
+-- Compact record of terminal queue rows moved out of the hot table by the notification janitor
+create table if not exists notification_queue_history (
+    id uuid primary key,
+    user_id uuid not null,
+    notification_type VARCHAR(50) not null,
+    channel VARCHAR(20) not null,
+    priority VARCHAR(20) not null,
+    status VARCHAR(20) not null,
+    attempts INT not null,
+    coalesced_into uuid,
+    created_at TIMESTAMP not null,
+    scheduled_for TIMESTAMP not null,
+    processed_at TIMESTAMP,
+    archived_at TIMESTAMP not null,
+    foreign key (user_id) references users (id) on delete cascade
+);
+
+create index idx_queue_history_user_created on notification_queue_history (user_id, created_at);
+
+create index idx_queue_history_archived_at on notification_queue_history (archived_at);
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.github.phanikb.rootbytes.common.Constants;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CacheConfigTest {
+
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        CacheSpecProperties properties = new CacheSpecProperties();
+        properties.getSpecs().put(Constants.Cache.DEFAULT_SPEC, "maximumSize=100");
+        properties.getSpecs().put(Constants.Cache.RECIPE_DETAIL, "maximumSize=10,expireAfterWrite=5m");
+        cacheManager = new CacheConfig().cacheManager(properties);
+    }
+
+    @Test
+    void shouldRegisterConfiguredCaches() {
+        assertTrue(cacheManager.getCacheNames().contains(Constants.Cache.RECIPE_DETAIL));
+        assertNotNull(cacheManager.getCache("systemConfig"));
+    }
+
+    @Test
+    void shouldDeferEvictionUntilCommit() {
+        Cache cache = recipeDetailCache();
+        UUID id = UUID.randomUUID();
+        cache.put(id, "v1");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evict(id);
+            assertNotNull(cache.get(id), "Evicted before commit");
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertNull(cache.get(id));
+    }
+
+    @Test
+    void shouldLoadColdEntryOnceForConcurrentReaders() throws Exception {
+        Cache cache = recipeDetailCache();
+        UUID id = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        int readers = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < readers; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get(id, () -> {
+                        loads.incrementAndGet();
+                        TimeUnit.MILLISECONDS.sleep(50);
+                        return "detail";
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<String> result : results) {
+                assertEquals("detail", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    private Cache recipeDetailCache() {
+        Cache cache = cacheManager.getCache(Constants.Cache.RECIPE_DETAIL);
+        assertNotNull(cache);
+        return cache;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.config;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SchedulerLockPropertiesTest {
+
+    private ValidatorFactory factory;
+    private Validator validator;
+
+    @BeforeEach
+    void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.close();
+    }
+
+    @Test
+    void shouldAcceptDefaults() {
+        assertTrue(validator.validate(new SchedulerLockProperties()).isEmpty());
+    }
+
+    @Test
+    void shouldRejectHeartbeatThatIsNotShorterThanLease() {
+        SchedulerLockProperties properties = new SchedulerLockProperties();
+        properties.setLeaseSeconds(60);
+        properties.setHeartbeatSeconds(60);
+
+        var violations = validator.validate(properties);
+
+        assertEquals(1, violations.size());
+        assertEquals("heartbeatWithinLease", violations.iterator().next().getPropertyPath().toString());
+    }
+}
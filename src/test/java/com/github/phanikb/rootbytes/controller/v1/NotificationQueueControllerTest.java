@@ -9,6 +9,7 @@ package com.github.phanikb.rootbytes.controller.v1;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -17,13 +18,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.github.phanikb.rootbytes.dto.v1.request.BroadcastRequest;
 import com.github.phanikb.rootbytes.dto.v1.request.NotificationQueueRequest;
+import com.github.phanikb.rootbytes.dto.v1.response.BroadcastResponse;
 import com.github.phanikb.rootbytes.dto.v1.response.NotificationQueueResponse;
+import com.github.phanikb.rootbytes.dto.v1.response.QueueLaneResponse;
 import com.github.phanikb.rootbytes.enums.notification.NotificationChannel;
 import com.github.phanikb.rootbytes.enums.notification.NotificationPriority;
 import com.github.phanikb.rootbytes.enums.notification.NotificationType;
 import com.github.phanikb.rootbytes.enums.notification.QueueStatus;
 import com.github.phanikb.rootbytes.service.NotificationQueueService;
+import com.github.phanikb.rootbytes.service.NotificationService;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -37,13 +42,16 @@ class NotificationQueueControllerTest {
     @Mock
     private NotificationQueueService queueService;
 
+    @Mock
+    private NotificationService notificationService;
+
     private NotificationQueueController controller;
     private UUID userId;
     private NotificationQueueResponse response;
 
     @BeforeEach
     void setUp() {
-        controller = new NotificationQueueController(queueService);
+        controller = new NotificationQueueController(queueService, notificationService);
         userId = UUID.randomUUID();
         response = NotificationQueueResponse.builder()
                 .id(UUID.randomUUID())
@@ -79,6 +87,29 @@ class NotificationQueueControllerTest {
         assertEquals(response, result.getBody().getData());
     }
 
+    @Test
+    void shouldBroadcast() {
+        var request = BroadcastRequest.builder()
+                .userIds(Set.of(userId, UUID.randomUUID()))
+                .type(NotificationType.GENERAL)
+                .title("Announcement")
+                .message("Test message")
+                .build();
+        var broadcast = BroadcastResponse.builder()
+                .requested(2)
+                .unknownUsers(1)
+                .created(1)
+                .build();
+        when(notificationService.createNotifications(request)).thenReturn(broadcast);
+
+        var result = controller.broadcast(request);
+
+        assertEquals(201, result.getStatusCode().value());
+        assertNotNull(result.getBody());
+        assertTrue(result.getBody().getSuccess());
+        assertEquals(broadcast, result.getBody().getData());
+    }
+
     @Test
     void shouldGetQueueForUser() {
         when(queueService.getQueueForUser(userId, null)).thenReturn(Collections.singletonList(response));
@@ -124,4 +155,20 @@ class NotificationQueueControllerTest {
         assertNotNull(result.getBody());
         assertTrue(result.getBody().getSuccess());
     }
+
+    @Test
+    void shouldGetLaneStats() {
+        QueueLaneResponse lane = QueueLaneResponse.builder()
+                .priority(NotificationPriority.CRITICAL)
+                .weight(8)
+                .depth(3)
+                .build();
+        when(queueService.getLaneStats()).thenReturn(List.of(lane));
+
+        var result = controller.getLaneStats();
+
+        assertEquals(200, result.getStatusCode().value());
+        assertNotNull(result.getBody());
+        assertEquals(List.of(lane), result.getBody().getData());
+    }
 }
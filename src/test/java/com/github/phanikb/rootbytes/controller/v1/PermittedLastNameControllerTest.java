@@ -20,20 +20,28 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import com.github.phanikb.rootbytes.dto.v1.request.PermittedLastNameRequest;
 import com.github.phanikb.rootbytes.dto.v1.response.PermittedLastNameResponse;
 import com.github.phanikb.rootbytes.entity.LastNameAlias;
 import com.github.phanikb.rootbytes.entity.PermittedLastName;
 import com.github.phanikb.rootbytes.mapper.PermittedLastNameMapper;
+import com.github.phanikb.rootbytes.repository.CatalogVersion;
 import com.github.phanikb.rootbytes.service.PermittedLastNameService;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -46,6 +54,9 @@ class PermittedLastNameControllerTest {
     @Mock
     private PermittedLastNameMapper mapper;
 
+    @Mock
+    private CatalogVersion catalogVersion;
+
     private PermittedLastNameController controller;
 
     private PermittedLastName lastName;
@@ -77,10 +88,11 @@ class PermittedLastNameControllerTest {
 
     @Test
     void shouldGetAllLastNames() {
+        when(permittedLastNameService.getCatalogVersion()).thenReturn(catalogVersion);
         when(permittedLastNameService.getAllActiveLastNames()).thenReturn(Collections.singletonList(lastName));
         when(mapper.toResponse(lastName)).thenReturn(response);
 
-        var result = controller.getAllActiveLastNames();
+        var result = controller.getAllActiveLastNames(get("/permitted-lastnames"));
 
         assertEquals(200, result.getStatusCode().value());
         assertNotNull(result.getBody());
@@ -109,10 +121,11 @@ class PermittedLastNameControllerTest {
 
     @Test
     void shouldGetByCategory() {
+        when(permittedLastNameService.getCatalogVersion()).thenReturn(catalogVersion);
         when(permittedLastNameService.getByCategory("Common")).thenReturn(Collections.singletonList(lastName));
         when(mapper.toResponse(lastName)).thenReturn(response);
 
-        var result = controller.getByCategory("Common");
+        var result = controller.getByCategory("Common", get("/permitted-lastnames/category/Common"));
 
         assertEquals(200, result.getStatusCode().value());
         assertNotNull(result.getBody());
@@ -126,9 +139,10 @@ class PermittedLastNameControllerTest {
     @Test
     void shouldGetCategories() {
         List<String> categories = Arrays.asList("Common", "Irish", "Scottish");
+        when(permittedLastNameService.getCatalogVersion()).thenReturn(catalogVersion);
         when(permittedLastNameService.getAllCategories()).thenReturn(categories);
 
-        var result = controller.getAllCategories();
+        var result = controller.getAllCategories(get("/permitted-lastnames/categories"));
 
         assertEquals(200, result.getStatusCode().value());
         assertNotNull(result.getBody());
@@ -138,6 +152,56 @@ class PermittedLastNameControllerTest {
         verify(permittedLastNameService).getAllCategories();
     }
 
+    @Test
+    void shouldReturnNotModifiedWhenLastNameCatalogUnchanged() {
+        when(permittedLastNameService.getCatalogVersion()).thenReturn(catalogVersion);
+        when(catalogVersion.getCount()).thenReturn(3L);
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        controller.getAllCategories(
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/permitted-lastnames/categories"), first));
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        MockHttpServletRequest revalidation = new MockHttpServletRequest("GET", "/permitted-lastnames/categories");
+        revalidation.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        var result = controller.getAllCategories(new ServletWebRequest(revalidation, new MockHttpServletResponse()));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+        assertNull(result.getBody());
+        verify(permittedLastNameService, times(1)).getAllCategories();
+    }
+
+    @Test
+    void shouldNotAcceptTagFromAnotherEndpoint() {
+        when(permittedLastNameService.getCatalogVersion()).thenReturn(catalogVersion);
+        when(catalogVersion.getCount()).thenReturn(3L);
+        when(permittedLastNameService.getByCategory(any())).thenReturn(List.of());
+
+        MockHttpServletResponse listing = new MockHttpServletResponse();
+        controller.getAllActiveLastNames(
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/permitted-lastnames"), listing));
+        MockHttpServletResponse common = new MockHttpServletResponse();
+        MockHttpServletRequest commonRequest =
+                new MockHttpServletRequest("GET", "/permitted-lastnames/category/Common");
+        controller.getByCategory("Common", new ServletWebRequest(commonRequest, common));
+
+        MockHttpServletRequest categories = new MockHttpServletRequest("GET", "/permitted-lastnames/categories");
+        categories.addHeader(HttpHeaders.IF_NONE_MATCH, listing.getHeader(HttpHeaders.ETAG));
+        var fromListing =
+                controller.getAllCategories(new ServletWebRequest(categories, new MockHttpServletResponse()));
+
+        MockHttpServletRequest irish = new MockHttpServletRequest("GET", "/permitted-lastnames/category/Irish");
+        irish.addHeader(HttpHeaders.IF_NONE_MATCH, common.getHeader(HttpHeaders.ETAG));
+        var fromOtherCategory =
+                controller.getByCategory("Irish", new ServletWebRequest(irish, new MockHttpServletResponse()));
+
+        assertEquals(HttpStatus.OK, fromListing.getStatusCode());
+        assertEquals(HttpStatus.OK, fromOtherCategory.getStatusCode());
+        verify(permittedLastNameService).getAllCategories();
+        verify(permittedLastNameService).getByCategory("Irish");
+    }
+
     @Test
     void shouldReturnLastNameWithAliases() {
         PermittedLastName lastNameWithAliases = PermittedLastName.builder()
@@ -173,11 +237,12 @@ class PermittedLastNameControllerTest {
                 .aliases("Kumari, Kumare")
                 .build();
 
+        when(permittedLastNameService.getCatalogVersion()).thenReturn(catalogVersion);
         when(permittedLastNameService.getAllActiveLastNames())
                 .thenReturn(Collections.singletonList(lastNameWithAliases));
         when(mapper.toResponse(lastNameWithAliases)).thenReturn(responseWithAliases);
 
-        var result = controller.getAllActiveLastNames();
+        var result = controller.getAllActiveLastNames(get("/permitted-lastnames"));
 
         assertEquals(200, result.getStatusCode().value());
         assertNotNull(result.getBody());
@@ -362,4 +427,8 @@ class PermittedLastNameControllerTest {
 
         verify(permittedLastNameService).deleteLastName(testId);
     }
+
+    private static ServletWebRequest get(String uri) {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", uri), new MockHttpServletResponse());
+    }
 }
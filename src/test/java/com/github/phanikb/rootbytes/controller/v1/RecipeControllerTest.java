@@ -19,27 +19,37 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import com.github.phanikb.rootbytes.dto.v1.request.RecipeDietaryInfoRequest;
 import com.github.phanikb.rootbytes.dto.v1.request.RecipeRequest;
+import com.github.phanikb.rootbytes.dto.v1.response.CursorPageResponse;
 import com.github.phanikb.rootbytes.dto.v1.response.PagedResponse;
 import com.github.phanikb.rootbytes.dto.v1.response.RecipeDetailResponse;
 import com.github.phanikb.rootbytes.dto.v1.response.RecipeDietaryInfoResponse;
 import com.github.phanikb.rootbytes.dto.v1.response.RecipeResponse;
+import com.github.phanikb.rootbytes.dto.v1.response.RecipeSummaryResponse;
 import com.github.phanikb.rootbytes.entity.Recipe;
 import com.github.phanikb.rootbytes.entity.UserEntity;
 import com.github.phanikb.rootbytes.enums.RecipeDifficulty;
 import com.github.phanikb.rootbytes.enums.RecipeStatus;
 import com.github.phanikb.rootbytes.mapper.RecipeMapper;
+import com.github.phanikb.rootbytes.repository.RecipeRepository.RecipeSummary;
+import com.github.phanikb.rootbytes.service.RecipeDetailCache;
 import com.github.phanikb.rootbytes.service.RecipeService;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -52,6 +62,12 @@ class RecipeControllerTest {
     @Mock
     private RecipeMapper recipeMapper;
 
+    @Mock
+    private RecipeDetailCache recipeDetailCache;
+
+    @Mock
+    private RecipeSummary summary;
+
     private RecipeController controller;
 
     private UUID recipeId;
@@ -59,11 +75,12 @@ class RecipeControllerTest {
     private UserEntity author;
     private Recipe recipe;
     private RecipeResponse recipeResponse;
+    private RecipeSummaryResponse summaryResponse;
     private RecipeDetailResponse recipeDetailResponse;
 
     @BeforeEach
     void setUp() {
-        controller = new RecipeController(recipeService, recipeMapper);
+        controller = new RecipeController(recipeService, recipeMapper, recipeDetailCache);
 
         recipeId = UUID.randomUUID();
         authorId = UUID.randomUUID();
@@ -111,6 +128,23 @@ class RecipeControllerTest {
                 .category("Main Course")
                 .build();
 
+        summaryResponse = RecipeSummaryResponse.builder()
+                .id(recipeId)
+                .authorId(authorId)
+                .authorName("Test Chef")
+                .title("Test Recipe")
+                .version(1)
+                .status("PUBLISHED")
+                .isCurrentVersion(true)
+                .isPrivate(false)
+                .prepTimeMinutes(15)
+                .cookTimeMinutes(30)
+                .servings(4)
+                .difficulty("MEDIUM")
+                .cuisine("Italian")
+                .category("Main Course")
+                .build();
+
         RecipeDietaryInfoResponse dietaryInfoResponse = RecipeDietaryInfoResponse.builder()
                 .isVegetarian(true)
                 .isVegan(false)
@@ -144,11 +178,11 @@ class RecipeControllerTest {
     @Test
     void shouldGetAllRecipes() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Recipe> recipePage = new PageImpl<>(List.of(recipe), pageable, 1);
+        Page<RecipeSummary> recipePage = new PageImpl<>(List.of(summary), pageable, 1);
 
-        when(recipeService.getPublishedRecipes(any(UserEntity.class), eq(pageable)))
+        when(recipeService.getPublishedRecipeSummaries(any(UserEntity.class), eq(pageable)))
                 .thenReturn(recipePage);
-        when(recipeMapper.toResponse(any(Recipe.class))).thenReturn(recipeResponse);
+        when(recipeMapper.toSummaryResponse(summary)).thenReturn(summaryResponse);
 
         var result = controller.getAllRecipes(author, pageable);
 
@@ -157,22 +191,43 @@ class RecipeControllerTest {
         assertTrue(result.getBody().getSuccess());
         assertEquals("Recipes retrieved successfully", result.getBody().getMessage());
 
-        PagedResponse<RecipeResponse> pagedResponse = result.getBody().getData();
+        PagedResponse<RecipeSummaryResponse> pagedResponse = result.getBody().getData();
         assertNotNull(pagedResponse);
         assertEquals(1, pagedResponse.getContent().size());
         assertEquals(0, pagedResponse.getPage());
         assertEquals(10, pagedResponse.getSize());
         assertEquals(1, pagedResponse.getTotalElements());
 
-        verify(recipeService).getPublishedRecipes(any(UserEntity.class), eq(pageable));
+        verify(recipeService).getPublishedRecipeSummaries(any(UserEntity.class), eq(pageable));
+    }
+
+    @Test
+    void shouldGetRecipeFeed() {
+        CursorPageResponse<RecipeSummary> feed = CursorPageResponse.of(List.of(summary), 1, "next-token", 12L);
+
+        when(recipeService.getPublishedRecipeFeed(author, "token", 1, true)).thenReturn(feed);
+        when(recipeMapper.toSummaryResponse(summary)).thenReturn(summaryResponse);
+
+        var result = controller.getRecipeFeed(author, "token", 1, true);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertNotNull(result.getBody());
+        CursorPageResponse<RecipeSummaryResponse> page = result.getBody().getData();
+        assertNotNull(page);
+        assertEquals(List.of(summaryResponse), page.getContent());
+        assertEquals("next-token", page.getNextCursor());
+        assertTrue(page.isHasNext());
+        assertEquals(12L, page.getApproximateTotal());
     }
 
     @Test
     void shouldGetRecipeById() {
-        when(recipeService.getRecipeById(recipeId)).thenReturn(recipe);
-        when(recipeMapper.toDetailResponse(any(Recipe.class))).thenReturn(recipeDetailResponse);
+        when(recipeDetailCache.getRecipeDetail(recipeId)).thenReturn(recipeDetailResponse);
 
-        var result = controller.getRecipeById(recipeId);
+        var result = controller.getRecipeById(
+                recipeId,
+                new ServletWebRequest(
+                        new MockHttpServletRequest("GET", "/recipes/" + recipeId), new MockHttpServletResponse()));
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertNotNull(result.getBody());
@@ -186,8 +241,29 @@ class RecipeControllerTest {
         assertNotNull(response.getDietaryInfo());
         assertTrue(response.getDietaryInfo().getIsVegetarian());
 
-        verify(recipeService).getRecipeById(recipeId);
-        verify(recipeMapper).toDetailResponse(any(Recipe.class));
+        verify(recipeDetailCache).getRecipeDetail(recipeId);
+    }
+
+    @Test
+    void shouldReturnNotModifiedForUnchangedRecipe() {
+        recipeDetailResponse.setUpdatedAt(Instant.parse("2025-06-01T10:15:30Z"));
+        when(recipeDetailCache.getRecipeDetail(recipeId)).thenReturn(recipeDetailResponse);
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        var initial = controller.getRecipeById(
+                recipeId, new ServletWebRequest(new MockHttpServletRequest("GET", "/recipes/" + recipeId), first));
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        assertEquals(HttpStatus.OK, initial.getStatusCode());
+        assertNotNull(etag);
+        assertNotNull(first.getHeader(HttpHeaders.LAST_MODIFIED));
+
+        MockHttpServletRequest revalidation = new MockHttpServletRequest("GET", "/recipes/" + recipeId);
+        revalidation.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        var result = controller.getRecipeById(
+                recipeId, new ServletWebRequest(revalidation, new MockHttpServletResponse()));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+        assertNull(result.getBody());
     }
 
     @Test
@@ -268,9 +344,9 @@ class RecipeControllerTest {
     @Test
     void shouldReturnEmptyPageWhenNoRecipes() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Recipe> emptyPage = new PageImpl<>(List.of(), pageable, 0);
+        Page<RecipeSummary> emptyPage = new PageImpl<>(List.of(), pageable, 0);
 
-        when(recipeService.getPublishedRecipes(any(UserEntity.class), eq(pageable)))
+        when(recipeService.getPublishedRecipeSummaries(any(UserEntity.class), eq(pageable)))
                 .thenReturn(emptyPage);
 
         var result = controller.getAllRecipes(author, pageable);
@@ -279,7 +355,7 @@ class RecipeControllerTest {
         assertNotNull(result.getBody());
         assertTrue(result.getBody().getSuccess());
 
-        PagedResponse<RecipeResponse> pagedResponse = result.getBody().getData();
+        PagedResponse<RecipeSummaryResponse> pagedResponse = result.getBody().getData();
         assertNotNull(pagedResponse);
         assertTrue(pagedResponse.getContent().isEmpty());
         assertEquals(0, pagedResponse.getTotalElements());
@@ -287,30 +363,24 @@ class RecipeControllerTest {
 
     @Test
     void shouldHandleMultipleRecipesInPage() {
-        Recipe recipe2 = Recipe.builder()
+        RecipeSummary summary2 = mock(RecipeSummary.class);
+        RecipeSummaryResponse response2 = RecipeSummaryResponse.builder()
                 .id(UUID.randomUUID())
-                .author(author)
-                .title("Second Recipe")
-                .status(RecipeStatus.PUBLISHED)
-                .build();
-
-        RecipeResponse response2 = RecipeResponse.builder()
-                .id(recipe2.getId())
                 .title("Second Recipe")
                 .build();
 
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Recipe> recipePage = new PageImpl<>(List.of(recipe, recipe2), pageable, 2);
+        Page<RecipeSummary> recipePage = new PageImpl<>(List.of(summary, summary2), pageable, 2);
 
-        when(recipeService.getPublishedRecipes(any(UserEntity.class), eq(pageable)))
+        when(recipeService.getPublishedRecipeSummaries(any(UserEntity.class), eq(pageable)))
                 .thenReturn(recipePage);
-        when(recipeMapper.toResponse(recipe)).thenReturn(recipeResponse);
-        when(recipeMapper.toResponse(recipe2)).thenReturn(response2);
+        when(recipeMapper.toSummaryResponse(summary)).thenReturn(summaryResponse);
+        when(recipeMapper.toSummaryResponse(summary2)).thenReturn(response2);
 
         var result = controller.getAllRecipes(author, pageable);
 
         assertEquals(HttpStatus.OK, result.getStatusCode());
-        PagedResponse<RecipeResponse> pagedResponse = result.getBody().getData();
+        PagedResponse<RecipeSummaryResponse> pagedResponse = result.getBody().getData();
         assertEquals(2, pagedResponse.getContent().size());
         assertEquals(2, pagedResponse.getTotalElements());
     }
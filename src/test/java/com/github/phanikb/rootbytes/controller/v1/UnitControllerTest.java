@@ -14,18 +14,27 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import com.github.phanikb.rootbytes.dto.v1.request.UnitRequest;
 import com.github.phanikb.rootbytes.dto.v1.response.UnitResponse;
 import com.github.phanikb.rootbytes.entity.Unit;
 import com.github.phanikb.rootbytes.enums.UnitType;
 import com.github.phanikb.rootbytes.mapper.UnitMapper;
+import com.github.phanikb.rootbytes.repository.CatalogVersion;
 import com.github.phanikb.rootbytes.service.UnitService;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +46,9 @@ class UnitControllerTest {
     @Mock
     private UnitMapper mapper;
 
+    @Mock
+    private CatalogVersion catalogVersion;
+
     private UnitController controller;
 
     private UUID unitId;
@@ -67,10 +79,11 @@ class UnitControllerTest {
 
     @Test
     void shouldGetAllActiveUnits() {
+        when(service.getCatalogVersion()).thenReturn(catalogVersion);
         when(service.getAllActiveUnits()).thenReturn(Collections.singletonList(unit));
         when(mapper.toResponse(any(Unit.class))).thenReturn(response);
 
-        var result = controller.getAllActiveUnits();
+        var result = controller.getAllActiveUnits(get("/units"));
 
         assertEquals(200, result.getStatusCode().value());
         assertNotNull(result.getBody());
@@ -84,7 +97,7 @@ class UnitControllerTest {
         when(service.getUnitById(unitId)).thenReturn(unit);
         when(mapper.toResponse(unit)).thenReturn(response);
 
-        var result = controller.getUnitById(unitId);
+        var result = controller.getUnitById(unitId, get("/units/" + unitId));
 
         assertEquals(200, result.getStatusCode().value());
         assertNotNull(result.getBody());
@@ -94,10 +107,11 @@ class UnitControllerTest {
 
     @Test
     void shouldGetUnitsByType() {
+        when(service.getCatalogVersion()).thenReturn(catalogVersion);
         when(service.getUnitsByType(UnitType.VOLUME)).thenReturn(Collections.singletonList(unit));
         when(mapper.toResponse(any(Unit.class))).thenReturn(response);
 
-        var result = controller.getUnitsByType(UnitType.VOLUME);
+        var result = controller.getUnitsByType(UnitType.VOLUME, get("/units/type/VOLUME"));
 
         assertEquals(200, result.getStatusCode().value());
         assertNotNull(result.getBody());
@@ -106,6 +120,48 @@ class UnitControllerTest {
         assertEquals(1, result.getBody().getData().size());
     }
 
+    @Test
+    void shouldReturnNotModifiedWhenUnitCatalogUnchanged() {
+        when(service.getCatalogVersion()).thenReturn(catalogVersion);
+        when(catalogVersion.getCount()).thenReturn(12L);
+        when(service.getAllActiveUnits()).thenReturn(Collections.singletonList(unit));
+        when(mapper.toResponse(any(Unit.class))).thenReturn(response);
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        controller.getAllActiveUnits(new ServletWebRequest(new MockHttpServletRequest("GET", "/units"), first));
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        MockHttpServletRequest revalidation = new MockHttpServletRequest("GET", "/units");
+        revalidation.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        var result = controller.getAllActiveUnits(
+                new ServletWebRequest(revalidation, new MockHttpServletResponse()));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+        assertNull(result.getBody());
+        verify(service, times(1)).getAllActiveUnits();
+    }
+
+    @Test
+    void shouldReturnFullUnitListWhenCatalogChanged() {
+        when(service.getCatalogVersion()).thenReturn(catalogVersion);
+        when(catalogVersion.getCount()).thenReturn(12L, 13L);
+        when(service.getAllActiveUnits()).thenReturn(Collections.singletonList(unit));
+        when(mapper.toResponse(any(Unit.class))).thenReturn(response);
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        controller.getAllActiveUnits(new ServletWebRequest(new MockHttpServletRequest("GET", "/units"), first));
+
+        MockHttpServletRequest revalidation = new MockHttpServletRequest("GET", "/units");
+        revalidation.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+        var result = controller.getAllActiveUnits(
+                new ServletWebRequest(revalidation, new MockHttpServletResponse()));
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertNotNull(result.getBody());
+        verify(service, times(2)).getAllActiveUnits();
+    }
+
     @Test
     void shouldCreateUnit() {
         var request = UnitRequest.builder()
@@ -161,4 +217,8 @@ class UnitControllerTest {
         assertNotNull(result.getBody());
         assertTrue(result.getBody().getSuccess());
     }
+
+    private static ServletWebRequest get(String uri) {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", uri), new MockHttpServletResponse());
+    }
 }
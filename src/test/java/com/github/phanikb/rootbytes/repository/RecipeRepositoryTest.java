@@ -0,0 +1,205 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.repository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.github.phanikb.rootbytes.config.TestJpaConfig;
+import com.github.phanikb.rootbytes.entity.Ingredient;
+import com.github.phanikb.rootbytes.entity.Instruction;
+import com.github.phanikb.rootbytes.entity.Recipe;
+import com.github.phanikb.rootbytes.entity.RecipeDietaryInfo;
+import com.github.phanikb.rootbytes.entity.Unit;
+import com.github.phanikb.rootbytes.entity.UserEntity;
+import com.github.phanikb.rootbytes.enums.RecipeStatus;
+import com.github.phanikb.rootbytes.repository.RecipeRepository.RecipeSummary;
+import com.github.phanikb.rootbytes.util.SeekCursor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts the SQL statements each read shape issues once the mapper has walked everything it renders. The bounds must
+ * not grow with the number of recipes on a page.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(TestJpaConfig.class)
+class RecipeRepositoryTest {
+
+    private static final int RECIPES = 6;
+
+    @Autowired
+    private RecipeRepository repository;
+
+    @Autowired
+    private UnitRepository unitRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private UserEntity author;
+    private UUID firstRecipeId;
+
+    @BeforeEach
+    void setUp() {
+        Unit liter = unitRepository
+                .findByName("Liter")
+                .orElseThrow(() -> new IllegalStateException("Liter unit not found in test data"));
+        author = UserEntity.builder()
+                .email("feed@example.com")
+                .lastName("Feed")
+                .uniqueName("FEED01")
+                .build();
+        entityManager.persist(author);
+
+        Instant publishedAt = Instant.now();
+        for (int i = 0; i < RECIPES; i++) {
+            Recipe recipe = Recipe.builder()
+                    .author(author)
+                    .title("Recipe " + i)
+                    .status(RecipeStatus.PUBLISHED)
+                    .isCurrentVersion(true)
+                    .isPrivate(false)
+                    .publishedAt(publishedAt.minusSeconds(i))
+                    .build();
+            recipe.addIngredient(Ingredient.builder().name("Water").unit(liter).orderIndex(1).build());
+            recipe.addIngredient(Ingredient.builder().name("Salt").orderIndex(2).build());
+            recipe.addInstruction(Instruction.builder().stepNumber(1).description("Boil").build());
+            recipe.addInstruction(Instruction.builder().stepNumber(2).description("Season").build());
+            recipe.setDietaryInfo(RecipeDietaryInfo.builder().recipe(recipe).build());
+            entityManager.persist(recipe);
+            if (i == 0) {
+                firstRecipeId = recipe.getId();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void shouldLoadRecipeDetailInTwoStatements() {
+        long statements = countStatements(() -> {
+            Recipe recipe = repository.findDetailById(firstRecipeId).orElseThrow();
+            touch(recipe);
+            return recipe;
+        });
+
+        assertTrue(statements <= 2, "Detail read issued " + statements + " statements");
+    }
+
+    @Test
+    void shouldLoadFeedAsSingleProjectionQuery() {
+        long statements = countStatements(() -> {
+            List<RecipeSummary> feed =
+                    repository.findPublishedFeed(RecipeStatus.PUBLISHED, author, PageRequest.of(0, 21));
+            assertEquals(RECIPES, feed.size());
+            assertEquals("@FEED01", UserEntity.authorDisplay(
+                    feed.getFirst().getAuthorPublicName(), feed.getFirst().getAuthorUniqueName()));
+            return feed;
+        });
+
+        assertEquals(1, statements, "Feed page issued " + statements + " statements");
+    }
+
+    @Test
+    void shouldLoadPublishedSummariesWithoutEntities() {
+        long statements = countStatements(() -> {
+            Page<RecipeSummary> page =
+                    repository.findPublishedSummaries(RecipeStatus.PUBLISHED, author, PageRequest.of(0, 4));
+            assertEquals(4, page.getNumberOfElements());
+            assertEquals(RECIPES, page.getTotalElements());
+            return page;
+        });
+
+        // page + count
+        assertTrue(statements <= 2, "Summary page issued " + statements + " statements");
+        assertEquals(0, entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics()
+                .getEntityLoadCount());
+    }
+
+    @Test
+    void shouldPageThroughTiedAndSubMillisecondTimestampsWithoutGaps() {
+        Instant tied = Instant.parse("2025-05-01T10:00:00.123456Z");
+        for (int i = 0; i < 5; i++) {
+            persistPublished("Tied " + i, tied);
+        }
+        persistPublished("Same millisecond", tied.minusNanos(1_000));
+        persistPublished("Same millisecond, later", tied.plusNanos(2_000));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<UUID> expected =
+                repository.findPublishedFeed(RecipeStatus.PUBLISHED, author, PageRequest.of(0, 100)).stream()
+                        .map(RecipeSummary::getId)
+                        .toList();
+        assertEquals(RECIPES + 7, expected.size());
+
+        // page size 4 puts boundaries inside the tied group and between rows of the same millisecond
+        List<UUID> paged = new ArrayList<>();
+        List<RecipeSummary> page = repository.findPublishedFeed(RecipeStatus.PUBLISHED, author, PageRequest.of(0, 4));
+        while (!page.isEmpty()) {
+            page.forEach(row -> paged.add(row.getId()));
+            RecipeSummary last = page.getLast();
+            SeekCursor cursor = SeekCursor.decode(SeekCursor.of(last.getPublishedAt(), last.getId()).encode());
+            assertNotNull(cursor);
+            page = repository.findPublishedFeedAfter(
+                    RecipeStatus.PUBLISHED, author, cursor.publishedAt(), cursor.id(), PageRequest.of(0, 4));
+        }
+
+        assertEquals(expected, paged);
+    }
+
+    private void persistPublished(String title, Instant publishedAt) {
+        entityManager.persist(Recipe.builder()
+                .author(author)
+                .title(title)
+                .status(RecipeStatus.PUBLISHED)
+                .isCurrentVersion(true)
+                .isPrivate(false)
+                .publishedAt(publishedAt)
+                .build());
+    }
+
+    private long countStatements(Supplier<?> read) {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        read.get();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static void touch(Recipe recipe) {
+        recipe.getAuthor().getLastName();
+        recipe.getDietaryInfo().getIsVegetarian();
+        recipe.getIngredients().forEach(ingredient -> {
+            if (ingredient.getUnit() != null) {
+                ingredient.getUnit().getName();
+            }
+        });
+        recipe.getInstructions().forEach(Instruction::getDescription);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.scheduler;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AimdBatchSizerTest {
+
+    private static final long FAST = Duration.ofMillis(100).toNanos();
+    private static final long SLOW = Duration.ofSeconds(5).toNanos();
+
+    private AimdBatchSizer sizer;
+
+    @BeforeEach
+    void setUp() {
+        sizer = new AimdBatchSizer(20, 1, 30, 4, Duration.ofSeconds(2).toNanos(), 0.2);
+    }
+
+    @Test
+    void shouldGrowAdditivelyUpToMaximumWhileFullBatchesAreHealthy() {
+        assertEquals(24, sizer.record(20, FAST, 0));
+        assertEquals(28, sizer.record(24, FAST, 1));
+        assertEquals(30, sizer.record(28, FAST, 0));
+        assertEquals(30, sizer.record(30, FAST, 0));
+    }
+
+    @Test
+    void shouldNotGrowOnPartialBatches() {
+        assertEquals(20, sizer.record(5, FAST, 0));
+    }
+
+    @Test
+    void shouldHalveOnSlowOrFailingBatches() {
+        assertEquals(10, sizer.record(20, SLOW, 0));
+        assertEquals(5, sizer.record(10, FAST, 5));
+        assertEquals(2, sizer.record(5, SLOW, 0));
+        assertEquals(1, sizer.record(2, SLOW, 0));
+        assertEquals(1, sizer.record(1, SLOW, 0));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.github.phanikb.rootbytes.config.SchedulerLockProperties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterJobLockTest {
+
+    private static final Duration INTERVAL = Duration.ofMinutes(10);
+
+    @Mock
+    private JobLockProvider jobLockProvider;
+
+    private SchedulerLockProperties lockProperties;
+    private ClusterJobLock clusterJobLock;
+
+    @BeforeEach
+    void setUp() {
+        lockProperties = new SchedulerLockProperties();
+        clusterJobLock = new ClusterJobLock(jobLockProvider, lockProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clusterJobLock.shutdown();
+    }
+
+    @Test
+    void shouldRunAndHoldLockForMostOfTheIntervalWhenAcquired() {
+        JobLease lease = new JobLease("janitor", "node-1", 7);
+        when(jobLockProvider.tryAcquire(eq("janitor"), any())).thenReturn(Optional.of(lease));
+        List<String> ran = new ArrayList<>();
+        Instant before = Instant.now();
+
+        assertTrue(clusterJobLock.runExclusively("janitor", INTERVAL, () -> ran.add("janitor")));
+
+        assertEquals(List.of("janitor"), ran);
+        ArgumentCaptor<Instant> holdUntil = ArgumentCaptor.forClass(Instant.class);
+        verify(jobLockProvider).release(eq(lease), holdUntil.capture());
+        assertTrue(holdUntil.getValue().isAfter(before.plus(INTERVAL.dividedBy(2))));
+        assertTrue(holdUntil.getValue().isBefore(before.plus(INTERVAL)));
+    }
+
+    @Test
+    void shouldSkipWhenAnotherNodeHoldsLock() {
+        when(jobLockProvider.tryAcquire(eq("janitor"), any())).thenReturn(Optional.empty());
+        List<String> ran = new ArrayList<>();
+
+        assertFalse(clusterJobLock.runExclusively("janitor", INTERVAL, () -> ran.add("janitor")));
+
+        assertTrue(ran.isEmpty());
+        verify(jobLockProvider, never()).release(any(), any());
+    }
+
+    @Test
+    void shouldReleaseImmediatelyWhenJobFails() {
+        JobLease lease = new JobLease("janitor", "node-1", 3);
+        when(jobLockProvider.tryAcquire(eq("janitor"), any())).thenReturn(Optional.of(lease));
+        Instant before = Instant.now();
+
+        assertThrows(IllegalStateException.class, () -> clusterJobLock.runExclusively("janitor", INTERVAL, () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        ArgumentCaptor<Instant> holdUntil = ArgumentCaptor.forClass(Instant.class);
+        verify(jobLockProvider).release(eq(lease), holdUntil.capture());
+        assertTrue(holdUntil.getValue().isBefore(before.plusSeconds(1)));
+    }
+
+    @Test
+    void shouldReportLeaseLostOnceHeartbeatIsRefused() {
+        lockProperties.setHeartbeatSeconds(1);
+        JobLease lease = new JobLease("janitor", "node-1", 5);
+        when(jobLockProvider.tryAcquire(eq("janitor"), any())).thenReturn(Optional.of(lease));
+        when(jobLockProvider.extend(eq(lease), any())).thenReturn(false);
+        List<Boolean> observed = new ArrayList<>();
+
+        clusterJobLock.runExclusively("janitor", INTERVAL, leaseHeld -> {
+            observed.add(leaseHeld.getAsBoolean());
+            Instant deadline = Instant.now().plusSeconds(5);
+            while (leaseHeld.getAsBoolean() && Instant.now().isBefore(deadline)) {
+                Thread.onSpinWait();
+            }
+            observed.add(leaseHeld.getAsBoolean());
+        });
+
+        assertEquals(List.of(true, false), observed);
+        verify(jobLockProvider, times(1)).extend(eq(lease), any());
+    }
+
+    @Test
+    void shouldRunWithoutLockingWhenDisabled() {
+        lockProperties.setEnabled(false);
+        List<String> ran = new ArrayList<>();
+
+        assertTrue(clusterJobLock.runExclusively("janitor", INTERVAL, () -> ran.add("janitor")));
+
+        assertEquals(List.of("janitor"), ran);
+        verifyNoInteractions(jobLockProvider);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashedTimingWheelTest {
+
+    private CountDownLatch fired;
+    private HashedTimingWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        fired = new CountDownLatch(1);
+        wheel = new HashedTimingWheel(Duration.ofMillis(20), 16, fired::countDown);
+        wheel.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    void shouldFireWhenDeadlineReached() throws InterruptedException {
+        assertTrue(wheel.schedule(Instant.now().plusMillis(100)));
+
+        assertTrue(fired.await(2, TimeUnit.SECONDS));
+        assertEquals(0, wheel.pendingCount());
+    }
+
+    @Test
+    void shouldFireBeyondOneRotation() throws InterruptedException {
+        assertTrue(wheel.schedule(Instant.now().plusMillis(500)));
+
+        assertFalse(fired.await(200, TimeUnit.MILLISECONDS));
+        assertTrue(fired.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldCoalesceDeadlinesInSameTick() {
+        Instant deadline = Instant.now().plusSeconds(30);
+
+        assertTrue(wheel.schedule(deadline));
+        assertFalse(wheel.schedule(deadline));
+        assertEquals(1, wheel.pendingCount());
+    }
+}
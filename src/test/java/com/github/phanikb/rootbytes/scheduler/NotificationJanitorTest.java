@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.scheduler;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.github.phanikb.rootbytes.config.NotificationArchiveProperties;
+import com.github.phanikb.rootbytes.enums.notification.QueueStatus;
+import com.github.phanikb.rootbytes.service.NotificationMaintenanceService;
+import com.github.phanikb.rootbytes.service.NotificationMaintenanceService.ChunkResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationJanitorTest {
+
+    @Mock
+    private NotificationMaintenanceService maintenanceService;
+
+    @Mock
+    private ClusterJobLock clusterJobLock;
+
+    private NotificationArchiveProperties archiveProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationJanitor janitor;
+
+    @BeforeEach
+    void setUp() {
+        archiveProperties = new NotificationArchiveProperties();
+        archiveProperties.setChunkPauseMillis(0);
+        meterRegistry = new SimpleMeterRegistry();
+        janitor = new NotificationJanitor(maintenanceService, archiveProperties, clusterJobLock, meterRegistry);
+    }
+
+    @Test
+    void shouldWalkChunksUsingKeysetCursor() {
+        Instant cursor = Instant.parse("2025-01-01T00:00:00Z");
+        when(maintenanceService.archiveReadChunk(eq(Instant.EPOCH), any(), any()))
+                .thenReturn(new ChunkResult(5000, cursor));
+        when(maintenanceService.archiveReadChunk(eq(cursor), any(), any())).thenReturn(new ChunkResult(12, null));
+        when(maintenanceService.deleteArchivedChunk(eq(Instant.EPOCH), any())).thenReturn(new ChunkResult(3, null));
+        when(maintenanceService.deleteExpiredChunk(eq(Instant.EPOCH), any())).thenReturn(new ChunkResult(0, null));
+        when(maintenanceService.compactQueueChunk(any(), eq(Instant.EPOCH), any(), any()))
+                .thenReturn(new ChunkResult(0, null));
+        when(maintenanceService.purgeQueueHistoryChunk(any())).thenReturn(new ChunkResult(0, null));
+
+        NotificationJanitor.RunStats stats = janitor.run();
+
+        assertEquals(5012, stats.archived());
+        assertEquals(3, stats.deleted());
+        assertEquals(0, stats.expired());
+        assertEquals(8, stats.chunks());
+        assertFalse(stats.capped());
+        assertEquals(5012, rowCount("archived"));
+        assertEquals(1, meterRegistry.get("rootbytes.notification.janitor.run").timer().count());
+    }
+
+    @Test
+    void shouldCompactEachTerminalQueueStatusAndPurgeHistory() {
+        Instant cursor = Instant.parse("2025-01-01T00:00:00Z");
+        when(maintenanceService.archiveReadChunk(any(), any(), any())).thenReturn(new ChunkResult(0, null));
+        when(maintenanceService.deleteArchivedChunk(any(), any())).thenReturn(new ChunkResult(0, null));
+        when(maintenanceService.deleteExpiredChunk(any(), any())).thenReturn(new ChunkResult(0, null));
+        when(maintenanceService.compactQueueChunk(any(), eq(Instant.EPOCH), any(), any()))
+                .thenReturn(new ChunkResult(0, null));
+        when(maintenanceService.compactQueueChunk(eq(QueueStatus.SENT), eq(Instant.EPOCH), any(), any()))
+                .thenReturn(new ChunkResult(5000, cursor));
+        when(maintenanceService.compactQueueChunk(eq(QueueStatus.SENT), eq(cursor), any(), any()))
+                .thenReturn(new ChunkResult(40, null));
+        when(maintenanceService.purgeQueueHistoryChunk(any())).thenReturn(new ChunkResult(7, null));
+
+        NotificationJanitor.RunStats stats = janitor.run();
+
+        assertEquals(5040, stats.compacted());
+        assertEquals(7, stats.historyPurged());
+        assertEquals(5040, rowCount("compacted"));
+        assertEquals(7, rowCount("history_purged"));
+        for (QueueStatus status : QueueStatus.compactableStatuses()) {
+            verify(maintenanceService).compactQueueChunk(eq(status), eq(Instant.EPOCH), any(), any());
+        }
+    }
+
+    @Test
+    void shouldStopAtChunkCap() {
+        archiveProperties.setMaxChunksPerRun(2);
+        when(maintenanceService.archiveReadChunk(any(), any(), any()))
+                .thenReturn(new ChunkResult(5000, Instant.now()));
+
+        NotificationJanitor.RunStats stats = janitor.run();
+
+        assertTrue(stats.capped());
+        assertEquals(10000, stats.archived());
+        verify(maintenanceService, times(2)).archiveReadChunk(any(), any(), any());
+        verify(maintenanceService, never()).deleteArchivedChunk(any(), any());
+    }
+
+    @Test
+    void shouldStopBetweenChunksOnceLockIsLost() {
+        when(maintenanceService.archiveReadChunk(any(), any(), any()))
+                .thenReturn(new ChunkResult(5000, Instant.now()));
+        AtomicInteger checks = new AtomicInteger();
+
+        NotificationJanitor.RunStats stats = janitor.run(() -> checks.incrementAndGet() <= 2);
+
+        assertEquals(10000, stats.archived());
+        assertFalse(stats.capped());
+        verify(maintenanceService, times(2)).archiveReadChunk(any(), any(), any());
+        verify(maintenanceService, never()).purgeQueueHistoryChunk(any());
+    }
+
+    @Test
+    void shouldSkipWhenDisabled() {
+        archiveProperties.setJanitorEnabled(false);
+
+        janitor.notificationCleanup();
+
+        verifyNoInteractions(maintenanceService);
+    }
+
+    private double rowCount(String action) {
+        return meterRegistry
+                .get("rootbytes.notification.janitor.rows")
+                .tag("action", action)
+                .counter()
+                .count();
+    }
+}
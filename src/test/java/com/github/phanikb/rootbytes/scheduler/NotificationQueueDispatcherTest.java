@@ -0,0 +1,190 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.scheduler;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.github.phanikb.rootbytes.config.NotificationQueueProperties;
+import com.github.phanikb.rootbytes.dto.v1.response.NotificationQueueResponse;
+import com.github.phanikb.rootbytes.enums.notification.NotificationChannel;
+import com.github.phanikb.rootbytes.enums.notification.NotificationType;
+import com.github.phanikb.rootbytes.enums.notification.QueueStatus;
+import com.github.phanikb.rootbytes.service.NotificationDigestAssembler;
+import com.github.phanikb.rootbytes.service.NotificationQueueMetrics;
+import com.github.phanikb.rootbytes.service.NotificationQueueService;
+import com.github.phanikb.rootbytes.service.delivery.ChannelDispatcher;
+import com.github.phanikb.rootbytes.service.delivery.DeliveryResult;
+import com.github.phanikb.rootbytes.service.delivery.DeliveryThrottle;
+import com.github.phanikb.rootbytes.service.delivery.NotificationDelivery;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationQueueDispatcherTest {
+
+    private static final String LEASE_OWNER = "node-1#IN_APP-0";
+
+    @Mock
+    private NotificationQueueService queueService;
+
+    @Mock
+    private NotificationDigestAssembler digestAssembler;
+
+    @Mock
+    private DeliveryThrottle deliveryThrottle;
+
+    private ChannelDispatcher channelDispatcher;
+    private NotificationQueueDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        NotificationQueueProperties queueProperties = new NotificationQueueProperties();
+        queueProperties.setNodeId("node-1");
+        queueProperties.setWorkerThreads(1);
+        channelDispatcher = mock(ChannelDispatcher.class);
+        when(channelDispatcher.channel()).thenReturn(NotificationChannel.IN_APP);
+        dispatcher = new NotificationQueueDispatcher(
+                queueService,
+                digestAssembler,
+                queueProperties,
+                deliveryThrottle,
+                new NotificationQueueMetrics(new SimpleMeterRegistry()),
+                List.of(channelDispatcher));
+        dispatcher.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void shouldRecordRowByRowAndDeadLetterPoisonRowWhenBatchRecordFails() {
+        NotificationDelivery good = delivery();
+        NotificationDelivery poison = delivery();
+        DeliveryResult goodResult = DeliveryResult.success(good.queueId());
+        DeliveryResult poisonResult = DeliveryResult.success(poison.queueId());
+        claimOnce(List.of(good, poison));
+        when(channelDispatcher.dispatch(any())).thenReturn(List.of(goodResult, poisonResult));
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("constraint");
+        when(queueService.recordDeliveryResults(LEASE_OWNER, List.of(goodResult, poisonResult)))
+                .thenThrow(violation);
+        when(queueService.recordDeliveryResults(LEASE_OWNER, List.of(goodResult)))
+                .thenReturn(List.of(response(good, QueueStatus.SENT)));
+        when(queueService.recordDeliveryResults(LEASE_OWNER, List.of(poisonResult)))
+                .thenThrow(violation);
+
+        int processed = dispatcher.dispatch();
+
+        assertEquals(1, processed);
+        verify(queueService).deadLetterUnrecordable(eq(LEASE_OWNER), eq(poison.queueId()), anyString());
+        verify(queueService, never()).deadLetterUnrecordable(any(), eq(good.queueId()), any());
+    }
+
+    @Test
+    void shouldFailOnlyTheBatchWhenDispatcherThrows() {
+        NotificationDelivery delivery = delivery();
+        claimOnce(List.of(delivery));
+        when(channelDispatcher.dispatch(any())).thenThrow(new IllegalStateException("provider exploded"));
+        when(queueService.recordDeliveryResults(eq(LEASE_OWNER), any()))
+                .thenReturn(List.of(response(delivery, QueueStatus.FAILED)));
+
+        int processed = dispatcher.dispatch();
+
+        assertEquals(0, processed);
+        verify(queueService)
+                .recordDeliveryResults(
+                        eq(LEASE_OWNER),
+                        eq(List.of(DeliveryResult.failure(
+                                delivery.queueId(), "Dispatcher failed: provider exploded"))));
+    }
+
+    @Test
+    void shouldRefundChannelTokensForDomainDeferredRows() {
+        NotificationDelivery sent = delivery();
+        NotificationDelivery deferred = delivery();
+        claimOnce(List.of(sent, deferred));
+        List<DeliveryResult> results =
+                List.of(DeliveryResult.success(sent.queueId()), DeliveryResult.deferred(deferred.queueId()));
+        when(channelDispatcher.dispatch(any())).thenReturn(results);
+        when(queueService.recordDeliveryResults(LEASE_OWNER, results))
+                .thenReturn(List.of(response(sent, QueueStatus.SENT), response(deferred, QueueStatus.PENDING)));
+
+        dispatcher.dispatch();
+
+        verify(deliveryThrottle).refund(NotificationChannel.IN_APP, 1);
+    }
+
+    @Test
+    void shouldLoadAtMostOneWheelOfUpcomingScheduleTimes() {
+        when(queueService.getUpcomingScheduleTimes(any(), eq(512)))
+                .thenReturn(List.of(Instant.now().plusSeconds(60), Instant.now().plusSeconds(120)));
+
+        assertEquals(2, dispatcher.loadUpcoming());
+    }
+
+    @Test
+    void shouldStopClaimingAndHandBackLeasesOnStop() {
+        dispatcher.stop();
+
+        assertFalse(dispatcher.isRunning());
+        assertEquals(0, dispatcher.dispatch());
+        verify(queueService).releaseLeases(List.of(LEASE_OWNER));
+        verify(queueService, never()).claimDueNotifications(any(), any(), anyInt());
+    }
+
+    private void claimOnce(List<NotificationDelivery> deliveries) {
+        when(deliveryThrottle.acquireUpTo(eq(NotificationChannel.IN_APP), anyInt()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+        when(queueService.claimDueNotifications(eq(LEASE_OWNER), eq(NotificationChannel.IN_APP), anyInt()))
+                .thenReturn(deliveries)
+                .thenReturn(List.of());
+    }
+
+    private static NotificationDelivery delivery() {
+        UUID userId = UUID.randomUUID();
+        return new NotificationDelivery(
+                UUID.randomUUID(),
+                userId,
+                NotificationChannel.IN_APP,
+                NotificationType.GENERAL,
+                userId.toString(),
+                "Title",
+                "Message",
+                null);
+    }
+
+    private static NotificationQueueResponse response(NotificationDelivery delivery, QueueStatus status) {
+        return NotificationQueueResponse.builder()
+                .id(delivery.queueId())
+                .userId(delivery.userId())
+                .channel(delivery.channel())
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.github.phanikb.rootbytes.config.NotificationDigestProperties;
+import com.github.phanikb.rootbytes.config.NotificationQueueProperties;
+import com.github.phanikb.rootbytes.dto.v1.request.NotificationQueueRequest;
+import com.github.phanikb.rootbytes.entity.Notification;
+import com.github.phanikb.rootbytes.entity.NotificationPreference;
+import com.github.phanikb.rootbytes.entity.UserEntity;
+import com.github.phanikb.rootbytes.enums.notification.NotificationChannel;
+import com.github.phanikb.rootbytes.enums.notification.NotificationFrequency;
+import com.github.phanikb.rootbytes.enums.notification.NotificationType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExternalNotificationQueueingServiceTest {
+
+    @Mock
+    private NotificationQueueService notificationQueueService;
+
+    private NotificationQueueProperties queueProperties;
+    private ExternalNotificationQueueingService service;
+
+    @BeforeEach
+    void setUp() {
+        queueProperties = new NotificationQueueProperties();
+        queueProperties.setEnabled(true);
+        service = new ExternalNotificationQueueingService(
+                notificationQueueService,
+                queueProperties,
+                new NotificationSchedulingService(new NotificationDigestProperties()));
+    }
+
+    @Test
+    void shouldNotQueueInAppOnlyNotification() {
+        Notification notification = notification();
+
+        service.queueExternalNotification(notification, preference(notification, false));
+
+        verifyNoInteractions(notificationQueueService);
+    }
+
+    @Test
+    void shouldQueueOnlyExternalChannelsInBulkAndCountInAppAsDelivered() {
+        Notification email = notification();
+        Notification inApp = notification();
+        Map<UUID, NotificationPreference> preferences = Map.of(
+                email.getUser().getId(), preference(email, true),
+                inApp.getUser().getId(), preference(inApp, false));
+        when(notificationQueueService.isChannelEnabled(NotificationChannel.EMAIL)).thenReturn(true);
+        when(notificationQueueService.enqueueAll(any())).thenReturn(1);
+
+        int accepted = service.queueExternalNotifications(List.of(email, inApp), preferences);
+
+        assertEquals(2, accepted);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationQueueRequest>> queued = ArgumentCaptor.forClass(List.class);
+        verify(notificationQueueService).enqueueAll(queued.capture());
+        assertEquals(1, queued.getValue().size());
+        assertEquals(NotificationChannel.EMAIL, queued.getValue().getFirst().getChannel());
+    }
+
+    @Test
+    void shouldCountDisabledChannelAsDeliveredRatherThanOverQuota() {
+        Notification notification = notification();
+        when(notificationQueueService.isChannelEnabled(NotificationChannel.EMAIL)).thenReturn(false);
+
+        int accepted = service.queueExternalNotifications(
+                List.of(notification), Map.of(notification.getUser().getId(), preference(notification, true)));
+
+        assertEquals(1, accepted);
+        verify(notificationQueueService).enqueueAll(any());
+    }
+
+    @Test
+    void shouldQueueSingleNotificationThroughBulkPath() {
+        Notification notification = notification();
+
+        service.queueExternalNotification(notification, preference(notification, true));
+
+        verify(notificationQueueService).enqueueAll(any());
+        verify(notificationQueueService, never()).enqueue(any());
+    }
+
+    @Test
+    void shouldQueueInAppWhenConfigured() {
+        queueProperties.setQueueInApp(true);
+        Notification notification = notification();
+
+        service.queueExternalNotification(notification, preference(notification, false));
+
+        verify(notificationQueueService).enqueueAll(any());
+    }
+
+    private static Notification notification() {
+        UserEntity user = UserEntity.builder()
+                .id(UUID.randomUUID())
+                .email("user@test.com")
+                .lastName("User")
+                .build();
+        return Notification.builder()
+                .user(user)
+                .type(NotificationType.SECURITY_ALERT)
+                .title("Title")
+                .message("Message")
+                .build();
+    }
+
+    private static NotificationPreference preference(Notification notification, boolean emailEnabled) {
+        return NotificationPreference.builder()
+                .userId(notification.getUser().getId())
+                .emailEnabled(emailEnabled)
+                .frequency(NotificationFrequency.INSTANT)
+                .build();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.github.phanikb.rootbytes.config.NotificationCountProperties;
+import com.github.phanikb.rootbytes.dto.v1.response.NotificationCountResponse;
+import com.github.phanikb.rootbytes.event.NotificationCountChangedEvent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCountCacheTest {
+
+    @Mock
+    private NotificationMaintenanceService maintenanceService;
+
+    @Mock
+    private NotificationQueueService notificationQueueService;
+
+    @Mock
+    private NotificationCountStreamService countStreamService;
+
+    private NotificationCountProperties countProperties;
+    private NotificationCountCache countCache;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        countProperties = new NotificationCountProperties();
+        countCache = new NotificationCountCache(
+                maintenanceService, notificationQueueService, countStreamService, countProperties);
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void shouldLoadOnceAndApplyDeltas() {
+        when(maintenanceService.getNotificationCounts(userId)).thenReturn(counts(4, 1));
+
+        assertEquals(5, countCache.getCounts(userId).getTotal());
+        countCache.onCountChanged(NotificationCountChangedEvent.unread(userId, 2));
+        countCache.onCountChanged(NotificationCountChangedEvent.pending(userId, -1));
+
+        NotificationCountResponse result = countCache.getCounts(userId);
+        assertEquals(6, result.getInternalUnread());
+        assertEquals(0, result.getExternalPending());
+        assertEquals(6, result.getTotal());
+        verify(maintenanceService, times(1)).getNotificationCounts(userId);
+    }
+
+    @Test
+    void shouldIgnoreDeltasForUncachedUsers() {
+        countCache.onCountChanged(NotificationCountChangedEvent.unread(userId, 1));
+
+        assertEquals(0, countCache.size());
+        verify(maintenanceService, never()).getNotificationCounts(any());
+    }
+
+    @Test
+    void shouldPushChangesToSubscribers() {
+        when(maintenanceService.getNotificationCounts(userId)).thenReturn(counts(0, 0));
+        countCache.getCounts(userId);
+        when(countStreamService.hasSubscribers(userId)).thenReturn(true);
+
+        countCache.onCountChanged(NotificationCountChangedEvent.unread(userId, 1));
+
+        verify(countStreamService).publish(userId, counts(1, 0));
+    }
+
+    @Test
+    void shouldCorrectDriftOnReconcile() {
+        when(maintenanceService.getNotificationCounts(userId)).thenReturn(counts(3, 2));
+        countCache.getCounts(userId);
+        when(maintenanceService.countUnreadForUsers(List.of(userId))).thenReturn(Map.of(userId, 1L));
+        when(notificationQueueService.countActiveForUsers(List.of(userId))).thenReturn(Map.of());
+
+        assertEquals(1, countCache.reconcile());
+        assertEquals(counts(1, 0), countCache.getCounts(userId));
+        assertEquals(0, countCache.reconcile());
+    }
+
+    @Test
+    void shouldReadThroughWhenCacheDisabled() {
+        countProperties.setCacheEnabled(false);
+        when(maintenanceService.getNotificationCounts(userId)).thenReturn(counts(2, 0));
+
+        countCache.getCounts(userId);
+        countCache.getCounts(userId);
+
+        verify(maintenanceService, times(2)).getNotificationCounts(userId);
+        assertEquals(0, countCache.reconcile());
+    }
+
+    private static NotificationCountResponse counts(long unread, long pending) {
+        return NotificationCountResponse.builder()
+                .internalUnread(unread)
+                .externalPending(pending)
+                .total(unread + pending)
+                .build();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.github.phanikb.rootbytes.config.NotificationDigestProperties;
+import com.github.phanikb.rootbytes.config.NotificationQueueProperties;
+import com.github.phanikb.rootbytes.entity.NotificationQueue;
+import com.github.phanikb.rootbytes.entity.UserEntity;
+import com.github.phanikb.rootbytes.enums.notification.NotificationChannel;
+import com.github.phanikb.rootbytes.enums.notification.NotificationFrequency;
+import com.github.phanikb.rootbytes.enums.notification.NotificationPriority;
+import com.github.phanikb.rootbytes.enums.notification.NotificationType;
+import com.github.phanikb.rootbytes.enums.notification.QueueStatus;
+import com.github.phanikb.rootbytes.event.NotificationCountChangedEvent;
+import com.github.phanikb.rootbytes.repository.NotificationQueueRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDigestAssemblerTest {
+
+    @Mock
+    private NotificationQueueRepository queueRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private NotificationDigestProperties digestProperties;
+    private NotificationDigestAssembler assembler;
+
+    @BeforeEach
+    void setUp() {
+        digestProperties = new NotificationDigestProperties();
+        assembler = new NotificationDigestAssembler(
+                queueRepository, new NotificationQueueProperties(), digestProperties, eventPublisher);
+    }
+
+    @Test
+    void shouldCoalesceItemsPerUserIntoOneDigest() {
+        UserEntity user = user();
+        UserEntity other = user();
+        NotificationQueue first = digestItem(user, NotificationPriority.LOW);
+        NotificationQueue second = digestItem(user, NotificationPriority.HIGH);
+        NotificationQueue single = digestItem(other, NotificationPriority.LOW);
+        when(queueRepository.lockDueDigestItems(
+                        eq(QueueStatus.PENDING), any(Instant.class), eq(NotificationChannel.EMAIL), any()))
+                .thenReturn(List.of(first, second, single));
+        UUID digestId = UUID.randomUUID();
+        when(queueRepository.save(any(NotificationQueue.class))).thenAnswer(invocation -> {
+            NotificationQueue digest = invocation.getArgument(0);
+            digest.setId(digestId);
+            return digest;
+        });
+
+        assertEquals(3, assembler.coalesceDueDigests(NotificationChannel.EMAIL));
+
+        ArgumentCaptor<NotificationQueue> digest = ArgumentCaptor.forClass(NotificationQueue.class);
+        verify(queueRepository).save(digest.capture());
+        assertEquals(user, digest.getValue().getUser());
+        assertEquals(NotificationPriority.HIGH, digest.getValue().getPriority());
+        assertEquals("Your daily digest: 2 notifications", digest.getValue().getTitle());
+        assertTrue(digest.getValue().getMessage().contains("- Title"));
+        assertNull(digest.getValue().getDigestFrequency());
+
+        assertEquals(QueueStatus.COALESCED, first.getStatus());
+        assertEquals(digestId, second.getCoalescedInto());
+        assertEquals(QueueStatus.PENDING, single.getStatus());
+        assertNull(single.getDigestFrequency());
+        verify(eventPublisher).publishEvent(NotificationCountChangedEvent.pending(user.getId(), -1));
+    }
+
+    @Test
+    void shouldLeaveLastUserOfFullPageForNextRun() {
+        digestProperties.setCoalesceBatchSize(3);
+        UserEntity user = user();
+        UserEntity split = user();
+        NotificationQueue first = digestItem(user, NotificationPriority.LOW);
+        NotificationQueue second = digestItem(user, NotificationPriority.LOW);
+        NotificationQueue partial = digestItem(split, NotificationPriority.LOW);
+        when(queueRepository.lockDueDigestItems(any(), any(), any(), any()))
+                .thenReturn(List.of(first, second, partial));
+        when(queueRepository.save(any(NotificationQueue.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertEquals(2, assembler.coalesceDueDigests(NotificationChannel.EMAIL));
+        assertEquals(NotificationFrequency.DAILY_DIGEST, partial.getDigestFrequency());
+    }
+
+    @Test
+    void shouldKeepEachDigestFrequencyInItsOwnDigest() {
+        UserEntity user = user();
+        NotificationQueue daily = digestItem(user, NotificationPriority.LOW);
+        NotificationQueue otherDaily = digestItem(user, NotificationPriority.LOW);
+        NotificationQueue weekly = digestItem(user, NotificationPriority.LOW);
+        NotificationQueue otherWeekly = digestItem(user, NotificationPriority.LOW);
+        weekly.setDigestFrequency(NotificationFrequency.WEEKLY_DIGEST);
+        otherWeekly.setDigestFrequency(NotificationFrequency.WEEKLY_DIGEST);
+        when(queueRepository.lockDueDigestItems(any(), any(), any(), any()))
+                .thenReturn(List.of(daily, otherDaily, weekly, otherWeekly));
+        when(queueRepository.save(any(NotificationQueue.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertEquals(4, assembler.coalesceDueDigests(NotificationChannel.EMAIL));
+
+        ArgumentCaptor<NotificationQueue> digests = ArgumentCaptor.forClass(NotificationQueue.class);
+        verify(queueRepository, times(2)).save(digests.capture());
+        assertEquals(
+                List.of("Your daily digest: 2 notifications", "Your weekly digest: 2 notifications"),
+                digests.getAllValues().stream().map(NotificationQueue::getTitle).toList());
+    }
+
+    private static UserEntity user() {
+        return UserEntity.builder().id(UUID.randomUUID()).email("user@test.com").build();
+    }
+
+    private static NotificationQueue digestItem(UserEntity user, NotificationPriority priority) {
+        return NotificationQueue.builder()
+                .id(UUID.randomUUID())
+                .user(user)
+                .notificationType(NotificationType.GENERAL)
+                .title("Title")
+                .message("Message")
+                .priority(priority)
+                .channel(NotificationChannel.EMAIL)
+                .digestFrequency(NotificationFrequency.DAILY_DIGEST)
+                .scheduledFor(Instant.now().minusSeconds(1))
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.github.phanikb.rootbytes.dto.v1.response.QueueLaneResponse;
+import com.github.phanikb.rootbytes.enums.notification.NotificationChannel;
+import com.github.phanikb.rootbytes.enums.notification.NotificationPriority;
+import com.github.phanikb.rootbytes.enums.notification.QueueStatus;
+import com.github.phanikb.rootbytes.repository.NotificationQueueRepository.StatusChannelCount;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NotificationQueueMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private NotificationQueueMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new NotificationQueueMetrics(registry);
+    }
+
+    @Test
+    void shouldResetDepthsMissingFromLatestSnapshot() {
+        metrics.updateDepths(List.of(count(QueueStatus.PENDING, NotificationChannel.EMAIL, 7)));
+        metrics.updateDepths(List.of(count(QueueStatus.FAILED, NotificationChannel.SMS, 2)));
+
+        assertEquals(0, depth("pending", "email"));
+        assertEquals(2, depth("failed", "sms"));
+    }
+
+    @Test
+    void shouldExposeLaneDepthAndAge() {
+        metrics.updateLanes(List.of(QueueLaneResponse.builder()
+                .priority(NotificationPriority.LOW)
+                .weight(1)
+                .depth(12)
+                .oldestAgeSeconds(90)
+                .build()));
+
+        assertEquals(
+                12,
+                registry.get("rootbytes.notification.queue.lane.depth")
+                        .tag("priority", "low")
+                        .gauge()
+                        .value());
+        assertEquals(
+                90,
+                registry.get("rootbytes.notification.queue.lane.oldest.age")
+                        .tag("priority", "low")
+                        .gauge()
+                        .value());
+    }
+
+    @Test
+    void shouldRecordEnqueueToSentLatencyAndAttempts() {
+        Instant created = Instant.parse("2025-01-01T00:00:00Z");
+
+        metrics.recordSent(NotificationChannel.EMAIL, created, created.plusSeconds(30), 2);
+
+        Timer latency = registry.get("rootbytes.notification.queue.delivery.latency")
+                .tag("channel", "email")
+                .timer();
+        assertEquals(1, latency.count());
+        assertEquals(30, latency.totalTime(TimeUnit.SECONDS));
+        assertEquals(
+                2,
+                registry.get("rootbytes.notification.queue.attempts")
+                        .tag("channel", "email")
+                        .summary()
+                        .totalAmount());
+    }
+
+    private double depth(String status, String channel) {
+        return registry.get("rootbytes.notification.queue.depth")
+                .tag("status", status)
+                .tag("channel", channel)
+                .gauge()
+                .value();
+    }
+
+    private static StatusChannelCount count(QueueStatus status, NotificationChannel channel, long value) {
+        StatusChannelCount count = mock(StatusChannelCount.class);
+        when(count.getStatus()).thenReturn(status);
+        when(count.getChannel()).thenReturn(channel);
+        when(count.getCount()).thenReturn(value);
+        return count;
+    }
+}
@@ -0,0 +1,498 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.github.phanikb.rootbytes.config.NotificationEmailProperties;
+import com.github.phanikb.rootbytes.config.NotificationQueueProperties;
+import com.github.phanikb.rootbytes.config.NotificationSmsProperties;
+import com.github.phanikb.rootbytes.config.SchedulerLockProperties;
+import com.github.phanikb.rootbytes.dto.v1.request.NotificationQueueRequest;
+import com.github.phanikb.rootbytes.dto.v1.response.NotificationQueueResponse;
+import com.github.phanikb.rootbytes.entity.NotificationQueue;
+import com.github.phanikb.rootbytes.entity.UserEntity;
+import com.github.phanikb.rootbytes.enums.notification.NotificationChannel;
+import com.github.phanikb.rootbytes.enums.notification.NotificationPriority;
+import com.github.phanikb.rootbytes.enums.notification.NotificationType;
+import com.github.phanikb.rootbytes.enums.notification.QueueStatus;
+import com.github.phanikb.rootbytes.exception.NotificationQueueDisabledException;
+import com.github.phanikb.rootbytes.mapper.NotificationQueueMapper;
+import com.github.phanikb.rootbytes.repository.NotificationQueueRepository;
+import com.github.phanikb.rootbytes.repository.UserCount;
+import com.github.phanikb.rootbytes.repository.UserRepository;
+import com.github.phanikb.rootbytes.service.delivery.DeliveryResult;
+import com.github.phanikb.rootbytes.util.RbStringUtil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationQueueServiceTest {
+
+    private static final String LEASE_OWNER = "node-1#0";
+
+    @Mock
+    private NotificationQueueRepository queueRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private NotificationQueueProperties queueProperties;
+    private SchedulerLockProperties lockProperties;
+    private NotificationQuotaCounters quotaCounters;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationQueueService service;
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        queueProperties = new NotificationQueueProperties();
+        lockProperties = new SchedulerLockProperties();
+        quotaCounters = new NotificationQuotaCounters(queueRepository, queueProperties, lockProperties);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new NotificationQueueService(
+                queueRepository,
+                userRepository,
+                new NotificationQueueMapper(),
+                queueProperties,
+                eventPublisher,
+                new NotificationDedupFilter(queueProperties),
+                quotaCounters,
+                new NotificationQueueMetrics(meterRegistry),
+                emailProperties(),
+                new NotificationSmsProperties());
+        user = UserEntity.builder()
+                .id(UUID.randomUUID())
+                .email("user@test.com")
+                .lastName("User")
+                .build();
+    }
+
+    @Test
+    void shouldClaimDueNotificationsWithLease() {
+        NotificationQueue queue = pendingQueue();
+        when(queueRepository.lockDueNotifications(
+                        eq(QueueStatus.PENDING),
+                        eq(NotificationPriority.MEDIUM),
+                        any(Instant.class),
+                        eq(NotificationChannel.EMAIL),
+                        any()))
+                .thenReturn(List.of(queue));
+        when(userRepository.findAllById(Set.of(user.getId()))).thenReturn(List.of(user));
+
+        var claimed = service.claimDueNotifications(LEASE_OWNER, NotificationChannel.EMAIL);
+
+        assertEquals(1, claimed.size());
+        assertEquals("user@test.com", claimed.getFirst().recipient());
+        assertEquals(QueueStatus.PROCESSING, queue.getStatus());
+        assertEquals(LEASE_OWNER, queue.getLeaseOwner());
+        assertNotNull(queue.getLeaseExpiresAt());
+        assertTrue(queue.getLeaseExpiresAt().isAfter(Instant.now()));
+        verify(queueRepository).saveAll(List.of(queue));
+    }
+
+    @Test
+    void shouldGiveEachLaneItsWeightedShareBeforeFillingInPriorityOrder() {
+        queueProperties.setBatchSize(15);
+        List<NotificationQueue> critical = pendingQueues(20);
+        List<NotificationQueue> low = pendingQueues(20);
+        when(queueRepository.lockDueNotifications(any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    NotificationPriority priority = invocation.getArgument(1);
+                    int size = invocation.<Pageable>getArgument(4).getPageSize();
+                    List<NotificationQueue> lane = priority == NotificationPriority.CRITICAL
+                            ? critical
+                            : priority == NotificationPriority.LOW ? low : List.of();
+                    return lane.stream()
+                            .filter(queue -> queue.getStatus() == QueueStatus.PENDING)
+                            .limit(size)
+                            .toList();
+                });
+        when(userRepository.findAllById(any())).thenReturn(List.of(user));
+
+        var claimed = service.claimDueNotifications(LEASE_OWNER, NotificationChannel.EMAIL);
+
+        assertEquals(15, claimed.size());
+        assertEquals(1, low.stream().filter(queue -> queue.getStatus() == QueueStatus.PROCESSING).count());
+        assertEquals(14, critical.stream().filter(queue -> queue.getStatus() == QueueStatus.PROCESSING).count());
+    }
+
+    @Test
+    void shouldNotClaimWhenQueueDisabled() {
+        queueProperties.setEnabled(false);
+
+        var claimed = service.claimDueNotifications(LEASE_OWNER, NotificationChannel.EMAIL);
+
+        assertTrue(claimed.isEmpty());
+        verifyNoInteractions(queueRepository);
+    }
+
+    @Test
+    void shouldRecordDeliveryResultsForOwnedNotifications() {
+        NotificationQueue sent = leasedQueue();
+        NotificationQueue failed = leasedQueue();
+        List<DeliveryResult> results = List.of(
+                DeliveryResult.success(sent.getId()),
+                DeliveryResult.failure(failed.getId(), "550 mailbox unavailable"),
+                DeliveryResult.success(UUID.randomUUID()));
+        when(queueRepository.findByIdInAndStatusAndLeaseOwner(any(), eq(QueueStatus.PROCESSING), eq(LEASE_OWNER)))
+                .thenReturn(List.of(sent, failed));
+
+        var recorded = service.recordDeliveryResults(LEASE_OWNER, results);
+
+        assertEquals(2, recorded.size());
+        assertEquals(QueueStatus.SENT, sent.getStatus());
+        assertEquals(1, sent.getAttempts());
+        assertNotNull(sent.getProcessedAt());
+        assertNull(sent.getLeaseOwner());
+        assertNull(sent.getLeaseExpiresAt());
+        assertEquals(QueueStatus.FAILED, failed.getStatus());
+        assertEquals("550 mailbox unavailable", failed.getErrorMessage());
+        assertNotNull(failed.getLastAttemptAt());
+        assertNotNull(failed.getNextAttemptAt());
+        assertTrue(failed.getNextAttemptAt().isAfter(failed.getLastAttemptAt()));
+        assertNull(failed.getProcessedAt());
+        assertEquals(
+                1,
+                meterRegistry
+                        .get("rootbytes.notification.queue.retries")
+                        .tag("channel", "email")
+                        .counter()
+                        .count());
+    }
+
+    @Test
+    void shouldReturnDeferredNotificationsToQueueWithoutCountingAttempt() {
+        NotificationQueue deferred = leasedQueue();
+        when(queueRepository.findByIdInAndStatusAndLeaseOwner(any(), eq(QueueStatus.PROCESSING), eq(LEASE_OWNER)))
+                .thenReturn(List.of(deferred));
+
+        service.recordDeliveryResults(LEASE_OWNER, List.of(DeliveryResult.deferred(deferred.getId())));
+
+        assertEquals(QueueStatus.PENDING, deferred.getStatus());
+        assertEquals(0, deferred.getAttempts());
+        assertNull(deferred.getLeaseOwner());
+        assertTrue(deferred.getScheduledFor().isAfter(Instant.now()));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void shouldDeadLetterExhaustedNotifications() {
+        NotificationQueue exhausted = leasedQueue();
+        exhausted.setAttempts(2);
+        exhausted.setMaxAttempts(3);
+        exhausted.setDedupKey("reset-1");
+        when(queueRepository.findByIdInAndStatusAndLeaseOwner(any(), eq(QueueStatus.PROCESSING), eq(LEASE_OWNER)))
+                .thenReturn(List.of(exhausted));
+
+        service.recordDeliveryResults(LEASE_OWNER, List.of(DeliveryResult.failure(exhausted.getId(), "timeout")));
+
+        assertEquals(QueueStatus.DEAD_LETTER, exhausted.getStatus());
+        assertEquals(3, exhausted.getAttempts());
+        assertNull(exhausted.getNextAttemptAt());
+        assertNull(exhausted.getDedupKey());
+        assertEquals(
+                1,
+                meterRegistry
+                        .get("rootbytes.notification.queue.dead.letters")
+                        .tag("channel", "email")
+                        .counter()
+                        .count());
+    }
+
+    @Test
+    void shouldRecordDeliveryMetricsOnlyAfterCommit() {
+        NotificationQueue failed = leasedQueue();
+        when(queueRepository.findByIdInAndStatusAndLeaseOwner(any(), eq(QueueStatus.PROCESSING), eq(LEASE_OWNER)))
+                .thenReturn(List.of(failed));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.recordDeliveryResults(LEASE_OWNER, List.of(DeliveryResult.failure(failed.getId(), "timeout")));
+
+            assertEquals(0, retryCount());
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            assertEquals(0, retryCount());
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            assertEquals(1, retryCount());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldBackOffExponentiallyWithinJitterAndCap() {
+        queueProperties.setRetryIntervalMinutes(5);
+        queueProperties.setRetryBackoffMultiplier(2);
+        queueProperties.setRetryMaxIntervalMinutes(30);
+        queueProperties.setRetryJitterPercent(50);
+
+        for (int i = 0; i < 20; i++) {
+            long first = service.retryBackoff(1).toMinutes();
+            long third = service.retryBackoff(3).toMinutes();
+            long capped = service.retryBackoff(8).toMinutes();
+            assertTrue(first >= 2 && first <= 5, "first retry " + first);
+            assertTrue(third >= 10 && third <= 20, "third retry " + third);
+            assertTrue(capped >= 15 && capped <= 30, "capped retry " + capped);
+        }
+    }
+
+    @Test
+    void shouldRequeueRetryDueNotifications() {
+        NotificationQueue failed = pendingQueue();
+        failed.setStatus(QueueStatus.FAILED);
+        failed.setNextAttemptAt(Instant.now().minusSeconds(5));
+        failed.setErrorMessage("timeout");
+        when(queueRepository.findRetryDue(eq(QueueStatus.FAILED), any(Instant.class), any()))
+                .thenReturn(List.of(failed));
+
+        assertEquals(1, service.retryFailedNotifications());
+        assertEquals(QueueStatus.PENDING, failed.getStatus());
+        assertNull(failed.getNextAttemptAt());
+        assertNull(failed.getErrorMessage());
+        verify(queueRepository).saveAll(List.of(failed));
+    }
+
+    @Test
+    void shouldReclaimExpiredLeases() {
+        when(queueRepository.releaseExpiredLeases(
+                        eq(QueueStatus.PROCESSING), eq(QueueStatus.PENDING), any(Instant.class)))
+                .thenReturn(3);
+
+        assertEquals(3, service.reclaimExpiredLeases());
+    }
+
+    @Test
+    void shouldReleaseLeasesHeldByStoppingWorkers() {
+        List<String> owners = List.of(LEASE_OWNER, "node-1#1");
+        when(queueRepository.releaseLeasesHeldBy(owners, QueueStatus.PROCESSING, QueueStatus.PENDING))
+                .thenReturn(4);
+
+        assertEquals(4, service.releaseLeases(owners));
+        assertEquals(0, service.releaseLeases(List.of()));
+    }
+
+    @Test
+    void shouldDeadLetterUnrecordableRowAndReleaseItsQuota() {
+        UUID queueId = UUID.randomUUID();
+        when(queueRepository.deadLetterLeased(
+                        queueId, LEASE_OWNER, QueueStatus.PROCESSING, QueueStatus.DEAD_LETTER, "unrecordable"))
+                .thenReturn(1);
+        when(queueRepository.findUserIdById(queueId)).thenReturn(Optional.of(user.getId()));
+
+        assertTrue(service.deadLetterUnrecordable(LEASE_OWNER, queueId, "unrecordable"));
+
+        verify(eventPublisher).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void shouldEnqueueAllWithinAggregateQuota() {
+        queueProperties.setMaxPerUser(2);
+        UUID otherUserId = UUID.randomUUID();
+        UserCount active = mock(UserCount.class);
+        when(active.getUserId()).thenReturn(user.getId());
+        when(active.getCount()).thenReturn(1L);
+        when(queueRepository.countByUserIdInAndStatusIn(any(), any())).thenReturn(List.of(active));
+        when(userRepository.getReferenceById(any())).thenReturn(user);
+        when(queueRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        int queued = service.enqueueAll(List.of(
+                queueRequest(user.getId()),
+                queueRequest(user.getId()),
+                queueRequest(otherUserId),
+                queueRequest(otherUserId)));
+
+        assertEquals(3, queued);
+        verify(queueRepository).countByUserIdInAndStatusIn(any(), any());
+    }
+
+    @Test
+    void shouldConfirmCachedCountAtLimitAgainstDatabase() {
+        queueProperties.setMaxPerUser(2);
+        lockProperties.setEnabled(false);
+        UserCount stale = mock(UserCount.class);
+        when(stale.getUserId()).thenReturn(user.getId());
+        when(stale.getCount()).thenReturn(2L);
+        when(queueRepository.countActiveByUser(any())).thenReturn(List.of(stale));
+        quotaCounters.rebuild();
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(queueRepository.countByUserIdAndStatusIn(eq(user.getId()), any())).thenReturn(0L);
+        when(queueRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertNotNull(service.enqueue(queueRequest(user.getId())));
+        verify(queueRepository).countByUserIdAndStatusIn(eq(user.getId()), any());
+    }
+
+    @Test
+    void shouldRejectNotificationForDisabledChannel() {
+        NotificationQueueRequest request = queueRequest(user.getId());
+        request.setChannel(NotificationChannel.SMS);
+
+        assertThrows(NotificationQueueDisabledException.class, () -> service.enqueue(request));
+
+        verifyNoInteractions(queueRepository);
+        assertEquals(1, channelDisabledCount(NotificationChannel.SMS));
+    }
+
+    @Test
+    void shouldSkipDisabledChannelsInBatch() {
+        NotificationQueueRequest sms = queueRequest(user.getId());
+        sms.setChannel(NotificationChannel.SMS);
+        when(userRepository.getReferenceById(any())).thenReturn(user);
+        when(queueRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertEquals(1, service.enqueueAll(List.of(queueRequest(user.getId()), sms)));
+
+        assertEquals(1, channelDisabledCount(NotificationChannel.SMS));
+    }
+
+    @Test
+    void shouldReturnExistingRowForDuplicateDedupKey() {
+        NotificationQueue existing = pendingQueue();
+        existing.setDedupKey("reset-1");
+        NotificationQueueRequest request = queueRequest(user.getId());
+        request.setDedupKey("reset-1");
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(queueRepository.insertIgnoringDuplicate(any())).thenReturn(0);
+        when(queueRepository.findByUserIdAndDedupKey(user.getId(), "reset-1")).thenReturn(Optional.of(existing));
+
+        NotificationQueueResponse response = service.enqueue(request);
+
+        assertEquals(existing.getId(), response.getId());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void shouldSkipUserAndQuotaLookupsForRecentlySeenDedupKey() {
+        NotificationQueueRequest request = queueRequest(user.getId());
+        request.setDedupKey("reset-2");
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(queueRepository.insertIgnoringDuplicate(any())).thenReturn(1);
+
+        NotificationQueueResponse first = service.enqueue(request);
+        NotificationQueue stored = pendingQueue();
+        stored.setId(first.getId());
+        when(queueRepository.findByUserIdAndDedupKey(user.getId(), "reset-2")).thenReturn(Optional.of(stored));
+
+        assertEquals(first.getId(), service.enqueue(request).getId());
+        verify(userRepository, times(1)).findById(user.getId());
+        verify(queueRepository, times(1)).countByUserIdAndStatusIn(any(), any());
+        verify(queueRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldDropDuplicateDedupKeysFromBatch() {
+        NotificationQueueRepository.DedupKeyRow queued = mock(NotificationQueueRepository.DedupKeyRow.class);
+        when(queued.getUserId()).thenReturn(user.getId());
+        when(queued.getDedupKey()).thenReturn("already-queued");
+        when(queueRepository.findDedupKeys(any(), any())).thenReturn(List.of(queued));
+        when(userRepository.getReferenceById(any())).thenReturn(user);
+        when(queueRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        NotificationQueueRequest alreadyQueued = queueRequest(user.getId());
+        alreadyQueued.setDedupKey("already-queued");
+        NotificationQueueRequest fresh = queueRequest(user.getId());
+        fresh.setDedupKey("fresh");
+        NotificationQueueRequest repeated = queueRequest(user.getId());
+        repeated.setDedupKey("fresh");
+
+        assertEquals(2, service.enqueueAll(List.of(alreadyQueued, fresh, repeated, queueRequest(user.getId()))));
+    }
+
+    private double channelDisabledCount(NotificationChannel channel) {
+        return meterRegistry
+                .get("rootbytes.notification.queue.channel.disabled")
+                .tag("channel", RbStringUtil.toLowerCase(channel.name()))
+                .counter()
+                .count();
+    }
+
+    private static NotificationEmailProperties emailProperties() {
+        NotificationEmailProperties emailProperties = new NotificationEmailProperties();
+        emailProperties.setEnabled(true);
+        return emailProperties;
+    }
+
+    private NotificationQueueRequest queueRequest(UUID userId) {
+        return NotificationQueueRequest.builder()
+                .userId(userId)
+                .notificationType(NotificationType.GENERAL)
+                .title("Title")
+                .message("Message")
+                .channel(NotificationChannel.EMAIL)
+                .build();
+    }
+
+    private List<NotificationQueue> pendingQueues(int count) {
+        List<NotificationQueue> queues = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            queues.add(pendingQueue());
+        }
+        return queues;
+    }
+
+    private NotificationQueue leasedQueue() {
+        NotificationQueue queue = pendingQueue();
+        queue.setStatus(QueueStatus.PROCESSING);
+        queue.setLeaseOwner(LEASE_OWNER);
+        queue.setLeaseExpiresAt(Instant.now().plusSeconds(60));
+        return queue;
+    }
+
+    private NotificationQueue pendingQueue() {
+        return NotificationQueue.builder()
+                .id(UUID.randomUUID())
+                .user(user)
+                .notificationType(NotificationType.GENERAL)
+                .title("Title")
+                .message("Message")
+                .channel(NotificationChannel.EMAIL)
+                .scheduledFor(Instant.now().minusSeconds(1))
+                .build();
+    }
+
+    private double retryCount() {
+        return meterRegistry
+                .get("rootbytes.notification.queue.retries")
+                .tag("channel", "email")
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.github.phanikb.rootbytes.config.NotificationQueueProperties;
+import com.github.phanikb.rootbytes.config.SchedulerLockProperties;
+import com.github.phanikb.rootbytes.event.NotificationCountChangedEvent;
+import com.github.phanikb.rootbytes.repository.NotificationQueueRepository;
+import com.github.phanikb.rootbytes.repository.UserCount;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationQuotaCountersTest {
+
+    @Mock
+    private NotificationQueueRepository queueRepository;
+
+    private SchedulerLockProperties lockProperties;
+    private NotificationQuotaCounters counters;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        lockProperties = new SchedulerLockProperties();
+        lockProperties.setEnabled(false);
+        counters = new NotificationQuotaCounters(queueRepository, new NotificationQueueProperties(), lockProperties);
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void shouldNotBeReadyUntilRebuilt() {
+        counters.onCountChanged(NotificationCountChangedEvent.pending(userId, 1));
+
+        assertFalse(counters.isReady());
+        assertEquals(0, counters.activeCount(userId));
+    }
+
+    @Test
+    void shouldApplyPendingDeltasAfterRebuild() {
+        List<UserCount> active = List.of(userCount(userId, 3));
+        when(queueRepository.countActiveByUser(any())).thenReturn(active);
+        counters.rebuild();
+
+        counters.onCountChanged(NotificationCountChangedEvent.pending(userId, 2));
+        counters.onCountChanged(NotificationCountChangedEvent.pending(userId, -1));
+        counters.onCountChanged(NotificationCountChangedEvent.unread(userId, 5));
+
+        assertTrue(counters.isReady());
+        assertEquals(4, counters.activeCount(userId));
+    }
+
+    @Test
+    void shouldStayUnusedWhenSchedulerLockingMeansSeveralNodes() {
+        lockProperties.setEnabled(true);
+        when(queueRepository.countActiveByUser(any())).thenReturn(List.of(userCount(userId, 3)));
+        counters.rebuild();
+
+        assertFalse(counters.isEnabled());
+        assertFalse(counters.isReady());
+    }
+
+    @Test
+    void shouldReportAndCorrectDrift() {
+        UUID otherUserId = UUID.randomUUID();
+        List<UserCount> before = List.of(userCount(userId, 3));
+        List<UserCount> after = List.of(userCount(userId, 1), userCount(otherUserId, 2));
+        when(queueRepository.countActiveByUser(any())).thenReturn(before).thenReturn(after);
+        counters.rebuild();
+
+        assertEquals(2, counters.rebuild());
+        assertEquals(1, counters.activeCount(userId));
+        assertEquals(2, counters.activeCount(otherUserId));
+    }
+
+    private static UserCount userCount(UUID userId, long count) {
+        UserCount userCount = mock(UserCount.class);
+        when(userCount.getUserId()).thenReturn(userId);
+        when(userCount.getCount()).thenReturn(count);
+        return userCount;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.phanikb.rootbytes.config.NotificationDigestProperties;
+import com.github.phanikb.rootbytes.entity.NotificationPreference;
+import com.github.phanikb.rootbytes.enums.notification.NotificationFrequency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NotificationSchedulingServiceTest {
+
+    private NotificationDigestProperties digestProperties;
+    private NotificationSchedulingService service;
+
+    @BeforeEach
+    void setUp() {
+        digestProperties = new NotificationDigestProperties();
+        digestProperties.setEnabled(true);
+        digestProperties.setDailyHour(6);
+        digestProperties.setWindowMinutes(120);
+        service = new NotificationSchedulingService(digestProperties);
+    }
+
+    @Test
+    void shouldSpreadDailyDigestAcrossWindowDeterministically() {
+        Set<Long> offsets = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            UUID userId = UUID.randomUUID();
+            long offset = service.windowOffsetSeconds(userId);
+            assertTrue(offset >= 0 && offset < 120 * 60);
+            assertEquals(offset, service.windowOffsetSeconds(userId));
+            offsets.add(offset / 600);
+        }
+        assertEquals(12, offsets.size());
+
+        Instant scheduled = service.calculateScheduledTime(preference(NotificationFrequency.DAILY_DIGEST));
+        LocalTime time = scheduled.atZone(ZoneOffset.UTC).toLocalTime();
+        assertTrue(scheduled.isAfter(Instant.now()));
+        assertFalse(time.isBefore(LocalTime.of(6, 0)));
+        assertTrue(time.isBefore(LocalTime.of(8, 0)));
+    }
+
+    @Test
+    void shouldMoveDigestPastQuietHours() {
+        NotificationPreference pref = preference(NotificationFrequency.DAILY_DIGEST);
+        pref.setQuietHoursStart(LocalTime.of(22, 0));
+        pref.setQuietHoursEnd(LocalTime.of(9, 0));
+
+        LocalTime time = service.calculateScheduledTime(pref).atZone(ZoneOffset.UTC).toLocalTime();
+
+        assertFalse(time.isBefore(LocalTime.of(9, 0)));
+        assertTrue(time.isBefore(LocalTime.of(11, 0)));
+    }
+
+    @Test
+    void shouldDetectQuietHoursAcrossMidnight() {
+        LocalTime start = LocalTime.of(22, 0);
+        LocalTime end = LocalTime.of(7, 0);
+
+        assertTrue(NotificationSchedulingService.isQuiet(LocalTime.of(23, 30), start, end));
+        assertTrue(NotificationSchedulingService.isQuiet(LocalTime.of(6, 59), start, end));
+        assertFalse(NotificationSchedulingService.isQuiet(LocalTime.of(7, 0), start, end));
+        assertFalse(NotificationSchedulingService.isQuiet(LocalTime.NOON, start, start));
+    }
+
+    @Test
+    void shouldSendInstantlyWhenDigestDisabled() {
+        digestProperties.setEnabled(false);
+        Instant before = Instant.now();
+
+        Instant scheduled = service.calculateScheduledTime(preference(NotificationFrequency.WEEKLY_DIGEST));
+
+        assertFalse(scheduled.isBefore(before));
+        assertTrue(scheduled.isBefore(before.plusSeconds(5)));
+    }
+
+    private static NotificationPreference preference(NotificationFrequency frequency) {
+        return NotificationPreference.builder()
+                .userId(UUID.randomUUID())
+                .frequency(frequency)
+                .build();
+    }
+}
@@ -6,8 +6,178 @@
 
 package com.github.phanikb.rootbytes.service;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.github.phanikb.rootbytes.config.NotificationArchiveProperties;
+import com.github.phanikb.rootbytes.dto.v1.request.BroadcastRequest;
+import com.github.phanikb.rootbytes.dto.v1.response.BroadcastResponse;
+import com.github.phanikb.rootbytes.entity.Notification;
+import com.github.phanikb.rootbytes.entity.NotificationMetadata;
+import com.github.phanikb.rootbytes.entity.NotificationPreference;
+import com.github.phanikb.rootbytes.entity.UserEntity;
+import com.github.phanikb.rootbytes.enums.notification.NotificationMetadataEntityType;
+import com.github.phanikb.rootbytes.enums.notification.NotificationType;
+import com.github.phanikb.rootbytes.event.NotificationCountChangedEvent;
+import com.github.phanikb.rootbytes.repository.NotificationMetadataRepository;
+import com.github.phanikb.rootbytes.repository.NotificationRepository;
+import com.github.phanikb.rootbytes.repository.UserRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
-public class NotificationServiceTest {}
+public class NotificationServiceTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationMetadataRepository metadataRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private NotificationPreferenceService preferenceService;
+
+    @Mock
+    private ExternalNotificationQueueingService externalQueueingService;
+
+    @Mock
+    private NotificationMaintenanceService maintenanceService;
+
+    @Spy
+    private NotificationArchiveProperties notificationArchiveProperties = new NotificationArchiveProperties();
+
+    @Mock
+    private NotificationCountCache countCache;
+
+    @Mock
+    private NotificationCountStreamService countStreamService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private NotificationService notificationService;
+
+    private UserEntity alice;
+    private UserEntity bob;
+    private UserEntity carol;
+
+    @BeforeEach
+    void setUp() {
+        alice = user("Alice");
+        bob = user("Bob");
+        carol = user("Carol");
+        when(notificationRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void shouldSkipOptedOutAndUnknownRecipientsAndBatchMetadata() {
+        UUID unknown = UUID.randomUUID();
+        Set<UUID> userIds = new LinkedHashSet<>(List.of(alice.getId(), bob.getId(), carol.getId(), unknown));
+        NotificationPreference optedOut = preference(bob);
+        Map<UUID, NotificationPreference> preferences = Map.of(
+                alice.getId(), preference(alice), bob.getId(), optedOut, carol.getId(), preference(carol));
+        when(userRepository.findAllById(userIds)).thenReturn(List.of(alice, bob, carol));
+        when(preferenceService.getOrCreatePreferences(List.of(alice, bob, carol))).thenReturn(preferences);
+        when(preferenceService.shouldNotify(any(), eq(NotificationType.GENERAL)))
+                .thenAnswer(invocation -> invocation.getArgument(0) != optedOut);
+        UUID recipeId = UUID.randomUUID();
+
+        BroadcastResponse response = notificationService.createNotifications(BroadcastRequest.builder()
+                .userIds(userIds)
+                .type(NotificationType.GENERAL)
+                .title("New review")
+                .message("Your recipe received a new review.")
+                .entityType(NotificationMetadataEntityType.RECIPE)
+                .entityId(recipeId)
+                .actionUrl("/recipes/" + recipeId)
+                .build());
+
+        assertEquals(4, response.getRequested());
+        assertEquals(1, response.getUnknownUsers());
+        assertEquals(1, response.getOptedOut());
+        assertEquals(2, response.getCreated());
+        assertEquals(0, response.getQueued());
+        assertEquals(0, response.getOverQuota());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Notification>> notifications = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository).saveAll(notifications.capture());
+        assertEquals(
+                List.of(alice, carol),
+                notifications.getValue().stream().map(Notification::getUser).toList());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationMetadata>> metadata = ArgumentCaptor.forClass(List.class);
+        verify(metadataRepository).saveAll(metadata.capture());
+        assertEquals(2, metadata.getValue().size());
+        metadata.getValue().forEach(row -> assertEquals(recipeId, row.getEntityId()));
+        verify(metadataRepository, never()).save(any());
+        verify(eventPublisher, times(2)).publishEvent(any(NotificationCountChangedEvent.class));
+    }
+
+    @Test
+    void shouldReportQueuedAndOverQuotaCountsForExternalType() {
+        Set<UUID> userIds = new LinkedHashSet<>(List.of(alice.getId(), bob.getId(), carol.getId()));
+        Map<UUID, NotificationPreference> preferences = Map.of(
+                alice.getId(), preference(alice), bob.getId(), preference(bob), carol.getId(), preference(carol));
+        when(userRepository.findAllById(userIds)).thenReturn(List.of(alice, bob, carol));
+        when(preferenceService.getOrCreatePreferences(List.of(alice, bob, carol))).thenReturn(preferences);
+        when(preferenceService.shouldNotify(any(), eq(NotificationType.SECURITY_ALERT)))
+                .thenReturn(true);
+        when(externalQueueingService.queueExternalNotifications(anyList(), eq(preferences)))
+                .thenReturn(2);
+        when(externalQueueingService.isQueueEnabled()).thenReturn(true);
+
+        BroadcastResponse response = notificationService.createNotifications(BroadcastRequest.builder()
+                .userIds(userIds)
+                .type(NotificationType.SECURITY_ALERT)
+                .title("New sign-in")
+                .message("A new device signed in to your account.")
+                .build());
+
+        assertEquals(3, response.getRequested());
+        assertEquals(0, response.getUnknownUsers());
+        assertEquals(0, response.getOptedOut());
+        assertEquals(3, response.getCreated());
+        assertEquals(2, response.getQueued());
+        assertEquals(1, response.getOverQuota());
+        verifyNoInteractions(metadataRepository);
+    }
+
+    private static UserEntity user(String lastName) {
+        return UserEntity.builder()
+                .id(UUID.randomUUID())
+                .email(lastName + "@example.com")
+                .lastName(lastName)
+                .build();
+    }
+
+    private static NotificationPreference preference(UserEntity user) {
+        return NotificationPreference.builder().userId(user.getId()).user(user).build();
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.github.phanikb.rootbytes.config.OutboxProperties;
+import com.github.phanikb.rootbytes.dto.v1.request.BroadcastRequest;
+import com.github.phanikb.rootbytes.entity.OutboxEvent;
+import com.github.phanikb.rootbytes.entity.Recipe;
+import com.github.phanikb.rootbytes.entity.UserEntity;
+import com.github.phanikb.rootbytes.enums.OutboxEventType;
+import com.github.phanikb.rootbytes.enums.notification.NotificationMetadataEntityType;
+import com.github.phanikb.rootbytes.repository.OutboxEventRepository;
+import com.github.phanikb.rootbytes.repository.RecipeRepository;
+import com.github.phanikb.rootbytes.repository.ReviewRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayServiceTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxProperties outboxProperties;
+    private OutboxRelayService relayService;
+    private UserEntity author;
+    private Recipe recipe;
+
+    @BeforeEach
+    void setUp() {
+        outboxProperties = new OutboxProperties();
+        relayService = new OutboxRelayService(
+                outboxEventRepository,
+                recipeRepository,
+                reviewRepository,
+                notificationService,
+                outboxProperties,
+                transactionManager);
+        author = UserEntity.builder().id(UUID.randomUUID()).lastName("Author").build();
+        recipe = Recipe.builder().id(UUID.randomUUID()).author(author).title("Soup").build();
+    }
+
+    @Test
+    void shouldNotifyAuthorOfReviewAndMarkProcessedInTheSameTransaction() {
+        OutboxEvent event = event(OutboxEventType.REVIEW_SUBMITTED, UUID.randomUUID(), recipe.getId());
+        when(outboxEventRepository.findUnprocessed(any())).thenReturn(List.of(event));
+        when(outboxEventRepository.lockUnprocessedById(event.getId())).thenReturn(Optional.of(event));
+        when(recipeRepository.findAllById(Set.of(recipe.getId()))).thenReturn(List.of(recipe));
+
+        assertEquals(1, relayService.relayBatch());
+
+        ArgumentCaptor<BroadcastRequest> captor = ArgumentCaptor.forClass(BroadcastRequest.class);
+        InOrder relay = inOrder(notificationService, outboxEventRepository, transactionManager);
+        relay.verify(notificationService).createNotifications(captor.capture());
+        relay.verify(outboxEventRepository).save(event);
+        relay.verify(transactionManager).commit(any());
+        assertEquals(Set.of(author.getId()), captor.getValue().getUserIds());
+        assertEquals(NotificationMetadataEntityType.RECIPE, captor.getValue().getEntityType());
+        assertEquals(recipe.getId(), captor.getValue().getEntityId());
+        assertNotNull(event.getProcessedAt());
+        assertEquals(1, event.getAttempts());
+        verifyNoInteractions(reviewRepository);
+    }
+
+    @Test
+    void shouldNotifyReviewersButNotEditorOfRecipeUpdate() {
+        UUID reviewerId = UUID.randomUUID();
+        OutboxEvent event = event(OutboxEventType.RECIPE_UPDATED, author.getId(), recipe.getId());
+        ReviewRepository.RecipeReviewer reviewer = mock(ReviewRepository.RecipeReviewer.class);
+        when(reviewer.getRecipeId()).thenReturn(recipe.getId());
+        when(reviewer.getReviewerId()).thenReturn(reviewerId);
+        when(outboxEventRepository.findUnprocessed(any())).thenReturn(List.of(event));
+        when(outboxEventRepository.lockUnprocessedById(event.getId())).thenReturn(Optional.of(event));
+        when(recipeRepository.findAllById(any())).thenReturn(List.of(recipe));
+        when(reviewRepository.findReviewersByRecipeIdIn(Set.of(recipe.getId()))).thenReturn(List.of(reviewer));
+
+        relayService.relayBatch();
+
+        ArgumentCaptor<BroadcastRequest> captor = ArgumentCaptor.forClass(BroadcastRequest.class);
+        verify(notificationService).createNotifications(captor.capture());
+        assertEquals(Set.of(reviewerId), captor.getValue().getUserIds());
+    }
+
+    @Test
+    void shouldMarkEventForMissingRecipeProcessedWithError() {
+        OutboxEvent event = event(OutboxEventType.APPROVAL_RECORDED, UUID.randomUUID(), UUID.randomUUID());
+        when(outboxEventRepository.findUnprocessed(any())).thenReturn(List.of(event));
+        when(outboxEventRepository.lockUnprocessedById(event.getId())).thenReturn(Optional.of(event));
+        when(recipeRepository.findAllById(any())).thenReturn(List.of());
+
+        relayService.relayBatch();
+
+        assertNotNull(event.getProcessedAt());
+        assertNotNull(event.getLastError());
+        verify(notificationService, never()).createNotifications(any(BroadcastRequest.class));
+        verify(outboxEventRepository).save(event);
+    }
+
+    @Test
+    void shouldCommitOtherEventsWhenOneEventFails() {
+        Recipe other = Recipe.builder().id(UUID.randomUUID()).author(author).title("Bread").build();
+        OutboxEvent failing = event(OutboxEventType.REVIEW_SUBMITTED, UUID.randomUUID(), recipe.getId());
+        OutboxEvent afterRollback = copyOf(failing);
+        OutboxEvent relayed = event(OutboxEventType.REVIEW_SUBMITTED, UUID.randomUUID(), other.getId());
+        when(outboxEventRepository.findUnprocessed(any())).thenReturn(List.of(failing, relayed));
+        when(outboxEventRepository.lockUnprocessedById(failing.getId()))
+                .thenReturn(Optional.of(failing))
+                .thenReturn(Optional.of(afterRollback));
+        when(outboxEventRepository.lockUnprocessedById(relayed.getId())).thenReturn(Optional.of(relayed));
+        when(recipeRepository.findAllById(any())).thenReturn(List.of(recipe, other));
+        when(notificationService.createNotifications(any(BroadcastRequest.class)))
+                .thenThrow(new IllegalStateException("insert failed"))
+                .thenReturn(null);
+
+        assertEquals(2, relayService.relayBatch());
+
+        assertNull(afterRollback.getProcessedAt());
+        assertEquals(1, afterRollback.getAttempts());
+        assertNotNull(afterRollback.getLastError());
+        assertNotNull(relayed.getProcessedAt());
+        assertNull(relayed.getLastError());
+        verify(notificationService, times(2)).createNotifications(any(BroadcastRequest.class));
+        verify(transactionManager).rollback(any());
+        // the failure record and the relayed event
+        verify(transactionManager, times(2)).commit(any());
+        verify(outboxEventRepository).save(afterRollback);
+        verify(outboxEventRepository).save(relayed);
+    }
+
+    @Test
+    void shouldSkipEventTakenByAnotherRelay() {
+        OutboxEvent event = event(OutboxEventType.REVIEW_SUBMITTED, UUID.randomUUID(), recipe.getId());
+        when(outboxEventRepository.findUnprocessed(any())).thenReturn(List.of(event));
+        when(outboxEventRepository.lockUnprocessedById(event.getId())).thenReturn(Optional.empty());
+        when(recipeRepository.findAllById(any())).thenReturn(List.of(recipe));
+
+        assertEquals(0, relayService.relayBatch());
+
+        verify(notificationService, never()).createNotifications(any(BroadcastRequest.class));
+        verify(outboxEventRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldCloseEventThatKeepsFailingAfterMaxAttempts() {
+        outboxProperties.setMaxAttempts(3);
+        OutboxEvent event = event(OutboxEventType.REVIEW_SUBMITTED, UUID.randomUUID(), recipe.getId());
+        event.setAttempts(2);
+        OutboxEvent afterRollback = copyOf(event);
+        when(outboxEventRepository.findUnprocessed(any())).thenReturn(List.of(event));
+        when(outboxEventRepository.lockUnprocessedById(event.getId()))
+                .thenReturn(Optional.of(event))
+                .thenReturn(Optional.of(afterRollback));
+        when(recipeRepository.findAllById(any())).thenReturn(List.of(recipe));
+        when(notificationService.createNotifications(any(BroadcastRequest.class)))
+                .thenThrow(new IllegalStateException("insert failed"));
+
+        relayService.relayBatch();
+
+        assertEquals(3, afterRollback.getAttempts());
+        assertNotNull(afterRollback.getProcessedAt());
+        assertNotNull(afterRollback.getLastError());
+    }
+
+    private static OutboxEvent event(OutboxEventType type, UUID actorId, UUID recipeId) {
+        return OutboxEvent.builder()
+                .id(UUID.randomUUID())
+                .eventType(type)
+                .aggregateType(type.getAggregateType())
+                .aggregateId(recipeId)
+                .actorId(actorId)
+                .payload(type == OutboxEventType.APPROVAL_RECORDED ? "APPROVED" : null)
+                .build();
+    }
+
+    /** The row as the failure transaction reads it again, without the rolled-back attempt's changes. */
+    private static OutboxEvent copyOf(OutboxEvent event) {
+        return OutboxEvent.builder()
+                .id(event.getId())
+                .eventType(event.getEventType())
+                .aggregateType(event.getAggregateType())
+                .aggregateId(event.getAggregateId())
+                .actorId(event.getActorId())
+                .payload(event.getPayload())
+                .attempts(event.getAttempts())
+                .build();
+    }
+}
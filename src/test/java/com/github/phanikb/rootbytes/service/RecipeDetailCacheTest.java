@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.github.phanikb.rootbytes.common.Constants;
+import com.github.phanikb.rootbytes.config.CacheConfig;
+import com.github.phanikb.rootbytes.config.CacheSpecProperties;
+import com.github.phanikb.rootbytes.dto.v1.response.RecipeDetailResponse;
+import com.github.phanikb.rootbytes.exception.RecipeNotFoundException;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeDetailCacheTest {
+
+    @Mock
+    private RecipeService recipeService;
+
+    private RecipeDetailCache detailCache;
+    private UUID recipeId;
+
+    @BeforeEach
+    void setUp() {
+        CacheSpecProperties properties = new CacheSpecProperties();
+        properties.getSpecs().put(Constants.Cache.RECIPE_DETAIL, "maximumSize=10,expireAfterWrite=5m");
+        detailCache = new RecipeDetailCache(recipeService, new CacheConfig().cacheManager(properties));
+        recipeId = UUID.randomUUID();
+    }
+
+    @Test
+    void shouldServeCachedDetailWhileRecipeIsUnchanged() {
+        RecipeDetailResponse detail = detail(Instant.parse("2025-06-01T10:15:30Z"));
+        when(recipeService.getRecipeDetail(recipeId)).thenReturn(detail);
+        when(recipeService.isDetailCurrent(recipeId, detail)).thenReturn(true);
+
+        detailCache.getRecipeDetail(recipeId);
+
+        assertSame(detail, detailCache.getRecipeDetail(recipeId));
+        verify(recipeService, times(1)).getRecipeDetail(recipeId);
+    }
+
+    @Test
+    void shouldReloadDetailChangedOnAnotherNode() {
+        RecipeDetailResponse stale = detail(Instant.parse("2025-06-01T10:15:30Z"));
+        RecipeDetailResponse fresh = detail(Instant.parse("2025-06-01T11:00:00Z"));
+        when(recipeService.getRecipeDetail(recipeId)).thenReturn(stale).thenReturn(fresh);
+        when(recipeService.isDetailCurrent(recipeId, stale)).thenReturn(false);
+
+        detailCache.getRecipeDetail(recipeId);
+
+        assertSame(fresh, detailCache.getRecipeDetail(recipeId));
+    }
+
+    @Test
+    void shouldPropagateNotFoundForRecipeDeletedOnAnotherNode() {
+        RecipeDetailResponse stale = detail(Instant.parse("2025-06-01T10:15:30Z"));
+        when(recipeService.getRecipeDetail(recipeId))
+                .thenReturn(stale)
+                .thenThrow(new RecipeNotFoundException(recipeId));
+        when(recipeService.isDetailCurrent(recipeId, stale)).thenReturn(false);
+
+        detailCache.getRecipeDetail(recipeId);
+
+        assertThrows(RecipeNotFoundException.class, () -> detailCache.getRecipeDetail(recipeId));
+    }
+
+    private RecipeDetailResponse detail(Instant updatedAt) {
+        return RecipeDetailResponse.builder()
+                .id(recipeId)
+                .version(1)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
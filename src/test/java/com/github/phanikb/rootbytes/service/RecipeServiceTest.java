@@ -8,6 +8,7 @@ package com.github.phanikb.rootbytes.service;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -24,36 +25,48 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
+import com.github.phanikb.rootbytes.config.PaginationProperties;
 import com.github.phanikb.rootbytes.dto.v1.request.IngredientRequest;
 import com.github.phanikb.rootbytes.dto.v1.request.InstructionRequest;
 import com.github.phanikb.rootbytes.dto.v1.request.RecipeDietaryInfoRequest;
 import com.github.phanikb.rootbytes.dto.v1.request.RecipeRequest;
+import com.github.phanikb.rootbytes.dto.v1.response.CursorPageResponse;
+import com.github.phanikb.rootbytes.dto.v1.response.RecipeDetailResponse;
 import com.github.phanikb.rootbytes.entity.Ingredient;
 import com.github.phanikb.rootbytes.entity.Instruction;
 import com.github.phanikb.rootbytes.entity.Recipe;
 import com.github.phanikb.rootbytes.entity.Unit;
 import com.github.phanikb.rootbytes.entity.UserEntity;
+import com.github.phanikb.rootbytes.enums.OutboxEventType;
 import com.github.phanikb.rootbytes.enums.RecipeDifficulty;
 import com.github.phanikb.rootbytes.enums.RecipeStatus;
+import com.github.phanikb.rootbytes.exception.InvalidCursorException;
 import com.github.phanikb.rootbytes.exception.RecipeNotFoundException;
 import com.github.phanikb.rootbytes.exception.UnauthorizedAccessException;
 import com.github.phanikb.rootbytes.mapper.IngredientMapper;
 import com.github.phanikb.rootbytes.mapper.InstructionMapper;
+import com.github.phanikb.rootbytes.mapper.RecipeMapper;
 import com.github.phanikb.rootbytes.repository.RecipeRepository;
+import com.github.phanikb.rootbytes.repository.RecipeRepository.RecipeSummary;
 import com.github.phanikb.rootbytes.repository.UnitRepository;
+import com.github.phanikb.rootbytes.util.SeekCursor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -61,6 +74,8 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class RecipeServiceTest {
 
+    private static final ProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
     @Mock
     private RecipeRepository recipeRepository;
 
@@ -70,9 +85,21 @@ class RecipeServiceTest {
     @Mock
     private InstructionMapper instructionMapper;
 
+    @Mock
+    private RecipeMapper recipeMapper;
+
     @Mock
     private UnitRepository unitRepository;
 
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private RecipeFeedTotals recipeFeedTotals;
+
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties();
+
     @InjectMocks
     private RecipeService recipeService;
 
@@ -129,50 +156,32 @@ class RecipeServiceTest {
 
     @Test
     void shouldGetRecipeById() {
-        when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(recipe));
+        when(recipeRepository.findDetailById(recipeId)).thenReturn(Optional.of(recipe));
 
         Recipe result = recipeService.getRecipeById(recipeId);
 
         assertNotNull(result);
         assertEquals(recipeId, result.getId());
         assertEquals("Test Recipe", result.getTitle());
-        verify(recipeRepository).findById(recipeId);
+        verify(recipeRepository).findDetailById(recipeId);
     }
 
     @Test
-    void shouldThrowExceptionWhenRecipeNotFound() {
-        UUID nonExistentId = UUID.randomUUID();
-        when(recipeRepository.findById(nonExistentId)).thenReturn(Optional.empty());
-
-        assertThrows(RecipeNotFoundException.class, () -> recipeService.getRecipeById(nonExistentId));
-        verify(recipeRepository).findById(nonExistentId);
-    }
-
-    @Test
-    void shouldGetPublishedRecipes() {
-        Pageable pageable = PageRequest.of(0, 10);
-        Page<Recipe> recipePage = new PageImpl<>(List.of(recipe));
-        when(recipeRepository.findPublishedRecipes(RecipeStatus.PUBLISHED, author, pageable))
-                .thenReturn(recipePage);
-
-        Page<Recipe> result = recipeService.getPublishedRecipes(author, pageable);
+    void shouldMapRecipeDetailFromDetailGraph() {
+        RecipeDetailResponse detail = RecipeDetailResponse.builder().id(recipeId).build();
+        when(recipeRepository.findDetailById(recipeId)).thenReturn(Optional.of(recipe));
+        when(recipeMapper.toDetailResponse(recipe)).thenReturn(detail);
 
-        assertNotNull(result);
-        assertEquals(1, result.getTotalElements());
-        verify(recipeRepository).findPublishedRecipes(RecipeStatus.PUBLISHED, author, pageable);
+        assertEquals(detail, recipeService.getRecipeDetail(recipeId));
     }
 
     @Test
-    void shouldGetRecipesByLastName() {
-        Pageable pageable = PageRequest.of(0, 10);
-        Page<Recipe> recipePage = new PageImpl<>(List.of(recipe));
-        when(recipeRepository.findByLastName("Chef", pageable)).thenReturn(recipePage);
-
-        Page<Recipe> result = recipeService.getRecipesByLastName("Chef", pageable);
+    void shouldThrowExceptionWhenRecipeNotFound() {
+        UUID nonExistentId = UUID.randomUUID();
+        when(recipeRepository.findDetailById(nonExistentId)).thenReturn(Optional.empty());
 
-        assertNotNull(result);
-        assertEquals(1, result.getTotalElements());
-        verify(recipeRepository).findByLastName("Chef", pageable);
+        assertThrows(RecipeNotFoundException.class, () -> recipeService.getRecipeById(nonExistentId));
+        verify(recipeRepository).findDetailById(nonExistentId);
     }
 
     @Test
@@ -323,6 +332,7 @@ class RecipeServiceTest {
         assertNotNull(result);
         verify(recipeRepository).findById(recipeId);
         verify(recipeRepository).save(any(Recipe.class));
+        verify(outboxService).record(OutboxEventType.RECIPE_UPDATED, recipeId, author.getId(), null);
     }
 
     @Test
@@ -345,6 +355,7 @@ class RecipeServiceTest {
 
         verify(recipeRepository).findById(recipeId);
         verify(recipeRepository, never()).save(any(Recipe.class));
+        verify(outboxService, never()).record(any(), any(), any(), isNull());
     }
 
     @Test
@@ -443,4 +454,70 @@ class RecipeServiceTest {
         Set<ConstraintViolation<IngredientRequest>> violations = validator.validate(request);
         assertFalse(violations.isEmpty());
     }
+
+    @Test
+    void shouldReturnNextCursorWhenFeedHasMoreRows() {
+        List<RecipeSummary> rows = List.of(
+                summary(Instant.parse("2025-03-03T00:00:00Z")),
+                summary(Instant.parse("2025-03-02T00:00:00Z")),
+                summary(Instant.parse("2025-03-01T00:00:00Z")));
+        when(recipeRepository.findPublishedFeed(eq(RecipeStatus.PUBLISHED), eq(author), any(Pageable.class)))
+                .thenReturn(rows);
+
+        CursorPageResponse<RecipeSummary> page = recipeService.getPublishedRecipeFeed(author, null, 2, false);
+
+        assertEquals(2, page.getContent().size());
+        assertTrue(page.isHasNext());
+        RecipeSummary lastOnPage = rows.get(1);
+        assertEquals(
+                SeekCursor.of(lastOnPage.getPublishedAt(), lastOnPage.getId()),
+                SeekCursor.decode(page.getNextCursor()));
+        assertNull(page.getApproximateTotal());
+        verify(recipeRepository).findPublishedFeed(RecipeStatus.PUBLISHED, author, PageRequest.of(0, 3));
+    }
+
+    @Test
+    void shouldSeekPastCursorAndReportCachedTotal() {
+        SeekCursor cursor = SeekCursor.of(Instant.parse("2025-03-02T00:00:00Z"), UUID.randomUUID());
+        RecipeSummary last = summary(Instant.parse("2025-03-01T00:00:00Z"));
+        when(recipeRepository.findFamilyFeedAfter(
+                        eq(RecipeStatus.PUBLISHED),
+                        eq("Chef"),
+                        eq(cursor.publishedAt()),
+                        eq(cursor.id()),
+                        any(Pageable.class)))
+                .thenReturn(List.of(last));
+        when(recipeFeedTotals.familyTotal("Chef")).thenReturn(3L);
+
+        CursorPageResponse<RecipeSummary> page = recipeService.getFamilyRecipeFeed("Chef", cursor.encode(), 20, true);
+
+        assertEquals(List.of(last), page.getContent());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+        assertEquals(3L, page.getApproximateTotal());
+    }
+
+    @Test
+    void shouldClampFeedPageSizeToConfiguredMaximum() {
+        when(recipeRepository.findPublishedFeed(eq(RecipeStatus.PUBLISHED), eq(author), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        recipeService.getPublishedRecipeFeed(author, null, 1000, false);
+
+        verify(recipeRepository)
+                .findPublishedFeed(
+                        RecipeStatus.PUBLISHED, author, PageRequest.of(0, paginationProperties.getMaxPageSize() + 1));
+    }
+
+    @Test
+    void shouldRejectMalformedFeedCursor() {
+        assertThrows(
+                InvalidCursorException.class, () -> recipeService.getPublishedRecipeFeed(author, "garbage", 20, false));
+        verify(recipeRepository, never()).findPublishedFeed(any(), any(), any());
+    }
+
+    private static RecipeSummary summary(Instant publishedAt) {
+        return PROJECTIONS.createProjection(
+                RecipeSummary.class, Map.of("id", UUID.randomUUID(), "publishedAt", publishedAt));
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service.delivery;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.phanikb.rootbytes.config.NotificationEmailProperties;
+import com.github.phanikb.rootbytes.config.NotificationSmsProperties;
+import com.github.phanikb.rootbytes.enums.notification.NotificationChannel;
+import com.github.phanikb.rootbytes.enums.notification.NotificationType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmailChannelDispatcherTest {
+
+    private SmtpSinkServer sink;
+    private EmailChannelDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        sink = new SmtpSinkServer(0);
+        sink.start();
+        NotificationEmailProperties emailProperties = new NotificationEmailProperties();
+        emailProperties.setEnabled(true);
+        emailProperties.setPort(sink.getPort());
+        dispatcher = new EmailChannelDispatcher(
+                emailProperties, new DeliveryThrottle(emailProperties, new NotificationSmsProperties()));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        dispatcher.shutdown();
+        sink.stop();
+    }
+
+    @Test
+    void shouldRejectAddressesThatCouldInjectSmtpCommands() {
+        List<DeliveryResult> results = dispatcher.dispatch(List.of(
+                delivery("user@test.com>\r\nRCPT TO:<victim@test.com"),
+                delivery("user@test.com\nBcc: victim@test.com"),
+                delivery("not-an-address")));
+
+        assertEquals(3, results.size());
+        assertTrue(results.stream().noneMatch(DeliveryResult::successful));
+        assertEquals("Invalid email address", results.getFirst().errorMessage());
+        assertEquals(0, sink.getReceivedCount());
+    }
+
+    @Test
+    void shouldSendValidAddress() {
+        List<DeliveryResult> results = dispatcher.dispatch(List.of(delivery("user@test.com")));
+
+        assertTrue(results.getFirst().successful());
+        assertEquals(1, sink.getReceivedCount());
+    }
+
+    @Test
+    void shouldAcceptOnlySingleLineAddresses() {
+        assertTrue(EmailChannelDispatcher.isDeliverableAddress("first.last+tag@sub.test.com"));
+        assertFalse(EmailChannelDispatcher.isDeliverableAddress("user @test.com"));
+        assertFalse(EmailChannelDispatcher.isDeliverableAddress("@test.com"));
+        assertFalse(EmailChannelDispatcher.isDeliverableAddress("user@"));
+    }
+
+    private static NotificationDelivery delivery(String recipient) {
+        return new NotificationDelivery(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                NotificationChannel.EMAIL,
+                NotificationType.ACCOUNT_ACTIVATED,
+                recipient,
+                "Crème brûlée is ready",
+                "Your recipe got a new comment.",
+                null);
+    }
+}
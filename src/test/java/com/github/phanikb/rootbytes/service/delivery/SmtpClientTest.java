@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service.delivery;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SmtpClientTest {
+
+    private SmtpSinkServer sink;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        sink = new SmtpSinkServer(0);
+        sink.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        sink.stop();
+    }
+
+    @Test
+    void shouldSendPipelinedBatch() {
+        SmtpClient client = new SmtpClient("localhost", sink.getPort(), 5000, true);
+
+        List<DeliveryResult> results = client.send("no-reply@rootbytes.local", messages(25));
+
+        assertEquals(25, results.size());
+        assertTrue(results.stream().allMatch(DeliveryResult::successful));
+        assertEquals(25, sink.getReceivedCount());
+    }
+
+    @Test
+    void shouldSendSequentiallyWhenPipeliningDisabled() {
+        SmtpClient client = new SmtpClient("localhost", sink.getPort(), 5000, false);
+
+        List<DeliveryResult> results = client.send("no-reply@rootbytes.local", messages(3));
+
+        assertTrue(results.stream().allMatch(DeliveryResult::successful));
+        assertEquals(3, sink.getReceivedCount());
+    }
+
+    @Test
+    void shouldFailAllMessagesWhenServerUnavailable() throws IOException {
+        int port = sink.getPort();
+        sink.stop();
+        SmtpClient client = new SmtpClient("localhost", port, 1000, true);
+
+        List<DeliveryResult> results = client.send("no-reply@rootbytes.local", messages(2));
+
+        assertEquals(2, results.size());
+        assertFalse(results.getFirst().successful());
+    }
+
+    private static List<SmtpClient.Message> messages(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new SmtpClient.Message(
+                        UUID.randomUUID(), "user" + i + "@test.com", "Subject: Test\r\n\r\n.leading dot\r\nbody"))
+                .toList();
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.service.delivery;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TokenBucketTest {
+
+    private AtomicLong nanos;
+    private TokenBucket bucket;
+
+    @BeforeEach
+    void setUp() {
+        nanos = new AtomicLong();
+        bucket = new TokenBucket(10, 5, nanos::get);
+    }
+
+    @Test
+    void shouldGrantUpToBurstThenRefillAtRate() {
+        assertEquals(5, bucket.tryAcquireUpTo(8));
+        assertEquals(0, bucket.tryAcquireUpTo(1));
+
+        nanos.addAndGet(Duration.ofMillis(300).toNanos());
+
+        assertEquals(3, bucket.tryAcquireUpTo(8));
+    }
+
+    @Test
+    void shouldNeverRefillBeyondBurst() {
+        nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        assertEquals(5, bucket.tryAcquireUpTo(100));
+    }
+
+    @Test
+    void shouldReportWaitUntilNextToken() {
+        bucket.tryAcquireUpTo(5);
+
+        assertEquals(Duration.ofMillis(100), bucket.timeUntilAvailable());
+
+        bucket.refund(2);
+        assertEquals(Duration.ZERO, bucket.timeUntilAvailable());
+        assertEquals(2, bucket.tryAcquireUpTo(5));
+    }
+}
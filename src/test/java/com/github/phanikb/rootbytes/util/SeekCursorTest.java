@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (C) 2025 RootBytes. All Rights Reserved.
+ * Author: Phani K
+ */
+
+package com.github.phanikb.rootbytes.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.phanikb.rootbytes.exception.InvalidCursorException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SeekCursorTest {
+
+    @Test
+    void shouldRoundTripThroughOpaqueToken() {
+        SeekCursor cursor = SeekCursor.of(Instant.parse("2025-03-01T10:15:30.123Z"), UUID.randomUUID());
+
+        String token = cursor.encode();
+
+        assertFalse(token.contains("|"));
+        assertEquals(cursor, SeekCursor.decode(token));
+    }
+
+    @Test
+    void shouldKeepSubMillisecondPrecision() {
+        SeekCursor cursor = SeekCursor.of(Instant.parse("2025-03-01T10:15:30.123456789Z"), UUID.randomUUID());
+
+        SeekCursor decoded = SeekCursor.decode(cursor.encode());
+
+        assertNotNull(decoded);
+        assertEquals(cursor.publishedAt(), decoded.publishedAt());
+    }
+
+    @Test
+    void shouldTreatMissingTokenAsFirstPage() {
+        assertNull(SeekCursor.decode(null));
+        assertNull(SeekCursor.decode("  "));
+    }
+
+    @Test
+    void shouldRejectMalformedTokens() {
+        String noSeparator = encode("2025-03-01T10:15:30Z");
+        String badId = encode("2025-03-01T10:15:30Z|not-a-uuid");
+        String badTime = encode("yesterday|" + UUID.randomUUID());
+
+        assertThrows(InvalidCursorException.class, () -> SeekCursor.decode("%%%"));
+        assertThrows(InvalidCursorException.class, () -> SeekCursor.decode(noSeparator));
+        assertThrows(InvalidCursorException.class, () -> SeekCursor.decode(badId));
+        assertThrows(InvalidCursorException.class, () -> SeekCursor.decode(badTime));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}